@@ -0,0 +1,60 @@
+package org.turkcell.benchmarks;
+
+import application.dto.BookResponse;
+import domain.model.Book;
+import infrastructure.persistence.entity.BookEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-item cost of the book-service mappers:
+ * BookEntity.fromDomain / toDomain and BookResponse.fromDomain.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class BookMappingBenchmark {
+
+    private Book book;
+    private BookEntity entity;
+
+    @Setup
+    public void setUp() {
+        book = Fixtures.book(new Random(42));
+        entity = BookEntity.fromDomain(book);
+    }
+
+    @Benchmark
+    public BookEntity domainToEntity() {
+        return BookEntity.fromDomain(book);
+    }
+
+    @Benchmark
+    public Book entityToDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public BookResponse domainToResponse() {
+        return BookResponse.fromDomain(book);
+    }
+
+    @Benchmark
+    public BookResponse entityToResponse() {
+        return BookResponse.fromDomain(entity.toDomain());
+    }
+}
@@ -0,0 +1,120 @@
+package org.turkcell.benchmarks;
+
+import application.search.BookSearchIndex;
+import domain.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the in-memory book search index over a large catalogue.
+ * Titles, authors and descriptions are drawn from a skewed vocabulary so that
+ * common words match a large share of the books and rare words only a few.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class BookSearchBenchmark {
+
+    private static final String[] SYLLABLES = {
+            "an", "bel", "cor", "da", "el", "fin", "gar", "hol", "in", "ka",
+            "lor", "mi", "nor", "os", "pen", "ra", "sil", "tor", "ul", "ver"};
+
+    @Param({"1000000"})
+    private int books;
+
+    private String[] vocabulary;
+    private BookSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vocabulary = new String[20_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = word(i);
+        }
+        index = new BookSearchIndex();
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < books; i++) {
+            index.index(Book.restore(new UUID(random.nextLong(), random.nextLong()),
+                    words(random, 2 + random.nextInt(4)),
+                    words(random, 2),
+                    "978" + (1_000_000_000L + random.nextInt(999_999_999)),
+                    1900 + random.nextInt(125),
+                    words(random, 10 + random.nextInt(20)),
+                    createdAt, createdAt, 0L));
+        }
+    }
+
+    // Two mid-frequency terms: intersection driven by the rarer list
+    @Benchmark
+    public BookSearchIndex.Hits searchTwoTerms() {
+        return index.search(vocabulary[40] + " " + vocabulary[300], 0, 20);
+    }
+
+    // The most common word: scores every book containing it
+    @Benchmark
+    public BookSearchIndex.Hits searchCommonTerm() {
+        return index.search(vocabulary[0], 0, 20);
+    }
+
+    @Benchmark
+    public BookSearchIndex.Hits searchRareTerm() {
+        return index.search(vocabulary[15_000], 0, 20);
+    }
+
+    // Two-letter prefix: the widest completion subtree
+    @Benchmark
+    public List<String> suggestShortPrefix() {
+        return index.suggest("ve", 10);
+    }
+
+    @Benchmark
+    public List<String> suggestAfterFirstWord() {
+        return index.suggest(vocabulary[40] + " cor", 10);
+    }
+
+    private String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(vocabulary[zipf(random)]);
+        }
+        return text.toString();
+    }
+
+    // Roughly Zipf-distributed rank: small ranks are far more frequent
+    private int zipf(Random random) {
+        double u = random.nextDouble();
+        return Math.min(vocabulary.length - 1, (int) Math.pow(vocabulary.length, u) - 1);
+    }
+
+    private static String word(int rank) {
+        StringBuilder word = new StringBuilder();
+        int value = rank;
+        do {
+            word.append(SYLLABLES[value % SYLLABLES.length]);
+            value /= SYLLABLES.length;
+        } while (value > 0);
+        return word.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package org.turkcell.benchmarks;
+
+import domain.model.Book;
+import infrastructure.persistence.entity.BookEntity;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.infrastructure.persistence.entity.LoanEntity;
+import org.turkcell.loanservice.infrastructure.persistence.repository.LoanEntityMappers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic input data shared by the benchmarks.
+ */
+final class Fixtures {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDateTime BASE_TIME = BASE_DATE.atStartOfDay();
+
+    private Fixtures() {
+    }
+
+    static Loan loan(Random random) {
+        LocalDate loanDate = BASE_DATE.plusDays(random.nextInt(365));
+        Loan loan = new Loan(new UUID(random.nextLong(), random.nextLong()),
+                new UUID(random.nextLong(), random.nextLong()), loanDate, loanDate.plusDays(14));
+        loan.setVersion((long) random.nextInt(5));
+        if (random.nextInt(4) == 0) {
+            loan.returnLoan(loanDate.plusDays(random.nextInt(30)));
+            loan.setPenaltyAmount(BigDecimal.valueOf(random.nextInt(5000), 2));
+        }
+        return loan;
+    }
+
+    static List<LoanEntity> loanEntities(int size) {
+        Random random = new Random(42);
+        List<LoanEntity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(LoanEntityMappers.toEntity(loan(random)));
+        }
+        return entities;
+    }
+
+    static Book book(Random random) {
+        LocalDateTime createdAt = BASE_TIME.plusMinutes(random.nextInt(500_000));
+        return Book.restore(new UUID(random.nextLong(), random.nextLong()),
+                "Title " + random.nextInt(1_000_000),
+                "Author " + random.nextInt(10_000),
+                "978" + (1_000_000_000L + random.nextInt(999_999_999)),
+                1900 + random.nextInt(125),
+                "Description of a book that is long enough to look like real catalogue data " + random.nextInt(),
+                createdAt, createdAt.plusDays(random.nextInt(100)), (long) random.nextInt(5));
+    }
+
+    static List<BookEntity> bookEntities(int size) {
+        Random random = new Random(42);
+        List<BookEntity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(BookEntity.fromDomain(book(random)));
+        }
+        return entities;
+    }
+}
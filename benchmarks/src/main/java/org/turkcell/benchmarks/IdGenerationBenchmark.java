@@ -0,0 +1,56 @@
+package org.turkcell.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.turkcell.loanservice.domain.model.IdGenerator;
+import org.turkcell.loanservice.domain.model.UuidV7Generator;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of generating a primary key: UUID.randomUUID() (v4) against the shared UuidV7Generator,
+ * single-threaded and with 8 threads hitting the same generator.
+ * Insert throughput and index size are measured against PostgreSQL by loan-service's IdInsertBenchmarkTest.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    private final IdGenerator v4 = IdGenerator.RANDOM;
+    private final IdGenerator v7 = new UuidV7Generator();
+
+    @Benchmark
+    public UUID randomV4() {
+        return v4.next();
+    }
+
+    @Benchmark
+    public UUID timeOrderedV7() {
+        return v7.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID randomV4Contended() {
+        return v4.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public UUID timeOrderedV7Contended() {
+        return v7.next();
+    }
+}
@@ -0,0 +1,100 @@
+package org.turkcell.benchmarks;
+
+import application.dto.BookResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import infrastructure.persistence.entity.BookEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.service.LoanResponseMappers;
+import org.turkcell.loanservice.infrastructure.persistence.entity.LoanEntity;
+import org.turkcell.loanservice.infrastructure.persistence.repository.LoanEntityMappers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of a list response: entities are mapped to domain objects, then to response DTOs,
+ * then serialized with Jackson the same way Spring MVC does. The *Only variants serialize
+ * prepared responses, so mapping and serialization cost can be told apart.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class ListSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    // Matches Spring Boot's default ObjectMapper for dates
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private List<LoanEntity> loanEntities;
+    private List<BookEntity> bookEntities;
+    private List<LoanResponse> loanResponses;
+    private List<BookResponse> bookResponses;
+
+    @Setup
+    public void setUp() {
+        loanEntities = Fixtures.loanEntities(size);
+        bookEntities = Fixtures.bookEntities(size);
+        loanResponses = mapLoans(loanEntities);
+        bookResponses = mapBooks(bookEntities);
+    }
+
+    @Benchmark
+    public byte[] loans() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapLoans(loanEntities));
+    }
+
+    @Benchmark
+    public byte[] loansSerializationOnly() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(loanResponses);
+    }
+
+    @Benchmark
+    public byte[] books() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapBooks(bookEntities));
+    }
+
+    @Benchmark
+    public byte[] booksSerializationOnly() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookResponses);
+    }
+
+    private static List<LoanResponse> mapLoans(List<LoanEntity> entities) {
+        List<LoanResponse> responses = new ArrayList<>(entities.size());
+        for (LoanEntity entity : entities) {
+            responses.add(LoanResponseMappers.toResponse(LoanEntityMappers.toDomain(entity)));
+        }
+        return responses;
+    }
+
+    private static List<BookResponse> mapBooks(List<BookEntity> entities) {
+        List<BookResponse> responses = new ArrayList<>(entities.size());
+        for (BookEntity entity : entities) {
+            responses.add(BookResponse.fromDomain(entity.toDomain()));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,62 @@
+package org.turkcell.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.service.LoanResponseMappers;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.infrastructure.persistence.entity.LoanEntity;
+import org.turkcell.loanservice.infrastructure.persistence.repository.LoanEntityMappers;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-item cost of the loan-service mappers:
+ * LoanRepositoryImpl.mapToEntity / mapToDomain and LoanService.mapToResponse.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class LoanMappingBenchmark {
+
+    private Loan loan;
+    private LoanEntity entity;
+
+    @Setup
+    public void setUp() {
+        loan = Fixtures.loan(new Random(42));
+        entity = LoanEntityMappers.toEntity(loan);
+    }
+
+    @Benchmark
+    public LoanEntity domainToEntity() {
+        return LoanEntityMappers.toEntity(loan);
+    }
+
+    @Benchmark
+    public Loan entityToDomain() {
+        return LoanEntityMappers.toDomain(entity);
+    }
+
+    @Benchmark
+    public LoanResponse domainToResponse() {
+        return LoanResponseMappers.toResponse(loan);
+    }
+
+    @Benchmark
+    public LoanResponse entityToResponse() {
+        return LoanResponseMappers.toResponse(LoanEntityMappers.toDomain(entity));
+    }
+}
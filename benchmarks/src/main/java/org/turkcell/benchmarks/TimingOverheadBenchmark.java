@@ -0,0 +1,87 @@
+package org.turkcell.benchmarks;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.turkcell.loanservice.infrastructure.metrics.TimingInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the service/repository timers (loan-service TimingInterceptor on a Prometheus registry).
+ * Service and repository beans are already proxied for @Transactional, so the overhead to read is
+ * {@code timed - proxied}; {@code direct} shows the cost of the proxy itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class TimingOverheadBenchmark {
+
+    public interface Operation {
+        long apply(long value);
+    }
+
+    public static class Target implements Operation {
+        @Override
+        public long apply(long value) {
+            return value * 31 + 7;
+        }
+    }
+
+    private Operation direct;
+    private Operation proxied;
+    private Operation timed;
+    private long value;
+
+    @Setup
+    public void setUp() {
+        direct = new Target();
+        proxied = proxy(invocation -> invocation.proceed());
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        timed = proxy(new TimingInterceptor("benchmark.operation", () -> registry));
+        value = 42;
+    }
+
+    private static Operation proxy(MethodInterceptor interceptor) {
+        ProxyFactory factory = new ProxyFactory(new Target());
+        factory.addAdvice(interceptor);
+        return (Operation) factory.getProxy();
+    }
+
+    @Benchmark
+    public long direct() {
+        return direct.apply(value);
+    }
+
+    @Benchmark
+    public long proxied() {
+        return proxied.apply(value);
+    }
+
+    @Benchmark
+    public long timed() {
+        return timed.apply(value);
+    }
+
+    // Same timer updated from many threads: histogram buckets and counters are contended
+    @Benchmark
+    @Threads(8)
+    public long timedContended() {
+        return timed.apply(value);
+    }
+}
@@ -0,0 +1,20 @@
+package org.turkcell.loanservice.application.service;
+
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.domain.model.Loan;
+
+/**
+ * Exposes the package-private LoanService response mapper to the benchmarks.
+ */
+public final class LoanResponseMappers {
+
+    // mapToResponse does not use any of the collaborators
+    private static final LoanService SERVICE = new LoanService(null, null, null, null, null, null, null);
+
+    private LoanResponseMappers() {
+    }
+
+    public static LoanResponse toResponse(Loan loan) {
+        return SERVICE.mapToResponse(loan);
+    }
+}
@@ -0,0 +1,24 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.infrastructure.persistence.entity.LoanEntity;
+
+/**
+ * Exposes the package-private LoanRepositoryImpl mappers to the benchmarks.
+ */
+public final class LoanEntityMappers {
+
+    // The mappers do not touch the JPA repository
+    private static final LoanRepositoryImpl REPOSITORY = new LoanRepositoryImpl(null, null, null);
+
+    private LoanEntityMappers() {
+    }
+
+    public static LoanEntity toEntity(Loan loan) {
+        return REPOSITORY.mapToEntity(loan);
+    }
+
+    public static Loan toDomain(LoanEntity entity) {
+        return REPOSITORY.mapToDomain(entity);
+    }
+}
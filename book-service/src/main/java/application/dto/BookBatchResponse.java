@@ -0,0 +1,25 @@
+package application.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class BookBatchResponse {
+    // Found books keyed by id, in request order
+    private Map<String, BookResponse> books;
+    // Requested ids with no book
+    private List<String> missing;
+
+    public BookBatchResponse() {
+    }
+
+    public BookBatchResponse(Map<String, BookResponse> books, List<String> missing) {
+        this.books = books;
+        this.missing = missing;
+    }
+
+    // Getters and Setters
+    public Map<String, BookResponse> getBooks() { return books; }
+    public void setBooks(Map<String, BookResponse> books) { this.books = books; }
+    public List<String> getMissing() { return missing; }
+    public void setMissing(List<String> missing) { this.missing = missing; }
+}
@@ -0,0 +1,99 @@
+package application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BookImportReport {
+    private String id;
+    private String format;
+    // RUNNING, COMPLETED or FAILED
+    private String status;
+    // Why a FAILED import stopped; rows written before that stay imported
+    private String message;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long rowsRead;
+    private long imported;
+    // Rows whose ISBN appeared earlier in the same upload
+    private long duplicates;
+    // Rows whose ISBN is already used by a stored book
+    private long alreadyExisting;
+    private long invalid;
+    // Rows that were valid but could not be written
+    private long failed;
+    // Only the first errors are listed, the counters above cover every row
+    private List<RowError> errors;
+
+    public BookImportReport() {
+    }
+
+    public BookImportReport(String id, String format, String status, String message,
+                            LocalDateTime startedAt, LocalDateTime finishedAt,
+                            long rowsRead, long imported, long duplicates, long alreadyExisting,
+                            long invalid, long failed, List<RowError> errors) {
+        this.id = id;
+        this.format = format;
+        this.status = status;
+        this.message = message;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.rowsRead = rowsRead;
+        this.imported = imported;
+        this.duplicates = duplicates;
+        this.alreadyExisting = alreadyExisting;
+        this.invalid = invalid;
+        this.failed = failed;
+        this.errors = errors;
+    }
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+    public String getFormat() { return format; }
+    public void setFormat(String format) { this.format = format; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+    public long getRowsRead() { return rowsRead; }
+    public void setRowsRead(long rowsRead) { this.rowsRead = rowsRead; }
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+    public long getDuplicates() { return duplicates; }
+    public void setDuplicates(long duplicates) { this.duplicates = duplicates; }
+    public long getAlreadyExisting() { return alreadyExisting; }
+    public void setAlreadyExisting(long alreadyExisting) { this.alreadyExisting = alreadyExisting; }
+    public long getInvalid() { return invalid; }
+    public void setInvalid(long invalid) { this.invalid = invalid; }
+    public long getFailed() { return failed; }
+    public void setFailed(long failed) { this.failed = failed; }
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    public static class RowError {
+        // Line of the upload where the record starts
+        private long line;
+        private String isbn;
+        private String message;
+
+        public RowError() {
+        }
+
+        public RowError(long line, String isbn, String message) {
+            this.line = line;
+            this.isbn = isbn;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+        public String getIsbn() { return isbn; }
+        public void setIsbn(String isbn) { this.isbn = isbn; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
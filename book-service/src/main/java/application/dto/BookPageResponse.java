@@ -0,0 +1,29 @@
+package application.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class BookPageResponse {
+    // Books on this page, each holding only the requested fields
+    private List<Map<String, Object>> items;
+    // Pass as cursor to get the next page; null on the last page
+    private String nextCursor;
+    private boolean hasNext;
+
+    public BookPageResponse() {
+    }
+
+    public BookPageResponse(List<Map<String, Object>> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<Map<String, Object>> getItems() { return items; }
+    public void setItems(List<Map<String, Object>> items) { this.items = items; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+}
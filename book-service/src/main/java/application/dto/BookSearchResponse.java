@@ -0,0 +1,36 @@
+package application.dto;
+
+import java.util.List;
+
+public class BookSearchResponse {
+    // Best match first
+    private List<BookResponse> items;
+    // Number of books matching every query term
+    private long totalHits;
+    private int page;
+    private int size;
+    private boolean hasNext;
+
+    public BookSearchResponse() {
+    }
+
+    public BookSearchResponse(List<BookResponse> items, long totalHits, int page, int size, boolean hasNext) {
+        this.items = items;
+        this.totalHits = totalHits;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    // Getters and Setters
+    public List<BookResponse> getItems() { return items; }
+    public void setItems(List<BookResponse> items) { this.items = items; }
+    public long getTotalHits() { return totalHits; }
+    public void setTotalHits(long totalHits) { this.totalHits = totalHits; }
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+}
@@ -0,0 +1,20 @@
+package application.importing;
+
+import java.util.Locale;
+
+public enum BookImportFormat {
+    // Header row with title, author, isbn, publishedYear and optional description columns
+    CSV,
+    // One JSON object per line with the same field names
+    JSON_LINES;
+
+    public static BookImportFormat fromContentType(String contentType) {
+        String type = contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase(Locale.ROOT);
+        return switch (type) {
+            case "text/csv" -> CSV;
+            case "application/x-ndjson", "application/jsonl", "application/json-lines" -> JSON_LINES;
+            default -> throw new IllegalArgumentException(
+                    "Unsupported import content type " + contentType + ", use text/csv or application/x-ndjson");
+        };
+    }
+}
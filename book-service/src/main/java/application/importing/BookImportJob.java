@@ -0,0 +1,108 @@
+package application.importing;
+
+import application.dto.BookImportReport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Progress of one import, updated by the reader and the chunk workers and readable while it runs.
+ * Only the first MAX_REPORTED_ERRORS row errors are kept, so a bad upload cannot fill the heap.
+ */
+final class BookImportJob {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private enum Status { RUNNING, COMPLETED, FAILED }
+
+    private final UUID id = UUID.randomUUID();
+    private final BookImportFormat format;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private volatile LocalDateTime finishedAt;
+    private volatile Status status = Status.RUNNING;
+    private volatile String message;
+
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder imported = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder alreadyExisting = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private final AtomicInteger reportedErrors = new AtomicInteger();
+    private final ConcurrentLinkedQueue<BookImportReport.RowError> errors = new ConcurrentLinkedQueue<>();
+
+    BookImportJob(BookImportFormat format) {
+        this.format = format;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    void rowRead() {
+        rowsRead.increment();
+    }
+
+    void imported(int rows) {
+        imported.add(rows);
+    }
+
+    void duplicate(long line, String isbn) {
+        duplicates.increment();
+        error(line, isbn, "ISBN appears more than once in the upload");
+    }
+
+    void alreadyExisting(long line, String isbn) {
+        alreadyExisting.increment();
+        error(line, isbn, "Book with ISBN " + isbn + " already exists");
+    }
+
+    void invalid(long line, String message) {
+        invalid.increment();
+        error(line, null, message);
+    }
+
+    void failed(long line, String isbn, String message) {
+        failed.increment();
+        error(line, isbn, message);
+    }
+
+    void complete() {
+        finish(Status.COMPLETED, null);
+    }
+
+    void fail(String message) {
+        finish(Status.FAILED, message);
+    }
+
+    boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    BookImportReport report() {
+        List<BookImportReport.RowError> sorted = new ArrayList<>(errors);
+        sorted.sort(Comparator.comparingLong(BookImportReport.RowError::getLine));
+        return new BookImportReport(id.toString(), format.name(), status.name(), message, startedAt, finishedAt,
+                rowsRead.sum(), imported.sum(), duplicates.sum(), alreadyExisting.sum(),
+                invalid.sum(), failed.sum(), sorted);
+    }
+
+    private void finish(Status status, String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    private void error(long line, String isbn, String message) {
+        if (reportedErrors.getAndIncrement() < MAX_REPORTED_ERRORS) {
+            errors.add(new BookImportReport.RowError(line, isbn, message));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package application.importing;
+
+import application.dto.BookImportReport;
+import application.search.BookSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domain.model.Book;
+import domain.repository.BookRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk catalog import for partner uploads.
+ *
+ * The upload is read as a stream and cut into chunks of raw records; parsing, validation and writing of
+ * a chunk run on a worker pool while the next chunk is read. At most two chunks per worker are in memory.
+ * ISBNs are de-duplicated within the upload in memory and against the database with one IN query per chunk.
+ * Each chunk is written in its own transaction as a JDBC batch, so a failure only loses that chunk.
+ */
+@Service
+public class BookImportService {
+    private static final Logger log = LoggerFactory.getLogger(BookImportService.class);
+
+    // Finished imports kept for the progress endpoint
+    private static final int MAX_TRACKED_IMPORTS = 20;
+
+    private final BookRepository bookRepository;
+    private final BookSearchIndex searchIndex;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int parallelism;
+    private final ExecutorService workers;
+
+    private final Map<UUID, BookImportJob> jobs = new LinkedHashMap<>();
+
+    public BookImportService(BookRepository bookRepository, BookSearchIndex searchIndex, ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${book.import.batch-size:1000}") int batchSize,
+                             @Value("${book.import.parallelism:4}") int parallelism) {
+        this.bookRepository = bookRepository;
+        this.searchIndex = searchIndex;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        AtomicInteger threads = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "book-import-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Imports every valid row of the upload and returns when all of them are written.
+     * Progress can be followed from another request with getImport / listImports.
+     * @throws IllegalArgumentException if the CSV header is missing or lacks a required column
+     */
+    public BookImportReport importBooks(InputStream input, BookImportFormat format) throws IOException {
+        RecordReader records = new RecordReader(new InputStreamReader(input, StandardCharsets.UTF_8),
+                format == BookImportFormat.CSV);
+        RowParser parser;
+        if (format == BookImportFormat.CSV) {
+            RecordReader.RawRecord header = records.next();
+            parser = CsvRowParser.fromHeader(header == null ? null : header.text());
+        } else {
+            parser = new JsonRowParser(objectMapper);
+        }
+
+        BookImportJob job = track(new BookImportJob(format));
+        Set<String> seenIsbns = ConcurrentHashMap.newKeySet();
+        int maxInFlight = parallelism * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long started = System.nanoTime();
+        try {
+            List<RecordReader.RawRecord> chunk = new ArrayList<>(batchSize);
+            RecordReader.RawRecord record;
+            while ((record = records.next()) != null) {
+                job.rowRead();
+                chunk.add(record);
+                if (chunk.size() == batchSize) {
+                    submit(job, parser, chunk, seenIsbns, inFlight);
+                    chunk = new ArrayList<>(batchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                submit(job, parser, chunk, seenIsbns, inFlight);
+            }
+            awaitChunks(inFlight, maxInFlight);
+            job.complete();
+        } catch (IOException | RuntimeException e) {
+            // Chunks already handed to workers are finished before the import is reported as failed
+            awaitChunks(inFlight, maxInFlight);
+            job.fail(e.getMessage());
+            log.warn("Book import {} stopped: {}", job.id(), e.getMessage());
+        }
+
+        BookImportReport report = job.report();
+        log.info("Book import {} {}: {} rows read, {} imported, {} duplicates, {} existing, {} invalid, {} failed in {} ms",
+                report.getId(), report.getStatus(), report.getRowsRead(), report.getImported(), report.getDuplicates(),
+                report.getAlreadyExisting(), report.getInvalid(), report.getFailed(),
+                (System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    public Optional<BookImportReport> getImport(UUID id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id)).map(BookImportJob::report);
+        }
+    }
+
+    // Running and recently finished imports, oldest first
+    public List<BookImportReport> listImports() {
+        synchronized (jobs) {
+            return jobs.values().stream().map(BookImportJob::report).toList();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private BookImportJob track(BookImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.id(), job);
+            jobs.values().removeIf(tracked -> jobs.size() > MAX_TRACKED_IMPORTS && !tracked.isRunning());
+        }
+        return job;
+    }
+
+    // Blocks the reader while too many chunks are waiting, so memory stays bounded however large the upload is
+    private void submit(BookImportJob job, RowParser parser, List<RecordReader.RawRecord> chunk,
+                        Set<String> seenIsbns, Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    processChunk(job, parser, chunk, seenIsbns);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw new IllegalStateException("Import workers are shut down", e);
+        }
+    }
+
+    private static void awaitChunks(Semaphore inFlight, int maxInFlight) {
+        inFlight.acquireUninterruptibly(maxInFlight);
+        inFlight.release(maxInFlight);
+    }
+
+    private void processChunk(BookImportJob job, RowParser parser, List<RecordReader.RawRecord> chunk,
+                              Set<String> seenIsbns) {
+        List<ImportedBook> books = new ArrayList<>(chunk.size());
+        for (RecordReader.RawRecord record : chunk) {
+            Book book;
+            try {
+                book = parser.parse(record.text()).toBook();
+            } catch (IllegalArgumentException e) {
+                job.invalid(record.line(), e.getMessage());
+                continue;
+            }
+            if (!seenIsbns.add(book.getIsbn())) {
+                job.duplicate(record.line(), book.getIsbn());
+                continue;
+            }
+            books.add(new ImportedBook(record.line(), book));
+        }
+        if (!books.isEmpty()) {
+            write(job, books, true);
+        }
+    }
+
+    private void write(BookImportJob job, List<ImportedBook> books, boolean retryOnConflict) {
+        List<String> isbns = books.stream().map(imported -> imported.book().getIsbn()).toList();
+        List<Book> inserted = new ArrayList<>(books.size());
+        Set<String> existing;
+        try {
+            existing = transactionTemplate.execute(status -> {
+                Set<String> stored = bookRepository.findExistingIsbns(isbns);
+                for (ImportedBook imported : books) {
+                    if (!stored.contains(imported.book().getIsbn())) {
+                        inserted.add(imported.book());
+                    }
+                }
+                bookRepository.insertAll(inserted);
+                return stored;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // A book with one of these ISBNs was created concurrently; check again once
+            if (retryOnConflict) {
+                write(job, books, false);
+            } else {
+                books.forEach(imported -> job.failed(imported.line(), imported.book().getIsbn(),
+                        "Could not be saved: " + e.getMostSpecificCause().getMessage()));
+            }
+            return;
+        } catch (RuntimeException e) {
+            log.warn("Book import {} could not save {} rows", job.id(), books.size(), e);
+            books.forEach(imported -> job.failed(imported.line(), imported.book().getIsbn(),
+                    "Could not be saved: " + e.getMessage()));
+            return;
+        }
+
+        for (ImportedBook imported : books) {
+            if (existing.contains(imported.book().getIsbn())) {
+                job.alreadyExisting(imported.line(), imported.book().getIsbn());
+            }
+        }
+        job.imported(inserted.size());
+        // Committed at this point
+        inserted.forEach(searchIndex::index);
+    }
+
+    private record ImportedBook(long line, Book book) {
+    }
+}
@@ -0,0 +1,49 @@
+package application.importing;
+
+import domain.model.Book;
+
+/**
+ * One parsed import record, before validation
+ */
+record BookRow(String title, String author, String isbn, String publishedYear, String description) {
+
+    // Column sizes of the books table
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    /**
+     * Applies the same rules as CreateBookRequest
+     * @throws IllegalArgumentException with a message for the row report
+     */
+    Book toBook() {
+        String isbn = required(this.isbn, "ISBN");
+        String title = required(this.title, "Title");
+        String author = required(this.author, "Author");
+        String year = required(this.publishedYear, "Published year");
+        int publishedYear;
+        try {
+            publishedYear = Integer.parseInt(year);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid year: " + year);
+        }
+        if (publishedYear < 1000 || publishedYear > 9999) {
+            throw new IllegalArgumentException("Invalid year: " + year);
+        }
+        String description = this.description == null || this.description.isBlank() ? null : this.description.trim();
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("Description is longer than " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        return Book.create(title, author, isbn, publishedYear, description);
+    }
+
+    private static String required(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        String trimmed = value.trim();
+        if (trimmed.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(name + " is longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+        return trimmed;
+    }
+}
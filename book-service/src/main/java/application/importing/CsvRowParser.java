@@ -0,0 +1,97 @@
+package application.importing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 fields (quoted fields, "" escapes, line breaks inside quotes), mapped by the header row
+ */
+final class CsvRowParser implements RowParser {
+
+    private final int title;
+    private final int author;
+    private final int isbn;
+    private final int publishedYear;
+    private final int description;
+
+    private CsvRowParser(int title, int author, int isbn, int publishedYear, int description) {
+        this.title = title;
+        this.author = author;
+        this.isbn = isbn;
+        this.publishedYear = publishedYear;
+        this.description = description;
+    }
+
+    /**
+     * Column names are matched ignoring case, spaces and underscores; description is optional
+     */
+    static CsvRowParser fromHeader(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import is empty, a header row is required");
+        }
+        List<String> columns = new ArrayList<>();
+        for (String column : split(header)) {
+            columns.add(column.replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT));
+        }
+        return new CsvRowParser(
+                required(columns, "title"),
+                required(columns, "author"),
+                required(columns, "isbn"),
+                required(columns, "publishedyear"),
+                columns.indexOf("description"));
+    }
+
+    @Override
+    public BookRow parse(String record) {
+        List<String> fields = split(record);
+        return new BookRow(field(fields, title), field(fields, author), field(fields, isbn),
+                field(fields, publishedYear), field(fields, description));
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static int required(List<String> columns, String name) {
+        int index = columns.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("CSV header has no " + name + " column");
+        }
+        return index;
+    }
+
+    static List<String> split(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        int length = record.length();
+        for (int i = 0; i < length; i++) {
+            char c = record.charAt(i);
+            if (inQuotes) {
+                if (c == '"') {
+                    if (i + 1 < length && record.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else if (c != '\r') {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (inQuotes) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,38 @@
+package application.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * One JSON object per line: {"title": ..., "author": ..., "isbn": ..., "publishedYear": ..., "description": ...}
+ */
+final class JsonRowParser implements RowParser {
+
+    private final ObjectMapper objectMapper;
+
+    JsonRowParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public BookRow parse(String record) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return new BookRow(text(node, "title"), text(node, "author"), text(node, "isbn"),
+                text(node, "publishedYear"), text(node, "description"));
+    }
+
+    // Numbers are accepted for text fields too, e.g. "publishedYear": 1999
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() || value.isContainerNode() ? null : value.asText();
+    }
+}
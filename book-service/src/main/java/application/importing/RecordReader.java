@@ -0,0 +1,96 @@
+package application.importing;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits an upload into raw records without parsing their fields, so parsing can run on worker threads.
+ * For CSV a line break inside a quoted field does not end the record. Blank lines are skipped.
+ */
+final class RecordReader {
+
+    // Guards against an unterminated quote swallowing the rest of the file
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final Reader reader;
+    private final boolean quoted;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder record = new StringBuilder(256);
+    private int position;
+    private int limit;
+    private long line = 1;
+    private boolean started;
+
+    RecordReader(Reader reader, boolean quoted) {
+        this.reader = reader;
+        this.quoted = quoted;
+    }
+
+    /**
+     * @return the next non-blank record, or null at the end of the input
+     */
+    RawRecord next() throws IOException {
+        while (true) {
+            record.setLength(0);
+            long startLine = line;
+            boolean inQuotes = false;
+            boolean ended = true;
+            while (true) {
+                if (position == limit && !fill()) {
+                    ended = record.length() == 0;
+                    break;
+                }
+                char c = buffer[position++];
+                if (c == '\n') {
+                    line++;
+                    if (!inQuotes) {
+                        ended = false;
+                        break;
+                    }
+                } else if (c == '\r') {
+                    // \r\n is counted once, on the \n
+                    if (!inQuotes) {
+                        continue;
+                    }
+                } else if (c == '"' && quoted) {
+                    inQuotes = !inQuotes;
+                }
+                if (record.length() == MAX_RECORD_LENGTH) {
+                    throw new IllegalArgumentException("Record starting at line " + startLine + " is longer than "
+                            + MAX_RECORD_LENGTH + " characters" + (inQuotes ? " (unterminated quote?)" : ""));
+                }
+                record.append(c);
+            }
+            if (ended) {
+                return null;
+            }
+            String text = record.toString();
+            if (!text.isBlank()) {
+                return new RawRecord(startLine, text);
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = reader.read(buffer);
+        } while (read == 0);
+        if (read < 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        // Byte order mark written by some spreadsheet exports
+        if (!started) {
+            started = true;
+            if (buffer[0] == '\uFEFF') {
+                position = 1;
+            }
+        }
+        return true;
+    }
+
+    record RawRecord(long line, String text) {
+    }
+}
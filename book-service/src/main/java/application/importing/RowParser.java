@@ -0,0 +1,12 @@
+package application.importing;
+
+/**
+ * Parses one raw record into its fields. Implementations are thread-safe.
+ */
+interface RowParser {
+
+    /**
+     * @throws IllegalArgumentException if the record is malformed
+     */
+    BookRow parse(String record);
+}
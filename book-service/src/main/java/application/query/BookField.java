@@ -0,0 +1,54 @@
+package application.query;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Book fields a listing can be limited to, named as in BookResponse
+ */
+public enum BookField {
+    ID("id"),
+    TITLE("title"),
+    AUTHOR("author"),
+    ISBN("isbn"),
+    PUBLISHED_YEAR("publishedYear"),
+    DESCRIPTION("description"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String jsonName;
+
+    BookField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    // Also the entity attribute name
+    public String jsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parses a fields=title,author parameter; null or blank means every field.
+     * The id is always included, it is the paging key.
+     * @throws IllegalArgumentException for an unknown field name
+     */
+    public static Set<BookField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(BookField.class);
+        }
+        Set<BookField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            selected.add(byJsonName(name.trim()));
+        }
+        return selected;
+    }
+
+    private static BookField byJsonName(String name) {
+        for (BookField field : values()) {
+            if (field.jsonName.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown book field: " + name);
+    }
+}
@@ -0,0 +1,15 @@
+package application.query;
+
+import application.dto.BookPageResponse;
+import domain.model.BookCursor;
+
+import java.util.Set;
+
+/**
+ * Read-side queries that project rows straight into responses, without entities or domain objects
+ */
+public interface BookQueryRepository {
+
+    // Books in id order after the cursor (first page when null), reading only the selected columns
+    BookPageResponse findPage(BookCursor after, int limit, Set<BookField> fields);
+}
@@ -0,0 +1,523 @@
+package application.search;
+
+import domain.model.Book;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over book title, author and description.
+ *
+ * Every book gets an int slot; each term keeps a sorted posting list of slots with the term's weighted
+ * frequency (title x3, author x2, description x1). Queries match books containing all terms and are ranked
+ * with BM25. Title and author terms also feed a SuggestionTrie for autocomplete.
+ *
+ * BookService updates the index after each commit; BookSearchIndexLoader fills it at startup and can reload it
+ * periodically to pick up changes made by other instances. Reads share a lock, writes are exclusive and touch
+ * only the posting lists of the changed book.
+ */
+@Component
+public class BookSearchIndex {
+
+    // Deepest result a search can page to
+    public static final int MAX_RESULT_WINDOW = 1000;
+
+    static final float TITLE_WEIGHT = 3f;
+    static final float AUTHOR_WEIGHT = 2f;
+    static final float DESCRIPTION_WEIGHT = 1f;
+
+    // BM25 term frequency saturation and length normalization
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final int[] NO_TERMS = new int[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final List<Postings> postings = new ArrayList<>();
+    private final SuggestionTrie suggestions = new SuggestionTrie();
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private UUID[] ids = new UUID[1024];
+    private long[] versions = new long[1024];
+    private float[] lengths = new float[1024];
+    private int[] generations = new int[1024];
+    private int[][] docTerms = new int[1024][];
+    private int[][] docSuggestTerms = new int[1024][];
+    private int slotCount;
+    private int[] freeSlots = new int[64];
+    private int freeCount;
+    private double totalLength;
+
+    // Set while a full load runs: books not seen by the load are dropped at the end,
+    // books deleted during the load are not brought back by a stale batch
+    private int generation;
+    private boolean loading;
+    private final Set<UUID> removedDuringLoad = new HashSet<>();
+
+    /**
+     * Adds the book or replaces its previous version. Older versions than the indexed one are ignored.
+     */
+    public void index(Book book) {
+        Document document = analyze(book);
+        lock.writeLock().lock();
+        try {
+            Integer existing = slots.get(book.getId());
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                if (versions[slot] > document.version) {
+                    generations[slot] = generation;
+                    return;
+                }
+                unindex(slot);
+            } else {
+                if (loading && removedDuringLoad.contains(book.getId())) {
+                    return;
+                }
+                slot = allocateSlot();
+                slots.put(book.getId(), slot);
+                ids[slot] = book.getId();
+            }
+            add(slot, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return true if the book was indexed
+     */
+    public boolean remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                removedDuringLoad.add(id);
+            }
+            Integer slot = slots.remove(id);
+            if (slot == null) {
+                return false;
+            }
+            unindex(slot);
+            releaseSlot(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Books containing every term of the query, best match first.
+     * @param offset number of hits to skip; offset + limit is capped at MAX_RESULT_WINDOW
+     */
+    public Hits search(String query, int offset, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(TextAnalyzer.terms(query));
+        int window = Math.min(offset + limit, MAX_RESULT_WINDOW);
+        if (queryTerms.isEmpty() || window <= offset) {
+            return Hits.EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[queryTerms.size()];
+            int n = 0;
+            for (String term : queryTerms) {
+                Integer termId = termIds.get(term);
+                if (termId == null || postings.get(termId).size == 0) {
+                    return Hits.EMPTY;
+                }
+                lists[n++] = postings.get(termId);
+            }
+            // Drive the intersection from the rarest term
+            Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+            int documents = slots.size();
+            float averageLength = (float) (totalLength / documents);
+            float[] idf = new float[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                int df = lists[i].size;
+                idf[i] = (float) Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+            }
+
+            TopHits top = new TopHits(window);
+            int[] cursors = new int[lists.length];
+            long total = 0;
+            Postings driver = lists[0];
+            candidates:
+            for (int p = 0; p < driver.size; p++) {
+                int slot = driver.slots[p];
+                float docNorm = K1 * (1 - B + B * lengths[slot] / averageLength);
+                float score = idf[0] * bm25(driver.weights[p], docNorm);
+                for (int i = 1; i < lists.length; i++) {
+                    int position = lists[i].seek(slot, cursors[i]);
+                    cursors[i] = position;
+                    if (position == lists[i].size) {
+                        break candidates;
+                    }
+                    if (lists[i].slots[position] != slot) {
+                        continue candidates;
+                    }
+                    score += idf[i] * bm25(lists[i].weights[position], docNorm);
+                }
+                total++;
+                top.offer(score, slot);
+            }
+
+            List<Hit> hits = new ArrayList<>(Math.max(0, Math.min(limit, top.size() - offset)));
+            long[] ranked = top.sortedDescending();
+            for (int i = offset; i < ranked.length; i++) {
+                hits.add(new Hit(ids[TopHits.slot(ranked[i])], TopHits.score(ranked[i])));
+            }
+            return new Hits(total, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Autocomplete for the last word of the input; earlier words are kept as typed.
+     * Completions are title and author terms, the ones used by most books first.
+     */
+    public List<String> suggest(String input, int limit) {
+        List<String> tokens = new ArrayList<>();
+        List<String> surfaces = new ArrayList<>();
+        TextAnalyzer.forEachToken(input, (term, surface) -> {
+            tokens.add(term);
+            surfaces.add(surface);
+        });
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String head = String.join(" ", surfaces.subList(0, surfaces.size() - 1));
+        String last = tokens.get(tokens.size() - 1);
+
+        List<String> completions;
+        lock.readLock().lock();
+        try {
+            completions = suggestions.complete(last, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (head.isEmpty()) {
+            return completions;
+        }
+        List<String> phrases = new ArrayList<>(completions.size());
+        for (String completion : completions) {
+            phrases.add(head + " " + completion);
+        }
+        return phrases;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts a full load. Books indexed from now on are marked as seen.
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            loading = true;
+            removedDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ends a full load and drops books that were neither loaded nor changed during it.
+     * @return number of books dropped
+     */
+    public int endLoad() {
+        lock.writeLock().lock();
+        try {
+            List<UUID> stale = new ArrayList<>();
+            for (Map.Entry<UUID, Integer> entry : slots.entrySet()) {
+                if (generations[entry.getValue()] != generation) {
+                    stale.add(entry.getKey());
+                }
+            }
+            loading = false;
+            removedDuringLoad.clear();
+            for (UUID id : stale) {
+                int slot = slots.remove(id);
+                unindex(slot);
+                releaseSlot(slot);
+            }
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Abandons a failed load; nothing is dropped.
+     */
+    public void abortLoad() {
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            removedDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void add(int slot, Document document) {
+        int[] termIdsOfDoc = new int[document.weights.size()];
+        float length = 0;
+        int i = 0;
+        for (Map.Entry<String, Float> entry : document.weights.entrySet()) {
+            int termId = termId(entry.getKey());
+            postings.get(termId).insert(slot, entry.getValue());
+            termIdsOfDoc[i++] = termId;
+            length += entry.getValue();
+        }
+
+        int[] suggestTerms = new int[document.suggestions.size()];
+        i = 0;
+        for (Map.Entry<String, String> entry : document.suggestions.entrySet()) {
+            suggestions.add(entry.getKey(), entry.getValue());
+            suggestTerms[i++] = termId(entry.getKey());
+        }
+
+        docTerms[slot] = termIdsOfDoc;
+        docSuggestTerms[slot] = suggestTerms;
+        lengths[slot] = length;
+        versions[slot] = document.version;
+        generations[slot] = generation;
+        totalLength += length;
+    }
+
+    private void unindex(int slot) {
+        for (int termId : docTerms[slot]) {
+            postings.get(termId).delete(slot);
+        }
+        for (int termId : docSuggestTerms[slot]) {
+            suggestions.remove(terms.get(termId));
+        }
+        totalLength -= lengths[slot];
+        docTerms[slot] = NO_TERMS;
+        docSuggestTerms[slot] = NO_TERMS;
+        lengths[slot] = 0;
+    }
+
+    private int termId(String term) {
+        Integer termId = termIds.get(term);
+        if (termId == null) {
+            termId = terms.size();
+            termIds.put(term, termId);
+            terms.add(term);
+            postings.add(new Postings());
+        }
+        return termId;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            generations = Arrays.copyOf(generations, capacity);
+            docTerms = Arrays.copyOf(docTerms, capacity);
+            docSuggestTerms = Arrays.copyOf(docSuggestTerms, capacity);
+        }
+        return slotCount++;
+    }
+
+    private void releaseSlot(int slot) {
+        ids[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private static float bm25(float frequency, float docNorm) {
+        return frequency * (K1 + 1) / (frequency + docNorm);
+    }
+
+    // Tokenizing happens before taking the write lock
+    private static Document analyze(Book book) {
+        Map<String, Float> weights = new LinkedHashMap<>();
+        Map<String, String> suggestionTerms = new LinkedHashMap<>();
+        TextAnalyzer.forEachToken(book.getTitle(), (term, surface) -> {
+            weights.merge(term, TITLE_WEIGHT, Float::sum);
+            suggestionTerms.putIfAbsent(term, surface);
+        });
+        TextAnalyzer.forEachToken(book.getAuthor(), (term, surface) -> {
+            weights.merge(term, AUTHOR_WEIGHT, Float::sum);
+            suggestionTerms.putIfAbsent(term, surface);
+        });
+        TextAnalyzer.forEachToken(book.getDescription(),
+                (term, surface) -> weights.merge(term, DESCRIPTION_WEIGHT, Float::sum));
+        long version = book.getVersion() == null ? -1 : book.getVersion();
+        return new Document(weights, suggestionTerms, version);
+    }
+
+    public record Hit(UUID id, float score) {
+    }
+
+    public record Hits(long total, List<Hit> hits) {
+        static final Hits EMPTY = new Hits(0, List.of());
+    }
+
+    private record Document(Map<String, Float> weights, Map<String, String> suggestions, long version) {
+    }
+
+    /**
+     * Slots containing one term, kept sorted so lists can be intersected by seeking forward.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void insert(int slot, float weight) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index >= 0) {
+                weights[index] = weight;
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            System.arraycopy(weights, insertAt, weights, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            weights[insertAt] = weight;
+            size++;
+        }
+
+        void delete(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+            size--;
+        }
+
+        /**
+         * Position of the first slot >= target at or after from; galloping keeps long skips logarithmic.
+         */
+        int seek(int target, int from) {
+            if (from >= size || slots[from] >= target) {
+                return from;
+            }
+            int step = 1;
+            int low = from;
+            int high = from + 1;
+            while (high < size && slots[high] < target) {
+                low = high;
+                step <<= 1;
+                high = low + step;
+            }
+            int index = Arrays.binarySearch(slots, low + 1, Math.min(high + 1, size), target);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    /**
+     * Bounded min-heap of the best hits. Score and slot are packed in one long:
+     * non-negative float bits keep their order, and lower slots win ties.
+     */
+    private static final class TopHits {
+        private final long[] heap;
+        private int size;
+
+        TopHits(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(float score, int slot) {
+            long key = ((long) Float.floatToIntBits(score) << 32) | (Integer.MAX_VALUE - slot);
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] sortedDescending() {
+            long[] sorted = Arrays.copyOf(heap, size);
+            Arrays.sort(sorted);
+            for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+                long swap = sorted[i];
+                sorted[i] = sorted[j];
+                sorted[j] = swap;
+            }
+            return sorted;
+        }
+
+        static int slot(long key) {
+            return Integer.MAX_VALUE - (int) key;
+        }
+
+        static float score(long key) {
+            return Float.intBitsToFloat((int) (key >>> 32));
+        }
+
+        private void siftUp(int index) {
+            long key = heap[index];
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= key) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = key;
+        }
+
+        private void siftDown(int index) {
+            long key = heap[index];
+            int half = size >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (key <= heap[child]) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = key;
+        }
+    }
+}
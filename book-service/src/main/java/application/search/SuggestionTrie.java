@@ -0,0 +1,179 @@
+package application.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Prefix tree of title and author terms, used for autocomplete.
+ * Each node keeps the highest document count in its subtree, so the top completions of a prefix are
+ * found best-first without visiting the whole subtree, even for one-letter prefixes.
+ * Not thread-safe; BookSearchIndex guards it with its lock.
+ */
+final class SuggestionTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingInt(Candidate::score).reversed()
+            .thenComparing(Candidate::terminal, Comparator.reverseOrder())
+            .thenComparing(Candidate::term);
+
+    private final Node root = new Node();
+
+    private int terms;
+
+    /**
+     * Counts one more document containing the term.
+     * @param display how the term is shown in suggestions, taken from the first document that used it
+     */
+    void add(String term, String display) {
+        Node[] path = new Node[term.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < term.length(); i++) {
+            node = node.childOrCreate(term.charAt(i));
+            path[i + 1] = node;
+        }
+        if (node.count++ == 0) {
+            node.display = display;
+            terms++;
+        }
+        // Counts only grow here, so each best is a simple max
+        for (Node onPath : path) {
+            onPath.best = Math.max(onPath.best, node.count);
+        }
+    }
+
+    /**
+     * Counts one document less containing the term; unused branches are pruned.
+     */
+    void remove(String term) {
+        Node[] path = new Node[term.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < term.length(); i++) {
+            node = node.child(term.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path[i + 1] = node;
+        }
+        if (node.count == 0) {
+            return;
+        }
+        if (--node.count == 0) {
+            node.display = null;
+            terms--;
+        }
+        for (int depth = term.length(); depth >= 0; depth--) {
+            Node current = path[depth];
+            current.recomputeBest();
+            if (depth > 0 && current.best == 0) {
+                path[depth - 1].removeChild(term.charAt(depth - 1));
+            }
+        }
+    }
+
+    /**
+     * Most frequent terms starting with the prefix, most frequent first.
+     */
+    List<String> complete(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.child(prefix.charAt(i));
+        }
+        List<String> completions = new ArrayList<>(limit);
+        if (node == null || node.best == 0) {
+            return completions;
+        }
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(BEST_FIRST);
+        queue.add(new Candidate(node.best, node, prefix, false));
+        while (!queue.isEmpty() && completions.size() < limit) {
+            Candidate candidate = queue.poll();
+            Node current = candidate.node();
+            if (candidate.terminal()) {
+                completions.add(current.display);
+                continue;
+            }
+            // A subtree's best bounds every term below it, so nothing polled later can beat this term
+            if (current.count > 0) {
+                queue.add(new Candidate(current.count, current, candidate.term(), true));
+            }
+            for (int i = 0; i < current.childCount; i++) {
+                Node child = current.children[i];
+                queue.add(new Candidate(child.best, child, candidate.term() + current.keys[i], false));
+            }
+        }
+        return completions;
+    }
+
+    int size() {
+        return terms;
+    }
+
+    private record Candidate(int score, Node node, String term, boolean terminal) {
+    }
+
+    private static final class Node {
+        // Sorted child keys; small arrays use far less memory than a map per node
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int childCount;
+
+        // Documents containing exactly this term
+        private int count;
+
+        // Highest count in this subtree
+        private int best;
+
+        private String display;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node child = new Node();
+            keys[insertAt] = key;
+            children[insertAt] = child;
+            childCount++;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(keys, index + 1, keys, index, childCount - index - 1);
+            System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+            children[--childCount] = null;
+        }
+
+        void recomputeBest() {
+            int max = count;
+            for (int i = 0; i < childCount; i++) {
+                max = Math.max(max, children[i].best);
+            }
+            best = max;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package application.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+
+/**
+ * Splits catalog text into search terms.
+ * Terms are lower-case and accent-free, so "Çalıkuşu", "ÇALIKUŞU" and "calikusu" all match.
+ */
+final class TextAnalyzer {
+
+    // Longer tokens are cut; they are almost never typed in full
+    static final int MAX_TERM_LENGTH = 32;
+
+    private TextAnalyzer() {
+    }
+
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        forEachToken(text, (term, surface) -> terms.add(term));
+        return terms;
+    }
+
+    /**
+     * Calls the consumer with the folded term and the token as it appeared in the text.
+     */
+    static void forEachToken(String text, BiConsumer<String, String> consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String surface = text.substring(start, Math.min(i, start + MAX_TERM_LENGTH));
+                consumer.accept(fold(surface), surface);
+                start = -1;
+            }
+        }
+    }
+
+    static String fold(String token) {
+        boolean ascii = true;
+        for (int i = 0; i < token.length() && ascii; i++) {
+            ascii = token.charAt(i) < 128;
+        }
+        if (ascii) {
+            return token.toLowerCase(Locale.ROOT);
+        }
+        // Decompose accented letters and drop the combining marks; dotless i has no decomposition
+        String decomposed = Normalizer.normalize(token, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            c = Character.toLowerCase(c);
+            folded.append(c == 'ı' ? 'i' : c);
+        }
+        return folded.toString();
+    }
+}
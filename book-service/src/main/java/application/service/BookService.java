@@ -1,26 +1,57 @@
 package application.service;
 
 
+import application.dto.BookBatchResponse;
+import application.dto.BookPageResponse;
 import application.dto.BookResponse;
+import application.dto.BookSearchResponse;
 import application.dto.CreateBookRequest;
 import application.dto.UpdateBookRequest;
+import application.query.BookField;
+import application.query.BookQueryRepository;
+import application.search.BookSearchIndex;
 import domain.model.Book;
+import domain.model.BookCursor;
 import domain.repository.BookRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class BookService {
 
+    // Upper bound for ids accepted by a single existence check
+    public static final int MAX_EXISTS_BATCH = 1000;
+
+    // Upper bound for ids resolved by a single multi-get
+    public static final int MAX_BATCH_SIZE = 500;
+
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+    public static final int MAX_SUGGESTIONS = 20;
+
     private final BookRepository bookRepository;
+    private final BookQueryRepository bookQueryRepository;
+    private final BookSearchIndex searchIndex;
 
-    public BookService(BookRepository bookRepository) {
+    public BookService(BookRepository bookRepository, BookQueryRepository bookQueryRepository,
+                       BookSearchIndex searchIndex) {
         this.bookRepository = bookRepository;
+        this.bookQueryRepository = bookQueryRepository;
+        this.searchIndex = searchIndex;
     }
 
     public BookResponse createBook(CreateBookRequest request) {
@@ -39,6 +70,7 @@ public class BookService {
         );
 
         Book savedBook = bookRepository.save(book);
+        afterCommit(() -> searchIndex.index(savedBook));
         return BookResponse.fromDomain(savedBook);
     }
 
@@ -49,13 +81,57 @@ public class BookService {
         return BookResponse.fromDomain(book);
     }
 
+    // One page in id order with only the requested fields; the table is never read as a whole
     @Transactional(readOnly = true)
-    public List<BookResponse> getAllBooks() {
-        return bookRepository.findAll().stream()
-                .map(BookResponse::fromDomain)
+    public BookPageResponse listBooks(String cursor, int size, String fields) {
+        BookCursor after = cursor == null || cursor.isBlank() ? null : BookCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return bookQueryRepository.findPage(after, limit, BookField.parse(fields));
+    }
+
+    // Business rule: resolves many ids with a single IN query, returns the ones that exist
+    @Transactional(readOnly = true)
+    public List<String> findExistingIds(List<String> ids) {
+        if (ids.size() > MAX_EXISTS_BATCH) {
+            throw new IllegalArgumentException("At most " + MAX_EXISTS_BATCH + " ids can be checked at once");
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> uuids = ids.stream()
+                .map(UUID::fromString)
+                .collect(Collectors.toSet());
+        return bookRepository.findExistingIds(uuids).stream()
+                .map(UUID::toString)
                 .collect(Collectors.toList());
     }
 
+    // Multi-get for callers that would otherwise ask for books one by one: a single IN query,
+    // unknown ids are listed as missing instead of failing the call
+    @Transactional(readOnly = true)
+    public BookBatchResponse getBooks(List<String> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " books can be fetched at once");
+        }
+        Set<UUID> uuids = ids.stream()
+                .map(UUID::fromString)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<UUID, Book> found = uuids.isEmpty() ? Map.of() : bookRepository.findAllById(uuids).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        Map<String, BookResponse> books = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (UUID bookId : uuids) {
+            Book book = found.get(bookId);
+            if (book != null) {
+                books.put(bookId.toString(), BookResponse.fromDomain(book));
+            } else {
+                missing.add(bookId.toString());
+            }
+        }
+        return new BookBatchResponse(books, missing);
+    }
+
     public BookResponse updateBook(String id, UpdateBookRequest request) {
         Book book = bookRepository.findById(UUID.fromString(id))
                 .orElseThrow(() -> new IllegalArgumentException("Book with id " + id + " not found"));
@@ -63,6 +139,7 @@ public class BookService {
         book.update(request.getTitle(), request.getAuthor(), request.getDescription());
 
         Book updatedBook = bookRepository.update(book);
+        afterCommit(() -> searchIndex.index(updatedBook));
         return BookResponse.fromDomain(updatedBook);
     }
 
@@ -72,5 +149,59 @@ public class BookService {
         if (!deleted) {
             throw new IllegalArgumentException("Book with id " + id + " not found");
         }
+        afterCommit(() -> searchIndex.remove(bookId));
+    }
+
+    // Ranked full-text search over title, author and description, served from the in-memory index;
+    // only the books on the requested page are read from the database
+    @Transactional(readOnly = true)
+    public BookSearchResponse searchBooks(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (page < 0 || size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if ((long) (page + 1) * size > BookSearchIndex.MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("Search results are limited to the first "
+                    + BookSearchIndex.MAX_RESULT_WINDOW + " hits, refine the query");
+        }
+
+        BookSearchIndex.Hits hits = searchIndex.search(query, page * size, size);
+        List<UUID> ids = hits.hits().stream().map(BookSearchIndex.Hit::id).toList();
+        Map<UUID, Book> books = ids.isEmpty() ? Map.of() : bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+        // Keep the ranking order; a book deleted after the search just drops out of the page
+        List<BookResponse> items = new ArrayList<>(ids.size());
+        for (UUID bookId : ids) {
+            Book book = books.get(bookId);
+            if (book != null) {
+                items.add(BookResponse.fromDomain(book));
+            }
+        }
+        long shown = (long) (page + 1) * size;
+        boolean hasNext = hits.total() > shown && shown < BookSearchIndex.MAX_RESULT_WINDOW;
+        return new BookSearchResponse(items, hits.total(), page, size, hasNext);
+    }
+
+    // Autocomplete for the last word typed, answered from memory; no transaction or connection is needed
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> suggest(String prefix, int limit) {
+        return searchIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+
+    // The search index only sees committed changes
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
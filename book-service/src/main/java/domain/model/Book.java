@@ -12,6 +12,7 @@ public class Book {
     private String description;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
      public Book(){}
     // Private constructor for creation
     private Book(UUID id, String title, String author, String isbn,
@@ -27,11 +28,20 @@ public class Book {
         this.updatedAt = updatedAt;
     }
 
+    // Rebuild an already persisted book, keeping its id and version
+    public static Book restore(UUID id, String title, String author, String isbn,
+                               Integer publishedYear, String description,
+                               LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        Book book = new Book(id, title, author, isbn, publishedYear, description, createdAt, updatedAt);
+        book.version = version;
+        return book;
+    }
+
     // Factory method
     public static Book create(String title, String author, String isbn,
                               Integer publishedYear, String description) {
         LocalDateTime now = LocalDateTime.now();
-        return new Book(UUID.randomUUID(), title, author, isbn,
+        return new Book(Ids.next(), title, author, isbn,
                 publishedYear, description, now, now);
     }
 
@@ -58,4 +68,5 @@ public class Book {
     public String getDescription() { return description; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset paging cursor: the id of the last book on the previous page.
+ * Sent to clients as an opaque token.
+ */
+public class BookCursor {
+
+    private final UUID id;
+
+    public BookCursor(UUID id) {
+        this.id = id;
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by encode
+     */
+    public static BookCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new BookCursor(UUID.fromString(raw));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,15 @@
+package domain.model;
+
+import java.util.UUID;
+
+/**
+ * Primary key generator for new aggregates
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    // Random v4 ids, scattered across the B-tree; kept for comparison
+    IdGenerator RANDOM = UUID::randomUUID;
+
+    UUID next();
+}
@@ -0,0 +1,22 @@
+package domain.model;
+
+import java.util.UUID;
+
+/**
+ * Where domain objects take their ids from. Defaults to UUIDv7, switched from configuration at startup.
+ */
+public final class Ids {
+
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private Ids() {
+    }
+
+    public static UUID next() {
+        return generator.next();
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        generator = idGenerator;
+    }
+}
@@ -0,0 +1,63 @@
+package domain.model;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDv7 generator (RFC 9562): 48-bit Unix millis, version, 12-bit counter, 62 random bits.
+ * Timestamp and counter advance together in one AtomicLong via CAS, so ids stay strictly increasing
+ * within a millisecond and across clock steps backwards, without a lock.
+ * The services build independently, so loan-service keeps its own copy; change both together.
+ */
+public class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    // SHA1PRNG instances striped across threads; the default NativePRNG serializes on one shared lock
+    private static final int RANDOM_STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2;
+
+    private final Clock clock;
+    private final SecureRandom[] randoms;
+
+    // (timestamp << 12) | counter of the last id handed out
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(Clock.systemUTC());
+    }
+
+    public UuidV7Generator(Clock clock) {
+        this.clock = clock;
+        this.randoms = new SecureRandom[RANDOM_STRIPES];
+        for (int i = 0; i < randoms.length; i++) {
+            randoms[i] = newRandom();
+        }
+    }
+
+    private static SecureRandom newRandom() {
+        try {
+            return SecureRandom.getInstance("SHA1PRNG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    @Override
+    public UUID next() {
+        long candidate = clock.millis() << COUNTER_BITS;
+        // Same millisecond bumps the counter; past 4096 it carries into the timestamp and order still holds
+        long current = lastTimestampAndCounter.accumulateAndGet(candidate,
+                (last, now) -> Math.max(now, last + 1));
+
+        long timestamp = current >>> COUNTER_BITS;
+        long counter = current & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (timestamp << 16) | 0x7000L | counter;
+
+        SecureRandom random = randoms[(int) Thread.currentThread().threadId() & (randoms.length - 1)];
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -1,14 +1,23 @@
 package domain.repository;
 import domain.model.Book;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface BookRepository {
     Book save(Book book);
     Optional<Book> findById(UUID id);
-    List<Book> findAll();
     Book update(Book book);
     boolean delete(UUID id);
     Optional<Book> findByIsbn(String isbn);
+    List<UUID> findExistingIds(Collection<UUID> ids);
+    List<Book> findAllById(Collection<UUID> ids);
+    // Next batch in id order after the given id (null for the first batch)
+    List<Book> findBatchAfter(UUID after, int limit);
+    // ISBNs among the given ones that are already used by a book
+    Set<String> findExistingIsbns(Collection<String> isbns);
+    // Inserts new books in JDBC batches, bypassing the persistence context
+    void insertAll(List<Book> books);
 }
\ No newline at end of file
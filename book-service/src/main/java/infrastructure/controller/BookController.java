@@ -1,12 +1,15 @@
 package infrastructure.controller;
 
+import application.dto.BookBatchResponse;
+import application.dto.BookPageResponse;
 import application.dto.BookResponse;
+import application.dto.BookSearchResponse;
 import application.dto.CreateBookRequest;
 import application.dto.UpdateBookRequest;
 import application.service.BookService;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -33,10 +36,47 @@ public class BookController {
         return ResponseEntity.ok(response);
     }
 
+    // Keyset paging: pass nextCursor back as cursor; fields=id,title,author,isbn limits the columns read
     @GetMapping
-    public ResponseEntity<List<BookResponse>> getAllBooks() {
-        List<BookResponse> responses = bookService.getAllBooks();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<BookPageResponse> getAllBooks(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
+        BookPageResponse response = bookService.listBooks(cursor, size, fields);
+        return ResponseEntity.ok(response);
+    }
+
+    // Ranked search over title, author and description
+    @GetMapping("/search")
+    public ResponseEntity<BookSearchResponse> searchBooks(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        BookSearchResponse response = bookService.searchBooks(query, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    // Autocomplete for search boxes: completes the last word of the input
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<String> suggestions = bookService.suggest(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    // Used by loan-service to validate many book ids in one round trip
+    @PostMapping("/exists")
+    public ResponseEntity<List<String>> findExistingIds(@RequestBody List<String> ids) {
+        List<String> existing = bookService.findExistingIds(ids);
+        return ResponseEntity.ok(existing);
+    }
+
+    // Resolves many books in one call, e.g. the titles on a list of loans; ids as a JSON array
+    @PostMapping("/batch")
+    public ResponseEntity<BookBatchResponse> getBooks(@RequestBody List<String> ids) {
+        BookBatchResponse response = bookService.getBooks(ids);
+        return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{id}")
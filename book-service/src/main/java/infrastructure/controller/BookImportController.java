@@ -0,0 +1,46 @@
+package infrastructure.controller;
+
+import application.dto.BookImportReport;
+import application.importing.BookImportFormat;
+import application.importing.BookImportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/books/imports")
+public class BookImportController {
+
+    private final BookImportService bookImportService;
+
+    public BookImportController(BookImportService bookImportService) {
+        this.bookImportService = bookImportService;
+    }
+
+    // Raw text/csv or application/x-ndjson body, read as a stream; answers when every row is processed
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson", "application/jsonl", "application/json-lines"})
+    public ResponseEntity<BookImportReport> importBooks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        BookImportReport report = bookImportService.importBooks(body, BookImportFormat.fromContentType(contentType));
+        return ResponseEntity.ok(report);
+    }
+
+    // Progress of running imports and reports of recent ones
+    @GetMapping
+    public ResponseEntity<List<BookImportReport>> listImports() {
+        return ResponseEntity.ok(bookImportService.listImports());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BookImportReport> getImport(@PathVariable UUID id) {
+        return bookImportService.getImport(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
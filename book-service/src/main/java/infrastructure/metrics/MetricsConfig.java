@@ -0,0 +1,29 @@
+package infrastructure.metrics;
+
+import application.service.BookService;
+import infrastructure.persistence.BookRepositoryImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+@Configuration
+public class MetricsConfig {
+
+    // Infrastructure role, so the advisors join the same proxy as @Transactional
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor bookServiceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return TimingInterceptor.advisorFor(BookService.class, "book.service", meterRegistry);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor bookRepositoryTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return TimingInterceptor.advisorFor(BookRepositoryImpl.class, "book.repository", meterRegistry);
+    }
+}
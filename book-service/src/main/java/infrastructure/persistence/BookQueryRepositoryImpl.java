@@ -0,0 +1,76 @@
+package infrastructure.persistence;
+
+import application.dto.BookPageResponse;
+import application.query.BookField;
+import application.query.BookQueryRepository;
+import domain.model.BookCursor;
+import infrastructure.persistence.entity.BookEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Selects only the requested columns as tuples: a title/author list never reads or sends the description,
+ * and no entity enters the persistence context
+ */
+@Repository
+public class BookQueryRepositoryImpl implements BookQueryRepository {
+
+    private final EntityManager entityManager;
+
+    public BookQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // Reads limit + 1 rows; the extra row only tells whether there is a next page, no COUNT needed
+    @Override
+    @Transactional(readOnly = true)
+    public BookPageResponse findPage(BookCursor after, int limit, Set<BookField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<BookEntity> root = query.from(BookEntity.class);
+
+        List<Selection<?>> columns = new ArrayList<>(fields.size());
+        for (BookField field : fields) {
+            columns.add(root.get(field.jsonName()).alias(field.jsonName()));
+        }
+        query.multiselect(columns);
+        // Primary key range scan; ids are time-ordered, so this is roughly creation order
+        if (after != null) {
+            query.where(cb.greaterThan(root.<UUID>get("id"), after.getId()));
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(limit + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > limit;
+        int size = hasNext ? limit : rows.size();
+        List<Map<String, Object>> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Tuple row = rows.get(i);
+            Map<String, Object> item = new LinkedHashMap<>();
+            for (BookField field : fields) {
+                item.put(field.jsonName(), row.get(field.jsonName()));
+            }
+            items.add(item);
+        }
+        String nextCursor = hasNext
+                ? new BookCursor(rows.get(limit - 1).get(BookField.ID.jsonName(), UUID.class)).encode()
+                : null;
+        return new BookPageResponse(items, nextCursor);
+    }
+}
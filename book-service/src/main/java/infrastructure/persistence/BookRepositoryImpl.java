@@ -4,20 +4,41 @@ package infrastructure.persistence;
 import domain.model.Book;
 import domain.repository.BookRepository;
 import infrastructure.persistence.entity.BookEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Repository
 public class BookRepositoryImpl implements BookRepository {
 
+    private static final String INSERT_BOOK = "insert into books "
+            + "(id, title, author, isbn, published_year, description, created_at, updated_at, version) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Statements per JDBC batch round trip
+    private static final int INSERT_BATCH_SIZE = 500;
+
     private final JpaBookRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
-    public BookRepositoryImpl(JpaBookRepository jpaRepository) {
+    public BookRepositoryImpl(JpaBookRepository jpaRepository, JdbcTemplate jdbcTemplate,
+                              EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -33,13 +54,6 @@ public class BookRepositoryImpl implements BookRepository {
                 .map(BookEntity::toDomain);
     }
 
-    @Override
-    public List<Book> findAll() {
-        return jpaRepository.findAll().stream()
-                .map(BookEntity::toDomain)
-                .collect(Collectors.toList());
-    }
-
     @Override
     public Book update(Book book) {
         BookEntity entity = BookEntity.fromDomain(book);
@@ -56,9 +70,61 @@ public class BookRepositoryImpl implements BookRepository {
         return false;
     }
 
+    // Natural-id lookup: ISBN -> id and id -> book both come from the second-level cache once warm
     @Override
+    @Transactional(readOnly = true)
     public Optional<Book> findByIsbn(String isbn) {
-        return jpaRepository.findByIsbn(isbn)
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(BookEntity.class)
+                .loadOptional(isbn)
                 .map(BookEntity::toDomain);
     }
+
+    @Override
+    public List<UUID> findExistingIds(Collection<UUID> ids) {
+        return jpaRepository.findExistingIds(ids);
+    }
+
+    @Override
+    public List<Book> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .map(BookEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    // Keyset batches: each one is a short primary key range scan, however far the walk has gone
+    @Override
+    public List<Book> findBatchAfter(UUID after, int limit) {
+        List<BookEntity> entities = after == null
+                ? jpaRepository.findByOrderByIdAsc(Limit.of(limit))
+                : jpaRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+        return entities.stream()
+                .map(BookEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<String> findExistingIsbns(Collection<String> isbns) {
+        if (isbns.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jpaRepository.findExistingIsbns(isbns));
+    }
+
+    // Plain JDBC batch: no entity instances, no persistence context flush, one round trip per batch
+    @Override
+    public void insertAll(List<Book> books) {
+        jdbcTemplate.batchUpdate(INSERT_BOOK, books, INSERT_BATCH_SIZE, (statement, book) -> {
+            statement.setObject(1, book.getId());
+            statement.setString(2, book.getTitle());
+            statement.setString(3, book.getAuthor());
+            statement.setString(4, book.getIsbn());
+            statement.setInt(5, book.getPublishedYear());
+            statement.setString(6, book.getDescription());
+            statement.setTimestamp(7, Timestamp.valueOf(book.getCreatedAt()));
+            statement.setTimestamp(8, Timestamp.valueOf(book.getUpdatedAt()));
+            // Same initial version Hibernate assigns on persist
+            statement.setLong(9, book.getVersion() == null ? 0L : book.getVersion());
+        });
+    }
 }
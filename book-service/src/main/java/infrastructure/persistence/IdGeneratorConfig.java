@@ -0,0 +1,20 @@
+package infrastructure.persistence;
+
+import domain.model.IdGenerator;
+import domain.model.Ids;
+import domain.model.UuidV7Generator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${book.id-generator:v7}") String version) {
+        IdGenerator generator = "v4".equalsIgnoreCase(version) ? IdGenerator.RANDOM : new UuidV7Generator();
+        // Book.create takes its ids from here
+        Ids.use(generator);
+        return generator;
+    }
+}
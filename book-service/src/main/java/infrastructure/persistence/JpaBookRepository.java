@@ -2,10 +2,23 @@ package infrastructure.persistence;
 
 
 import infrastructure.persistence.entity.BookEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
-import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface JpaBookRepository extends JpaRepository<BookEntity, UUID> {
-    Optional<BookEntity> findByIsbn(String isbn);
+    @Query("select b.id from BookEntity b where b.id in :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("select b.isbn from BookEntity b where b.isbn in :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
+
+    List<BookEntity> findByOrderByIdAsc(Limit limit);
+
+    List<BookEntity> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
 }
@@ -2,13 +2,25 @@ package infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import domain.model.Book;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "books")
+// Read-mostly catalog: lookups by id and by ISBN are served from the second-level cache
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = BookEntity.CACHE_REGION)
+@NaturalIdCache(region = BookEntity.ISBN_CACHE_REGION)
 public class BookEntity {
 
+    // Cache names, configured in application.conf
+    public static final String CACHE_REGION = "book";
+    public static final String ISBN_CACHE_REGION = "book-isbn";
+
     @Id
     private UUID id;
 
@@ -18,6 +30,8 @@ public class BookEntity {
     @Column(nullable = false)
     private String author;
 
+    // Never changed after creation
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String isbn;
 
@@ -33,6 +47,12 @@ public class BookEntity {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // Ids are assigned by the application, so a null version marks a new row:
+    // Spring Data then calls persist instead of merge and skips the SELECT before INSERT
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Convert Domain to Entity
     public static BookEntity fromDomain(Book book) {
         BookEntity entity = new BookEntity();
@@ -44,12 +64,14 @@ public class BookEntity {
         entity.description = book.getDescription();
         entity.createdAt = book.getCreatedAt();
         entity.updatedAt = book.getUpdatedAt();
+        entity.version = book.getVersion();
         return entity;
     }
 
     // Convert Entity to Domain
     public Book toDomain() {
-        return Book.create(title, author, isbn, publishedYear, description);
+        return Book.restore(id, title, author, isbn, publishedYear, description,
+                createdAt, updatedAt, version);
     }
 
     // Getters and Setters
@@ -69,4 +91,6 @@ public class BookEntity {
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
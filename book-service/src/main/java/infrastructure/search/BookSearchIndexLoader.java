@@ -0,0 +1,67 @@
+package infrastructure.search;
+
+import application.search.BookSearchIndex;
+import domain.model.Book;
+import domain.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fills the search index from the database at startup.
+ * With several instances, each one only sees its own writes; a reload cron (book.search.reload-cron)
+ * brings in books created, updated or deleted elsewhere. Search keeps serving while a load runs.
+ */
+@Component
+public class BookSearchIndexLoader {
+    private static final Logger log = LoggerFactory.getLogger(BookSearchIndexLoader.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BookSearchIndex searchIndex;
+    private final BookRepository bookRepository;
+
+    public BookSearchIndexLoader(BookSearchIndex searchIndex, BookRepository bookRepository) {
+        this.searchIndex = searchIndex;
+        this.bookRepository = bookRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    // Disabled unless a cron is configured
+    @Scheduled(cron = "${book.search.reload-cron:-}")
+    public synchronized void reload() {
+        long started = System.nanoTime();
+        int loaded = 0;
+        searchIndex.beginLoad();
+        try {
+            UUID after = null;
+            List<Book> batch;
+            do {
+                batch = bookRepository.findBatchAfter(after, BATCH_SIZE);
+                for (Book book : batch) {
+                    searchIndex.index(book);
+                }
+                loaded += batch.size();
+                if (!batch.isEmpty()) {
+                    after = batch.get(batch.size() - 1).getId();
+                }
+            } while (batch.size() == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            searchIndex.abortLoad();
+            throw e;
+        }
+        int dropped = searchIndex.endLoad();
+        log.info("Book search index loaded {} books ({} dropped) in {} ms",
+                loaded, dropped, (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -2,8 +2,14 @@ package org.turkcell.bookservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"org.turkcell.bookservice", "application", "infrastructure", "presentation"})
+@EnableJpaRepositories(basePackages = "infrastructure.persistence")
+@EntityScan(basePackages = "infrastructure.persistence.entity")
+@EnableScheduling
 public class BookServiceApplication {
 
     public static void main(String[] args) {
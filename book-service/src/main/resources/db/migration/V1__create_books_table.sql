@@ -0,0 +1,11 @@
+-- Books table (BookEntity) as it existed before migrations were introduced
+CREATE TABLE IF NOT EXISTS books (
+    id             UUID PRIMARY KEY,
+    title          VARCHAR(255)  NOT NULL,
+    author         VARCHAR(255)  NOT NULL,
+    isbn           VARCHAR(255)  NOT NULL UNIQUE,
+    published_year INTEGER       NOT NULL,
+    description    VARCHAR(1000),
+    created_at     TIMESTAMP(6)  NOT NULL,
+    updated_at     TIMESTAMP(6)  NOT NULL
+);
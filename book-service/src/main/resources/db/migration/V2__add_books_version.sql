@@ -0,0 +1,2 @@
+-- Version column for new-row detection and optimistic locking; existing rows start at 0
+ALTER TABLE books ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
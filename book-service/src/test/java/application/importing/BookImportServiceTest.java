@@ -0,0 +1,112 @@
+package application.importing;
+
+import application.dto.BookImportReport;
+import application.search.BookSearchIndex;
+import domain.model.Book;
+import domain.repository.BookRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.turkcell.bookservice.BookServiceApplication;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Small chunks so a few rows already span several batches and workers
+@SpringBootTest(classes = BookServiceApplication.class, properties = "book.import.batch-size=2")
+class BookImportServiceTest {
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookSearchIndex searchIndex;
+
+    @Test
+    void csvImportWritesValidRowsAndReportsTheRest() throws IOException {
+        String prefix = uniquePrefix();
+        bookRepository.save(Book.create("Stored", "Someone", prefix + "-stored", 2001, null));
+        // Chunks: lines 2-3, lines 4-7, lines 8-9; the duplicate shares a chunk with its first row
+        String csv = "\uFEFFTitle,Author,ISBN,Published_Year,Description\r\n"
+                + "Second,Bo Author," + prefix + "-2,2005,\n"
+                + "Duplicate,Bo Author," + prefix + "-2,2006,\n"
+                + "\"Quoted, Title\",Ann Author," + prefix + "-1,1999,\"Says \"\"hi\"\"\nover two lines\"\r\n"
+                + "\r\n"
+                + "Existing,Cy Author," + prefix + "-stored,2007,\n"
+                + "Bad Year,Cy Author," + prefix + "-3,99,\n"
+                + ",No Title," + prefix + "-4,2010,\n";
+
+        BookImportReport report = bookImportService.importBooks(stream(csv), BookImportFormat.CSV);
+
+        assertEquals("COMPLETED", report.getStatus());
+        assertEquals(6, report.getRowsRead());
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getDuplicates());
+        assertEquals(1, report.getAlreadyExisting());
+        assertEquals(2, report.getInvalid());
+        assertEquals(List.of(3L, 7L, 8L, 9L),
+                report.getErrors().stream().map(BookImportReport.RowError::getLine).toList());
+        assertEquals("Title is required", report.getErrors().get(3).getMessage());
+
+        Book quoted = bookRepository.findByIsbn(prefix + "-1").orElseThrow();
+        assertEquals("Quoted, Title", quoted.getTitle());
+        assertEquals("Says \"hi\"\nover two lines", quoted.getDescription());
+        assertEquals(0L, bookRepository.findById(quoted.getId()).orElseThrow().getVersion());
+        assertEquals(List.of(quoted.getId()),
+                searchIndex.search("quoted title", 0, 10).hits().stream().map(BookSearchIndex.Hit::id).toList());
+    }
+
+    @Test
+    void jsonLinesImportReportsMalformedLines() throws IOException {
+        String prefix = uniquePrefix();
+        String lines = "{\"title\":\"One\",\"author\":\"A\",\"isbn\":\"" + prefix + "-1\",\"publishedYear\":1990}\n"
+                + "{\"title\":\"Two\",\"author\":\"B\",\"isbn\":\"" + prefix + "-2\",\"publishedYear\":\"1991\"}\n"
+                + "{\"title\":\"Three\",\n"
+                + "[1, 2]\n";
+
+        BookImportReport report = bookImportService.importBooks(stream(lines), BookImportFormat.JSON_LINES);
+
+        assertEquals(4, report.getRowsRead());
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getInvalid());
+        assertTrue(report.getErrors().get(0).getMessage().startsWith("Malformed JSON"));
+        assertTrue(bookRepository.findByIsbn(prefix + "-2").isPresent());
+        assertTrue(bookImportService.getImport(UUID.fromString(report.getId())).isPresent());
+    }
+
+    @Test
+    void csvWithoutRequiredColumnIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> bookImportService.importBooks(stream("title,author,isbn\nA,B,C\n"), BookImportFormat.CSV));
+    }
+
+    @Test
+    void unterminatedQuoteStopsTheImport() throws IOException {
+        String csv = "title,author,isbn,publishedYear\n\"never closed,"
+                + "x".repeat(RecordReader.MAX_RECORD_LENGTH) + "\n";
+
+        BookImportReport report = bookImportService.importBooks(stream(csv), BookImportFormat.CSV);
+
+        assertEquals("FAILED", report.getStatus());
+        assertTrue(report.getMessage().contains("unterminated quote"));
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String uniquePrefix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
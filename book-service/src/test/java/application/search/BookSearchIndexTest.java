@@ -0,0 +1,153 @@
+package application.search;
+
+import domain.model.Book;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookSearchIndexTest {
+
+    private final BookSearchIndex index = new BookSearchIndex();
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+        Book inDescription = book("Sea Stories", "Jane Roe", "A long voyage on a whaling ship", 0);
+        Book inTitle = book("The Whaling Ship", "John Doe", "Life at sea", 0);
+        index.index(inDescription);
+        index.index(inTitle);
+
+        BookSearchIndex.Hits hits = index.search("whaling ship", 0, 10);
+
+        assertEquals(2, hits.total());
+        assertEquals(List.of(inTitle.getId(), inDescription.getId()), ids(hits));
+    }
+
+    @Test
+    void everyQueryTermMustMatch() {
+        Book both = book("Crime and Punishment", "Fyodor Dostoevsky", null, 0);
+        index.index(both);
+        index.index(book("War and Peace", "Leo Tolstoy", null, 0));
+
+        assertEquals(List.of(both.getId()), ids(index.search("crime dostoevsky", 0, 10)));
+        assertEquals(0, index.search("crime tolstoy", 0, 10).total());
+        assertEquals(0, index.search("unknownword", 0, 10).total());
+        assertEquals(0, index.search("  ", 0, 10).total());
+    }
+
+    @Test
+    void accentsAndCaseAreIgnored() {
+        Book book = book("Çalıkuşu", "Reşat Nuri Güntekin", null, 0);
+        index.index(book);
+
+        assertEquals(List.of(book.getId()), ids(index.search("CALIKUSU", 0, 10)));
+        assertEquals(List.of(book.getId()), ids(index.search("resat guntekin", 0, 10)));
+    }
+
+    @Test
+    void updatesReplaceTermsAndOlderVersionsAreIgnored() {
+        UUID id = UUID.randomUUID();
+        index.index(book(id, "Old Title", "Author", 0));
+        index.index(book(id, "New Title", "Author", 1));
+        index.index(book(id, "Old Title", "Author", 0));
+
+        assertEquals(1, index.size());
+        assertEquals(0, index.search("old", 0, 10).total());
+        assertEquals(List.of(id), ids(index.search("new", 0, 10)));
+    }
+
+    @Test
+    void removedBooksAreNotFound() {
+        Book book = book("Dune", "Frank Herbert", null, 0);
+        index.index(book);
+
+        assertTrue(index.remove(book.getId()));
+        assertFalse(index.remove(book.getId()));
+        assertEquals(0, index.size());
+        assertEquals(0, index.search("dune", 0, 10).total());
+        assertEquals(List.of(), index.suggest("du", 10));
+    }
+
+    @Test
+    void pagesAreSlicesOfTheSameRanking() {
+        for (int i = 0; i < 25; i++) {
+            index.index(book("Atlas " + i, "Author " + i, "atlas ".repeat(i % 5), 0));
+        }
+        List<UUID> all = ids(index.search("atlas", 0, 25));
+
+        BookSearchIndex.Hits second = index.search("atlas", 10, 10);
+        assertEquals(25, second.total());
+        assertEquals(all.subList(10, 20), ids(second));
+        assertEquals(all.subList(20, 25), ids(index.search("atlas", 20, 10)));
+        assertEquals(0, index.search("atlas", BookSearchIndex.MAX_RESULT_WINDOW, 10).hits().size());
+    }
+
+    @Test
+    void suggestionsFavourTermsUsedByMoreBooks() {
+        index.index(book("Foundation", "Isaac Asimov", null, 0));
+        index.index(book("Foundation and Empire", "Isaac Asimov", null, 0));
+        index.index(book("Fountainhead", "Ayn Rand", null, 0));
+        index.index(book("Frankenstein", "Mary Shelley", null, 0));
+
+        assertEquals(List.of("Foundation", "Fountainhead"), index.suggest("fou", 10));
+        assertEquals(List.of("Foundation"), index.suggest("f", 1));
+        // Earlier words are kept as typed
+        assertEquals(List.of("isaac Asimov"), index.suggest("isaac as", 10));
+    }
+
+    @Test
+    void suggestionsDisappearWithTheirLastBook() {
+        Book first = book("Solaris", "Stanislaw Lem", null, 0);
+        Book second = book("Solaris", "Stanislaw Lem", null, 0);
+        index.index(first);
+        index.index(second);
+
+        index.remove(first.getId());
+        assertEquals(List.of("Solaris"), index.suggest("sol", 10));
+        index.remove(second.getId());
+        assertEquals(List.of(), index.suggest("sol", 10));
+    }
+
+    @Test
+    void fullLoadDropsBooksMissingFromTheSource() {
+        Book kept = book("Kept", "Author", null, 0);
+        Book deletedElsewhere = book("Gone", "Author", null, 0);
+        Book deletedDuringLoad = book("Racing", "Author", null, 0);
+        index.index(kept);
+        index.index(deletedElsewhere);
+
+        index.beginLoad();
+        index.remove(deletedDuringLoad.getId());
+        index.index(kept);
+        // A batch read before the delete must not bring the book back
+        index.index(deletedDuringLoad);
+        assertEquals(1, index.endLoad());
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(kept.getId()), ids(index.search("kept", 0, 10)));
+        assertEquals(0, index.search("gone", 0, 10).total());
+        assertEquals(0, index.search("racing", 0, 10).total());
+    }
+
+    private static List<UUID> ids(BookSearchIndex.Hits hits) {
+        return hits.hits().stream().map(BookSearchIndex.Hit::id).toList();
+    }
+
+    private static Book book(String title, String author, String description, long version) {
+        return book(UUID.randomUUID(), title, author, description, version);
+    }
+
+    private static Book book(UUID id, String title, String author, long version) {
+        return book(id, title, author, null, version);
+    }
+
+    private static Book book(UUID id, String title, String author, String description, long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return Book.restore(id, title, author, "9780000000000", 2000, description, now, now, version);
+    }
+}
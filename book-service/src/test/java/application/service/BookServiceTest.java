@@ -0,0 +1,61 @@
+package application.service;
+
+import application.dto.BookBatchResponse;
+import domain.model.Book;
+import domain.repository.BookRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.turkcell.bookservice.BookServiceApplication;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = BookServiceApplication.class)
+class BookServiceTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void getBooksResolvesAllIdsWithOneQueryAndReportsMissingOnes() {
+        String first = save("First").toString();
+        String second = save("Second").toString();
+        String unknown = UUID.randomUUID().toString();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BookBatchResponse response = bookService.getBooks(List.of(second, unknown, first, second));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(List.of(second, first), List.copyOf(response.getBooks().keySet()));
+        assertEquals("First", response.getBooks().get(first).getTitle());
+        assertEquals(List.of(unknown), response.getMissing());
+    }
+
+    @Test
+    void getBooksRejectsOversizedBatches() {
+        List<String> ids = new ArrayList<>(Collections.nCopies(BookService.MAX_BATCH_SIZE + 1,
+                UUID.randomUUID().toString()));
+
+        assertThrows(IllegalArgumentException.class, () -> bookService.getBooks(ids));
+    }
+
+    private UUID save(String title) {
+        return bookRepository.save(Book.create(title, "Author", UUID.randomUUID().toString(), 2000, null)).getId();
+    }
+}
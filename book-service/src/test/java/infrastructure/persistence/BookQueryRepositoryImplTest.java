@@ -0,0 +1,76 @@
+package infrastructure.persistence;
+
+import application.dto.BookPageResponse;
+import application.query.BookField;
+import application.query.BookQueryRepository;
+import domain.model.Book;
+import domain.model.BookCursor;
+import domain.repository.BookRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.turkcell.bookservice.BookServiceApplication;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BookServiceApplication.class)
+class BookQueryRepositoryImplTest {
+
+    @Autowired
+    private BookQueryRepository bookQueryRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void pagesCoverEveryBookOnceWithOnlyRequestedFields() {
+        Set<UUID> saved = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(bookRepository.save(Book.create("Title " + i, "Author", UUID.randomUUID().toString(),
+                    2000, "Long description " + i)).getId());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<UUID> listed = new ArrayList<>();
+        BookCursor cursor = null;
+        BookPageResponse page;
+        do {
+            page = bookQueryRepository.findPage(cursor, 2, BookField.parse("title,author"));
+            assertTrue(page.getItems().size() <= 2);
+            for (Map<String, Object> item : page.getItems()) {
+                assertEquals(List.of("id", "title", "author"), List.copyOf(item.keySet()));
+                listed.add((UUID) item.get("id"));
+            }
+            cursor = page.isHasNext() ? BookCursor.decode(page.getNextCursor()) : null;
+        } while (cursor != null);
+
+        assertTrue(listed.containsAll(saved));
+        assertEquals(listed.size(), new HashSet<>(listed).size());
+        assertFalse(page.isHasNext());
+        // Projections only, no entities loaded
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void unknownFieldsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BookField.parse("title,price"));
+        assertThrows(IllegalArgumentException.class, () -> BookCursor.decode("not-a-cursor"));
+    }
+}
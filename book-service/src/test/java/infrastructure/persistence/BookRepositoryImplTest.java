@@ -0,0 +1,96 @@
+package infrastructure.persistence;
+
+import domain.model.Book;
+import domain.repository.BookRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.turkcell.bookservice.BookServiceApplication;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = BookServiceApplication.class)
+class BookRepositoryImplTest {
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void savingNewBookIssuesSingleInsertWithoutSelect() {
+        bookRepository.save(newBook());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void updatingLoadedBookKeepsItsId() {
+        Book saved = bookRepository.save(newBook());
+        Book loaded = bookRepository.findById(saved.getId()).orElseThrow();
+        loaded.update("Updated title", null, null);
+
+        statistics.clear();
+        Book updated = bookRepository.update(loaded);
+
+        assertEquals(saved.getId(), updated.getId());
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    void repeatedReadsByIdAndIsbnIssueNoSql() {
+        Book saved = bookRepository.save(newBook());
+        // First reads fill the second-level cache
+        bookRepository.findById(saved.getId()).orElseThrow();
+        bookRepository.findByIsbn(saved.getIsbn()).orElseThrow();
+
+        statistics.clear();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(saved.getTitle(), bookRepository.findById(saved.getId()).orElseThrow().getTitle());
+            assertEquals(saved.getId(), bookRepository.findByIsbn(saved.getIsbn()).orElseThrow().getId());
+        }
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 6);
+        assertEquals(3, statistics.getNaturalIdCacheHitCount());
+    }
+
+    @Test
+    void cachedBookFollowsUpdatesAndDeletes() {
+        Book saved = bookRepository.save(newBook());
+        Book loaded = bookRepository.findById(saved.getId()).orElseThrow();
+        loaded.update("Changed title", null, null);
+        bookRepository.update(loaded);
+
+        assertEquals("Changed title", bookRepository.findById(saved.getId()).orElseThrow().getTitle());
+        assertEquals("Changed title", bookRepository.findByIsbn(saved.getIsbn()).orElseThrow().getTitle());
+
+        bookRepository.delete(saved.getId());
+
+        assertTrue(bookRepository.findById(saved.getId()).isEmpty());
+        assertTrue(bookRepository.findByIsbn(saved.getIsbn()).isEmpty());
+    }
+
+    private Book newBook() {
+        return Book.create("Title", "Author", UUID.randomUUID().toString(), 2020, "Description");
+    }
+}
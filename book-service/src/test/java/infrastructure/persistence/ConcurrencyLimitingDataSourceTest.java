@@ -0,0 +1,74 @@
+package infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    @Test
+    void connectionsBeyondLimitFailUntilOneIsClosed() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection first = mock(Connection.class);
+        Connection second = mock(Connection.class);
+        when(target.getConnection()).thenReturn(first, second);
+
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(50));
+
+        Connection held = dataSource.getConnection();
+        assertEquals(1, dataSource.getActive());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        // Closing twice must release the permit, and close the pooled connection, only once
+        held.close();
+        held.close();
+        verify(first, times(1)).close();
+        assertTrue(held.isClosed());
+        assertEquals(0, dataSource.getActive());
+
+        dataSource.getConnection().close();
+        verify(second).close();
+        assertEquals(0, dataSource.getActive());
+    }
+
+    @Test
+    void permitIsReleasedWhenPoolFails() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(50));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getActive());
+    }
+
+    @Test
+    void permitIsReleasedWhenClosingTheConnectionFails() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        doThrow(new SQLException("broken")).when(connection).close();
+
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(50));
+
+        Connection held = dataSource.getConnection();
+        assertThrows(SQLException.class, held::close);
+        assertEquals(0, dataSource.getActive());
+    }
+}
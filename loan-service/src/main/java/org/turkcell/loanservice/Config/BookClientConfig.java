@@ -0,0 +1,64 @@
+package org.turkcell.loanservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.turkcell.loanservice.application.client.BookCatalog;
+import org.turkcell.loanservice.infrastructure.client.BookServiceClient;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+@Configuration
+public class BookClientConfig {
+
+    @Bean
+    @LoadBalanced
+    @ConditionalOnProperty(name = "loan.book-client.enabled", havingValue = "true", matchIfMissing = true)
+    public RestClient.Builder bookServiceRestClientBuilder() {
+        // Eureka üzerinden servis adıyla çözülen RestClient
+        return RestClient.builder();
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "loan.book-client.enabled", havingValue = "true", matchIfMissing = true)
+    public BookServiceClient bookCatalog(RestClient.Builder bookServiceRestClientBuilder,
+                                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                         @Value("${loan.book-client.base-url:http://book-service}") String baseUrl,
+                                         @Value("${loan.book-client.max-wait:5ms}") Duration maxWait,
+                                         @Value("${loan.book-client.max-batch-size:200}") int maxBatchSize,
+                                         @Value("${loan.book-client.time-budget:500ms}") Duration timeBudget,
+                                         @Value("${loan.book-client.positive-ttl:10m}") Duration positiveTtl,
+                                         @Value("${loan.book-client.negative-ttl:5s}") Duration negativeTtl,
+                                         @Value("${loan.book-client.cache-size:100000}") long cacheSize) {
+        // Kitap kontrollerini gruplayıp tek istekte gönderen istemci
+        // Bağlantı ve okuma zaman aşımı bütçeye bağlıdır; cevap vermeyen book-service gönderen thread'leri
+        // ve aynı kitaplar için bekleyen istekleri süresiz tutmasın
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeBudget);
+        requestFactory.setReadTimeout(timeBudget);
+        RestClient restClient = bookServiceRestClientBuilder.baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+        // Sanal thread modunda her grup kendi sanal thread'inde gönderilir
+        ExecutorService sender = virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(4);
+        return new BookServiceClient(restClient, sender, maxWait, maxBatchSize, timeBudget,
+                positiveTtl, negativeTtl, cacheSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "loan.book-client.enabled", havingValue = "false")
+    public BookCatalog acceptAllBookCatalog() {
+        // book-service olmadan çalışırken (testler) tüm kitapları var kabul et
+        return bookIds -> Set.of();
+    }
+}
@@ -0,0 +1,49 @@
+package org.turkcell.loanservice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.turkcell.loanservice.infrastructure.persistence.ConcurrencyLimitingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+
+@Configuration
+@ConditionalOnProperty(name = "loan.db-limiter.enabled", havingValue = "true")
+public class DatabaseLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        // Bağlantı havuzunun önüne eşzamanlılık sınırlayıcı koy
+        int maxConcurrent = environment.getProperty("loan.db-limiter.max-concurrent", Integer.class, 10);
+        Duration acquireTimeout = environment.getProperty("loan.db-limiter.acquire-timeout", Duration.class,
+                Duration.ofSeconds(2));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    return new ConcurrencyLimitingDataSource(dataSource, maxConcurrent, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseLimiterMetrics(DataSource dataSource) {
+        // Kullanımdaki ve izin bekleyen bağlantı sayıları
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitingDataSource limited) {
+                Gauge.builder("loan.db.limiter.active", limited, ConcurrencyLimitingDataSource::getActive)
+                        .register(registry);
+                Gauge.builder("loan.db.limiter.waiting", limited, ConcurrencyLimitingDataSource::getWaiting)
+                        .register(registry);
+            }
+        };
+    }
+}
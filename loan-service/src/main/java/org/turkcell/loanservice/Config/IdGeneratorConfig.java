@@ -0,0 +1,22 @@
+package org.turkcell.loanservice.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.turkcell.loanservice.domain.model.IdGenerator;
+import org.turkcell.loanservice.domain.model.Ids;
+import org.turkcell.loanservice.domain.model.UuidV7Generator;
+
+
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${loan.id-generator:v7}") String version) {
+        // v7: zamana göre sıralı (varsayılan), v4: rastgele
+        IdGenerator generator = "v4".equalsIgnoreCase(version) ? IdGenerator.RANDOM : new UuidV7Generator();
+        // Loan nesneleri kimliklerini bu üreticiden alır
+        Ids.use(generator);
+        return generator;
+    }
+}
@@ -0,0 +1,70 @@
+package org.turkcell.loanservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.turkcell.loanservice.application.dto.LoanEventMessage;
+import org.turkcell.loanservice.infrastructure.cache.CachingLoanRepository;
+import org.turkcell.loanservice.infrastructure.persistence.repository.LoanRepositoryImpl;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Ödünç okumaları için Caffeine önbellek konfigürasyonu
+ * Her sorgu tipi loan.cache.* altından ayrı ayrı açılıp kapatılabilir
+ */
+@Configuration
+public class LoanCacheConfig {
+
+    @Bean
+    @Primary
+    public CachingLoanRepository cachingLoanRepository(
+            LoanRepositoryImpl loanRepositoryImpl,
+            MeterRegistry meterRegistry,
+            @Value("${loan.cache.by-id.enabled:true}") boolean byIdEnabled,
+            @Value("${loan.cache.by-user.enabled:true}") boolean byUserEnabled,
+            @Value("${loan.cache.by-book.enabled:true}") boolean byBookEnabled,
+            @Value("${loan.cache.maximum-size:10000}") long maximumSize,
+            @Value("${loan.cache.ttl:PT5M}") Duration ttl) {
+        // Kapalı olan önbellekler null verilir, repository doğrudan veritabanına gider
+        return new CachingLoanRepository(
+                loanRepositoryImpl,
+                byIdEnabled ? buildCache("loans.byId", maximumSize, ttl, meterRegistry) : null,
+                byUserEnabled ? buildCache("loans.byUser", maximumSize, ttl, meterRegistry) : null,
+                byBookEnabled ? buildCache("loans.byBook", maximumSize, ttl, meterRegistry) : null,
+                Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(ttl).build());
+    }
+
+    /**
+     * Diğer instance'lardaki değişiklikleri loan-events üzerinden alıp önbellekten çıkarır
+     * Binding: loanCacheInvalidation-in-0
+     */
+    @Bean
+    public Consumer<LoanEventMessage> loanCacheInvalidation(CachingLoanRepository cachingLoanRepository) {
+        return event -> {
+            UUID userId = event.getLoan() == null ? null : event.getLoan().getUserId();
+            UUID bookId = event.getLoan() == null ? null : event.getLoan().getBookId();
+            cachingLoanRepository.evict(event.getLoanId(), userId, bookId);
+        };
+    }
+
+    /**
+     * Boyut ve TTL ile sınırlı, istatistikleri actuator'a açılan bir önbellek oluşturur
+     * Metrikler: cache.gets{result=hit|miss}, cache.evictions, cache.size (tag: cache=name)
+     */
+    private <K, V> Cache<K, V> buildCache(String name, long maximumSize, Duration ttl, MeterRegistry meterRegistry) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+}
@@ -1,19 +1,113 @@
 package org.turkcell.loanservice.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.turkcell.loanservice.application.client.BookCatalog;
+import org.turkcell.loanservice.application.dto.LoanEventMessage;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.event.LoanEventOrigin;
+import org.turkcell.loanservice.application.event.LoanEventPublisher;
+import org.turkcell.loanservice.application.query.LoanQueryRepository;
+import org.turkcell.loanservice.application.service.ActiveLoanCounter;
+import org.turkcell.loanservice.application.service.LoanArchiver;
 import org.turkcell.loanservice.application.service.LoanService;
+import org.turkcell.loanservice.application.service.OverdueLoanSweeper;
+import org.turkcell.loanservice.application.statistics.LoanStatistics;
+import org.turkcell.loanservice.application.statistics.LoanStatisticsStore;
+import org.turkcell.loanservice.domain.model.LoanEventType;
+import org.turkcell.loanservice.domain.model.LoanStatus;
 import org.turkcell.loanservice.domain.repository.LoanRepository;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Consumer;
+
 
 @Configuration
+@EnableScheduling
 public class LoanServiceConfig {
 
 
     @Bean
-    public LoanService loanService(LoanRepository loanRepository) {
-        // Yeni bir LoanService oluştur ve repository'yi ver
-        return new LoanService(loanRepository);
+    public LoanService loanService(LoanRepository loanRepository, LoanQueryRepository loanQueryRepository,
+                                   LoanEventPublisher loanEventPublisher, ActiveLoanCounter activeLoanCounter,
+                                   BookCatalog bookCatalog, LoanStatistics loanStatistics,
+                                   PlatformTransactionManager transactionManager) {
+        // Yeni bir LoanService oluştur, repository'leri, olay yayıncısını, sayaçları, kitap katalogunu,
+        // istatistikleri ve oluşturma transaction'ları için şablonu ver
+        return new LoanService(loanRepository, loanQueryRepository, loanEventPublisher, activeLoanCounter,
+                bookCatalog, loanStatistics, new TransactionTemplate(transactionManager));
+    }
+
+    @Bean
+    public LoanStatistics loanStatistics(LoanStatisticsStore loanStatisticsStore) {
+        // Özet tablolara periyodik olarak yazılan artımlı istatistik sayaçları
+        return new LoanStatistics(loanStatisticsStore);
     }
-}
 
+    @Bean
+    public ActiveLoanCounter activeLoanCounter(@Value("${loan.borrowing-limit.max-active-loans:5}") int maxActiveLoans) {
+        // Kullanıcı başına iade edilmemiş ödünç sayaçları
+        return new ActiveLoanCounter(maxActiveLoans);
+    }
+
+    /**
+     * Diğer instance'lardaki oluşturma, iade ve silmeleri loan-events üzerinden alıp ödünç sayaçlarına uygular
+     * Bu instance'ın kendi olayları atlanır, sayaçlar commit sonrasında zaten güncellendi.
+     * Güncellemelerde önceki durum olayda yoktur; onlar limit reddi öncesi veritabanı kontrolüyle düzelir
+     * Binding: borrowingLimitSync-in-0
+     */
+    @Bean
+    public Consumer<LoanEventMessage> borrowingLimitSync(ActiveLoanCounter activeLoanCounter) {
+        return event -> {
+            LoanResponse loan = event.getLoan();
+            if (LoanEventOrigin.LOCAL.equals(event.getOrigin()) || loan == null || loan.getUserId() == null) {
+                return;
+            }
+            switch (event.getEventType()) {
+                case LOAN_CREATED, LOAN_DELETED -> {
+                    // İade edilmemiş bir kaydın oluşması veya silinmesi sayacı değiştirir
+                    if (loan.getStatus() != LoanStatus.RETURNED) {
+                        activeLoanCounter.applyRemoteChange(loan.getUserId(),
+                                event.getEventType() == LoanEventType.LOAN_CREATED ? 1 : -1);
+                    }
+                }
+                case LOAN_RETURNED -> activeLoanCounter.applyRemoteChange(loan.getUserId(), -1);
+                default -> {
+                    // LOAN_UPDATED, LOAN_OVERDUE: sayacı değiştirmez ya da değişiklik olaydan çıkarılamaz
+                }
+            }
+        };
+    }
+
+    @Bean
+    public OverdueLoanSweeper overdueLoanSweeper(LoanRepository loanRepository,
+                                                 LoanStatistics loanStatistics,
+                                                 LoanEventPublisher loanEventPublisher,
+                                                 PlatformTransactionManager transactionManager,
+                                                 MeterRegistry meterRegistry,
+                                                 @Value("${loan.overdue-sweep.batch-size:500}") int batchSize,
+                                                 @Value("${loan.overdue-sweep.max-batches:10000}") int maxBatches) {
+        // Süresi geçen kayıtları gruplar halinde OVERDUE yapan sweeper
+        return new OverdueLoanSweeper(loanRepository, loanStatistics, loanEventPublisher,
+                new TransactionTemplate(transactionManager), meterRegistry, batchSize, maxBatches,
+                Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public LoanArchiver loanArchiver(LoanRepository loanRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${loan.archive.min-age:90d}") Duration minAge,
+                                     @Value("${loan.archive.batch-size:1000}") int batchSize,
+                                     @Value("${loan.archive.max-batches:1000}") int maxBatches,
+                                     @Value("${loan.archive.pause:200ms}") Duration pause) {
+        // Eski iade edilmiş kayıtları gruplar halinde loans_history tablosuna taşıyan arşivleyici
+        return new LoanArchiver(loanRepository, meterRegistry, minAge, batchSize, maxBatches, pause,
+                Clock.systemDefaultZone());
+    }
+}
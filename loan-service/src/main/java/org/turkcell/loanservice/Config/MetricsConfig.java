@@ -0,0 +1,41 @@
+package org.turkcell.loanservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.turkcell.loanservice.application.service.LoanService;
+import org.turkcell.loanservice.infrastructure.metrics.TimingInterceptor;
+import org.turkcell.loanservice.infrastructure.persistence.repository.LoanQueryRepositoryImpl;
+import org.turkcell.loanservice.infrastructure.persistence.repository.LoanRepositoryImpl;
+
+
+@Configuration
+public class MetricsConfig {
+
+    // Advisor'lar altyapı rolünde tanımlanır, @Transactional ile aynı proxy'ye eklenirler
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor loanServiceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // LoanService'in her public metodu: loan.service{operation, outcome, exception}
+        return TimingInterceptor.advisorFor(LoanService.class, "loan.service", meterRegistry);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor loanRepositoryTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // Veritabanına giden repository çağrıları (önbellek isabetleri hariç) ve eşleme süresi
+        return TimingInterceptor.advisorFor(LoanRepositoryImpl.class, "loan.repository", meterRegistry);
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor loanQueryRepositoryTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // Projeksiyon okumaları (sayfalı liste, dışa aktarma)
+        return TimingInterceptor.advisorFor(LoanQueryRepositoryImpl.class, "loan.query.repository", meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package org.turkcell.loanservice.application.client;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * book-service'teki katalog için port
+ * Ödünç oluşturulurken kitabın gerçekten var olup olmadığını kontrol etmek için kullanılır
+ */
+public interface BookCatalog {
+
+    // Verilen kitap ID'lerinden katalogda olmayanları döndür (hepsi varsa boş küme)
+    Set<UUID> findUnknown(Collection<UUID> bookIds);
+}
@@ -0,0 +1,35 @@
+package org.turkcell.loanservice.application.dto;
+
+import java.util.UUID;
+
+public class BookLoanStatisticsResponse {
+    // Kitabın ID'si
+    private UUID bookId;
+
+    // Kitabın şimdiye kadarki toplam ödünç sayısı (arşivlenmiş kayıtlar dahil)
+    private long totalLoans;
+
+    public BookLoanStatisticsResponse() {
+    }
+
+    public BookLoanStatisticsResponse(UUID bookId, long totalLoans) {
+        this.bookId = bookId;
+        this.totalLoans = totalLoans;
+    }
+
+    public UUID getBookId() {
+        return bookId;
+    }
+
+    public void setBookId(UUID bookId) {
+        this.bookId = bookId;
+    }
+
+    public long getTotalLoans() {
+        return totalLoans;
+    }
+
+    public void setTotalLoans(long totalLoans) {
+        this.totalLoans = totalLoans;
+    }
+}
@@ -0,0 +1,66 @@
+package org.turkcell.loanservice.application.dto;
+
+public class BulkLoanItemResult {
+    // İstek listesindeki sırası
+    private int index;
+
+    // Kayıt oluşturuldu mu?
+    private boolean created;
+
+    // Oluşturulan ödünç kaydı (başarısızsa null)
+    private LoanResponse loan;
+
+    // Hata mesajı (başarılıysa null)
+    private String error;
+
+    public BulkLoanItemResult() {
+    }
+
+    public static BulkLoanItemResult success(int index, LoanResponse loan) {
+        BulkLoanItemResult result = new BulkLoanItemResult();
+        result.index = index;
+        result.created = true;
+        result.loan = loan;
+        return result;
+    }
+
+    public static BulkLoanItemResult failure(int index, String error) {
+        BulkLoanItemResult result = new BulkLoanItemResult();
+        result.index = index;
+        result.created = false;
+        result.error = error;
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public void setCreated(boolean created) {
+        this.created = created;
+    }
+
+    public LoanResponse getLoan() {
+        return loan;
+    }
+
+    public void setLoan(LoanResponse loan) {
+        this.loan = loan;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,52 @@
+package org.turkcell.loanservice.application.dto;
+
+import java.util.List;
+
+public class BulkLoanResponse {
+    // Başarıyla oluşturulan kayıt sayısı
+    private int createdCount;
+
+    // Doğrulamadan geçemeyen kayıt sayısı
+    private int failedCount;
+
+    // İstek sırasıyla her bir kaydın sonucu
+    private List<BulkLoanItemResult> results;
+
+    public BulkLoanResponse() {
+    }
+
+    public BulkLoanResponse(List<BulkLoanItemResult> results) {
+        this.results = results;
+        for (BulkLoanItemResult result : results) {
+            if (result.isCreated()) {
+                createdCount++;
+            } else {
+                failedCount++;
+            }
+        }
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public void setFailedCount(int failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    public List<BulkLoanItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkLoanItemResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,87 @@
+package org.turkcell.loanservice.application.dto;
+
+import org.turkcell.loanservice.domain.model.LoanEventType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class LoanEventMessage {
+    // Olayın benzersiz kimliği (tüketicilerde tekrarları ayıklamak için)
+    private UUID eventId;
+
+    // Olay tipi
+    private LoanEventType eventType;
+
+    // Olayın gerçekleştiği an
+    private Instant occurredAt;
+
+    // Olayın ait olduğu ödünç kaydının ID'si
+    private UUID loanId;
+
+    // Olay anındaki ödünç kaydı (silme olaylarında silinmeden önceki hali)
+    private LoanResponse loan;
+
+    // Olayı yayınlayan instance'ın kimliği (kendi olaylarını ayırt etmek için)
+    private UUID origin;
+
+    public LoanEventMessage() {
+    }
+
+    public LoanEventMessage(UUID eventId, LoanEventType eventType, Instant occurredAt, UUID loanId, LoanResponse loan,
+                            UUID origin) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.occurredAt = occurredAt;
+        this.loanId = loanId;
+        this.loan = loan;
+        this.origin = origin;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(UUID eventId) {
+        this.eventId = eventId;
+    }
+
+    public LoanEventType getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(LoanEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public UUID getLoanId() {
+        return loanId;
+    }
+
+    public void setLoanId(UUID loanId) {
+        this.loanId = loanId;
+    }
+
+    public LoanResponse getLoan() {
+        return loan;
+    }
+
+    public void setLoan(LoanResponse loan) {
+        this.loan = loan;
+    }
+
+    public UUID getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(UUID origin) {
+        this.origin = origin;
+    }
+}
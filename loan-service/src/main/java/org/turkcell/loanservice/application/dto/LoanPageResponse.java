@@ -0,0 +1,47 @@
+package org.turkcell.loanservice.application.dto;
+
+import java.util.List;
+
+public class LoanPageResponse {
+    // Bu sayfadaki ödünç kayıtları
+    private List<LoanResponse> items;
+
+    // Sonraki sayfayı almak için gönderilecek imleç (son sayfada null)
+    private String nextCursor;
+
+    // Başka sayfa var mı?
+    private boolean hasNext;
+
+    public LoanPageResponse() {
+    }
+
+    public LoanPageResponse(List<LoanResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public List<LoanResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<LoanResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,92 @@
+package org.turkcell.loanservice.application.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class LoanStatisticsResponse {
+    // Şu anda süresi geçmiş ödünç sayısı
+    private long overdueLoans;
+
+    // İstenen tarih aralığının ilk günü
+    private LocalDate from;
+
+    // İstenen tarih aralığının son günü
+    private LocalDate to;
+
+    // Aralıktaki her gün için ödünç sayısı (ödünç olmayan günler 0)
+    private List<DailyCheckouts> dailyCheckouts;
+
+    public LoanStatisticsResponse() {
+    }
+
+    public LoanStatisticsResponse(long overdueLoans, LocalDate from, LocalDate to, List<DailyCheckouts> dailyCheckouts) {
+        this.overdueLoans = overdueLoans;
+        this.from = from;
+        this.to = to;
+        this.dailyCheckouts = dailyCheckouts;
+    }
+
+    public long getOverdueLoans() {
+        return overdueLoans;
+    }
+
+    public void setOverdueLoans(long overdueLoans) {
+        this.overdueLoans = overdueLoans;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public List<DailyCheckouts> getDailyCheckouts() {
+        return dailyCheckouts;
+    }
+
+    public void setDailyCheckouts(List<DailyCheckouts> dailyCheckouts) {
+        this.dailyCheckouts = dailyCheckouts;
+    }
+
+    public static class DailyCheckouts {
+        // Ödünç alma günü
+        private LocalDate date;
+
+        // O gün alınan ödünç sayısı
+        private long checkouts;
+
+        public DailyCheckouts() {
+        }
+
+        public DailyCheckouts(LocalDate date, long checkouts) {
+            this.date = date;
+            this.checkouts = checkouts;
+        }
+
+        public LocalDate getDate() {
+            return date;
+        }
+
+        public void setDate(LocalDate date) {
+            this.date = date;
+        }
+
+        public long getCheckouts() {
+            return checkouts;
+        }
+
+        public void setCheckouts(long checkouts) {
+            this.checkouts = checkouts;
+        }
+    }
+}
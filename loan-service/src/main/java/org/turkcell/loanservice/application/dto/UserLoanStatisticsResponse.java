@@ -0,0 +1,35 @@
+package org.turkcell.loanservice.application.dto;
+
+import java.util.UUID;
+
+public class UserLoanStatisticsResponse {
+    // Kullanıcının ID'si
+    private UUID userId;
+
+    // İade edilmemiş (ACTIVE veya OVERDUE) ödünç sayısı
+    private int activeLoans;
+
+    public UserLoanStatisticsResponse() {
+    }
+
+    public UserLoanStatisticsResponse(UUID userId, int activeLoans) {
+        this.userId = userId;
+        this.activeLoans = activeLoans;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public void setUserId(UUID userId) {
+        this.userId = userId;
+    }
+
+    public int getActiveLoans() {
+        return activeLoans;
+    }
+
+    public void setActiveLoans(int activeLoans) {
+        this.activeLoans = activeLoans;
+    }
+}
@@ -0,0 +1,15 @@
+package org.turkcell.loanservice.application.event;
+
+import java.util.UUID;
+
+/**
+ * Bu uygulama instance'ının olaylara yazılan kimliği
+ * Tüm olayları alan tüketiciler kendi yayınladıkları olayları bununla ayırt eder
+ */
+public final class LoanEventOrigin {
+    // Her açılışta yeniden üretilir
+    public static final UUID LOCAL = UUID.randomUUID();
+
+    private LoanEventOrigin() {
+    }
+}
@@ -0,0 +1,16 @@
+package org.turkcell.loanservice.application.event;
+
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.domain.model.LoanEventType;
+
+import java.util.UUID;
+
+/**
+ * Ödünç olaylarını yayınlamak için kullanılan port
+ * Çağıran transaction içinde çalışır: olay ancak ödünç kaydıyla birlikte commit edilirse yayınlanır
+ */
+public interface LoanEventPublisher {
+
+    // Bir ödünç kaydı için olay kaydet (silme olaylarında loan silinmeden önceki halidir)
+    void publish(LoanEventType type, UUID loanId, LoanResponse loan);
+}
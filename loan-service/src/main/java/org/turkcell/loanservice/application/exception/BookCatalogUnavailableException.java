@@ -0,0 +1,11 @@
+package org.turkcell.loanservice.application.exception;
+
+/**
+ * book-service zaman bütçesi içinde cevap veremediğinde fırlatılır
+ */
+public class BookCatalogUnavailableException extends RuntimeException {
+
+    public BookCatalogUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,13 @@
+package org.turkcell.loanservice.application.exception;
+
+import java.util.UUID;
+
+/**
+ * Kullanıcı aynı anda tutabileceği en fazla ödünç sayısına ulaştığında fırlatılır
+ */
+public class BorrowingLimitExceededException extends RuntimeException {
+
+    public BorrowingLimitExceededException(UUID userId, int limit) {
+        super("User " + userId + " already holds the maximum of " + limit + " active loans");
+    }
+}
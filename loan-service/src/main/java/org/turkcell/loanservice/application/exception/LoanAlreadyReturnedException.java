@@ -0,0 +1,13 @@
+package org.turkcell.loanservice.application.exception;
+
+import java.util.UUID;
+
+/**
+ * Zaten iade edilmiş bir ödünç tekrar iade edilmek istendiğinde fırlatılır
+ */
+public class LoanAlreadyReturnedException extends RuntimeException {
+
+    public LoanAlreadyReturnedException(UUID loanId) {
+        super("Loan " + loanId + " has already been returned");
+    }
+}
@@ -0,0 +1,26 @@
+package org.turkcell.loanservice.application.query;
+
+import org.turkcell.loanservice.application.dto.LoanPageResponse;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.domain.model.LoanCursor;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+/**
+ * Okuma tarafı için sorgu interface'i
+ * Kayıtlar entity ve domain model oluşturulmadan doğrudan response objelerine okunur
+ */
+public interface LoanQueryRepository {
+
+    // Tüm ödünç kayıtlarını imleçten sonra gelen bir sayfa olarak getir (after null ise ilk sayfa)
+    LoanPageResponse findPage(LoanCursor after, int limit, LoanSort sort);
+
+    // Filtrelere uyan kayıtlardan imleçten sonra gelen bir sayfa getir
+    LoanPageResponse search(LoanSearchCriteria criteria, LoanCursor after, int limit, LoanSort sort);
+
+    // Filtreye uyan tüm kayıtları belleğe toplamadan tek tek consumer'a ver (null filtreler uygulanmaz)
+    void streamAll(LoanStatus status, LocalDate from, LocalDate to, Consumer<LoanResponse> consumer);
+}
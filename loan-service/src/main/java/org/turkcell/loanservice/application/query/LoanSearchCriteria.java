@@ -0,0 +1,19 @@
+package org.turkcell.loanservice.application.query;
+
+import org.turkcell.loanservice.domain.model.LoanStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Ödünç aramasında birleştirilebilen filtreler
+ * null olan filtreler uygulanmaz; tarih aralıklarının iki ucu da dahildir
+ */
+public record LoanSearchCriteria(LoanStatus status,
+                                 UUID userId,
+                                 UUID bookId,
+                                 LocalDate loanDateFrom,
+                                 LocalDate loanDateTo,
+                                 LocalDate dueDateFrom,
+                                 LocalDate dueDateTo) {
+}
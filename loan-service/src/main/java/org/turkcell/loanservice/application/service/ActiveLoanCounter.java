@@ -0,0 +1,205 @@
+package org.turkcell.loanservice.application.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kullanıcı başına iade edilmemiş (ACTIVE veya OVERDUE) ödünç sayısını bellekte tutar
+ * Limit kontrolü veritabanına gitmeden sabit zamanda yapılır
+ *
+ * Sayaçlar ConcurrentHashMap.compute ile güncellenir: kilit sadece anahtarın bulunduğu
+ * hash bucket'ı üzerindedir, farklı kullanıcılar birbirini beklemez.
+ * Sıfıra düşen sayaçlar silinir, böylece map sadece ödünç tutan kullanıcılar kadar büyür
+ *
+ * Sayaçlar instance başınadır. Diğer instance'lardaki oluşturma, iade ve silmeler loan-events üzerinden
+ * applyRemoteChange ile birkaç milisaniye içinde yansıtılır; olayla ifade edilemeyen değişiklikler
+ * (güncellemeler) ve kaçan olaylar için limit reddi öncesi kullanıcının veritabanındaki sayısına bakılır
+ * (reconcileUser) ve periyodik eşitleme tüm sayaçları veritabanına çeker.
+ * Olaylar henüz ulaşmamışken farklı instance'lara aynı anda gelen istekler limiti kısa süreliğine aşabilir
+ */
+public class ActiveLoanCounter {
+    // Kullanıcı ID'si -> sayaç
+    private final ConcurrentHashMap<UUID, Slot> counts = new ConcurrentHashMap<>();
+
+    // Her sayaç değişikliğinde artan sıra numarası; eşitleme anlık görüntüsünden sonra değişen sayaçları ayırt eder
+    private final AtomicLong epoch = new AtomicLong();
+
+    // Bir kullanıcının aynı anda tutabileceği en fazla ödünç sayısı (0 veya negatifse limit yok)
+    private final int limit;
+
+    public ActiveLoanCounter(int limit) {
+        this.limit = limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Limit aşılmıyorsa kullanıcının sayacını bir artırır
+     * @return Artırıldıysa true, kullanıcı limitteyse false
+     */
+    public boolean tryAcquire(UUID userId) {
+        return tryAcquire(userId, 0);
+    }
+
+    /**
+     * Kullanıcının sayacını bir azaltır
+     */
+    public void release(UUID userId) {
+        change(userId, -1, 0);
+    }
+
+    /**
+     * Kullanıcının sayacını artırır; açık transaction geri alınırsa artışı geri verir
+     * Transaction bitene kadar değişiklik işlemde sayılır ve eşitleme bu kullanıcıyı atlar
+     * @return Artırıldıysa true, kullanıcı limitteyse false
+     */
+    public boolean tryAcquireInTransaction(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return tryAcquire(userId);
+        }
+        if (!tryAcquire(userId, 1)) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                change(userId, status == STATUS_COMMITTED ? 0 : -1, -1);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Kullanıcının sayacını açık transaction commit edildikten sonra azaltır
+     * Transaction yoksa hemen azaltır; varsa transaction bitene kadar değişiklik işlemde sayılır
+     */
+    public void releaseAfterCommit(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(userId);
+            return;
+        }
+        change(userId, 0, 1);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                change(userId, status == STATUS_COMMITTED ? -1 : 0, -1);
+            }
+        });
+    }
+
+    /**
+     * Başka bir instance'ta commit edilmiş bir değişikliği (oluşturma +1, iade veya silme -1) sayaca uygular
+     * Tekrarlanan veya kaçan olayların yol açtığı kaymalar eşitlemede düzeltilir
+     */
+    public void applyRemoteChange(UUID userId, int delta) {
+        change(userId, delta, 0);
+    }
+
+    /**
+     * Kullanıcının güncel sayacını döndürür
+     */
+    public int get(UUID userId) {
+        Slot slot = counts.get(userId);
+        return slot == null ? 0 : slot.count();
+    }
+
+    /**
+     * Eşitleme için veritabanı okunmadan hemen önce alınır
+     * Bu değerden sonra değişen sayaçlar reconcile tarafından ezilmez
+     */
+    public long epoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Sayaçları veritabanındaki gerçek sayılarla eşitler
+     * Uygulama açılırken ve belirli aralıklarla çağrılır; sayaçlarda oluşabilecek kaymaları düzeltir.
+     * Anlık görüntü okunurken işlemde olan (commit edilmemiş) veya okunmaya başladıktan sonra değişen
+     * kullanıcılar atlanır; onların değerleri görüntüden daha yenidir ve bir sonraki eşitlemede düzeltilir
+     * @param actual Kullanıcı ID'si -> veritabanındaki iade edilmemiş ödünç sayısı
+     * @param snapshotEpoch Veritabanı okunmadan önce epoch() ile alınan değer
+     * @return Değeri düzeltilen kullanıcı sayısı
+     */
+    public int reconcile(Map<UUID, Integer> actual, long snapshotEpoch) {
+        int corrected = 0;
+        // Veritabanında ödüncü kalmamış kullanıcıları temizle
+        for (UUID userId : counts.keySet()) {
+            if (!actual.containsKey(userId) && reconcileUser(userId, 0, snapshotEpoch)) {
+                corrected++;
+            }
+        }
+        // Diğerlerini veritabanındaki sayıya eşitle
+        for (Map.Entry<UUID, Integer> entry : actual.entrySet()) {
+            if (reconcileUser(entry.getKey(), entry.getValue(), snapshotEpoch)) {
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * Tek bir kullanıcının sayacını veritabanındaki sayısına eşitler
+     * Sayaç işlemdeyse veya anlık görüntüden sonra değiştiyse dokunulmaz
+     * @param actual Kullanıcının veritabanındaki iade edilmemiş ödünç sayısı
+     * @param snapshotEpoch Veritabanı okunmadan önce epoch() ile alınan değer
+     * @return Sayaç değiştiyse true
+     */
+    public boolean reconcileUser(UUID userId, int actual, long snapshotEpoch) {
+        boolean[] corrected = new boolean[1];
+        counts.compute(userId, (key, current) -> {
+            if (current != null && !current.settledAt(snapshotEpoch)) {
+                return current;
+            }
+            int count = current == null ? 0 : current.count();
+            if (count == actual) {
+                return current;
+            }
+            corrected[0] = true;
+            return actual > 0 ? new Slot(actual, 0, epoch.incrementAndGet()) : null;
+        });
+        return corrected[0];
+    }
+
+    // Limit aşılmıyorsa sayacı artırır, pending kadar işlemde değişiklik ekler
+    private boolean tryAcquire(UUID userId, int pending) {
+        boolean[] acquired = new boolean[1];
+        counts.compute(userId, (key, current) -> {
+            int count = current == null ? 0 : current.count();
+            if (limit > 0 && count >= limit) {
+                return current;
+            }
+            acquired[0] = true;
+            return new Slot(count + 1, (current == null ? 0 : current.pending()) + pending, epoch.incrementAndGet());
+        });
+        return acquired[0];
+    }
+
+    // Sayacı ve işlemdeki değişiklik sayısını değiştirir; ikisi de sıfırsa kaydı siler
+    private void change(UUID userId, int countDelta, int pendingDelta) {
+        counts.compute(userId, (key, current) -> {
+            int count = Math.max(0, (current == null ? 0 : current.count()) + countDelta);
+            int pending = Math.max(0, (current == null ? 0 : current.pending()) + pendingDelta);
+            return count == 0 && pending == 0 ? null : new Slot(count, pending, epoch.incrementAndGet());
+        });
+    }
+
+    /**
+     * Bir kullanıcının sayacı
+     * @param count İade edilmemiş ödünç sayısı
+     * @param pending Henüz commit veya rollback olmamış değişiklik sayısı
+     * @param changedAt Son değişikliğin epoch değeri
+     */
+    private record Slot(int count, int pending, long changedAt) {
+        // Anlık görüntü bu sayacın son halini yansıtıyor mu
+        boolean settledAt(long snapshotEpoch) {
+            return pending == 0 && changedAt <= snapshotEpoch;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.turkcell.loanservice.application.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Belirli bir süreden önce iade edilmiş ödünç kayıtlarını sıcak tablodan arşive (loans_history) taşır
+ * Kayıtlar sınırlı boyutlu gruplar halinde taşınır, gruplar arasında beklenir ki
+ * arşivleme sıcak sorgularla veritabanı kaynakları için yarışmasın
+ */
+public class LoanArchiver {
+    // Veritabanı işlemleri için repository
+    private final LoanRepository loanRepository;
+
+    // Bu süreden daha önce iade edilmiş kayıtlar arşivlenir
+    private final Duration minAge;
+
+    // Tek bir grupta taşınacak en fazla kayıt
+    private final int batchSize;
+
+    // Tek bir çalıştırmada en fazla kaç grup işleneceği
+    private final int maxBatches;
+
+    // İki grup arasında beklenecek süre
+    private final Duration pause;
+
+    // "Bugün" bilgisini almak için saat
+    private final Clock clock;
+
+    // Her çalıştırmada taşınan kayıt sayısı
+    private final DistributionSummary rowsArchived;
+
+    // Her çalıştırmanın süresi
+    private final Timer archiveDuration;
+
+    public LoanArchiver(LoanRepository loanRepository, MeterRegistry meterRegistry, Duration minAge,
+                        int batchSize, int maxBatches, Duration pause, Clock clock) {
+        this.loanRepository = loanRepository;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pause = pause;
+        this.clock = clock;
+        this.rowsArchived = DistributionSummary.builder("loan.archive.rows")
+                .description("Returned loans moved to loans_history per archive run")
+                .register(meterRegistry);
+        this.archiveDuration = Timer.builder("loan.archive.duration")
+                .description("Duration of one archive run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Eski iade edilmiş kayıtları gruplar halinde arşive taşır
+     * Bir grup batchSize'dan az kayıt taşıdığında arşivlenecek kayıt kalmamıştır
+     * @return Bu çalıştırmada taşınan toplam kayıt sayısı
+     */
+    public int archive() {
+        LocalDate returnedBefore = LocalDate.now(clock).minusDays(minAge.toDays());
+        Timer.Sample sample = Timer.start();
+
+        // Arşiv bölümleri grupların transaction'ı dışında, önceden oluşturulur
+        loanRepository.prepareArchive(returnedBefore);
+
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int archived = loanRepository.archiveReturned(returnedBefore, batchSize);
+                total += archived;
+                if (archived < batchSize) {
+                    break;
+                }
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            // Uygulama kapanıyor; taşınan gruplar zaten commit edildi
+            Thread.currentThread().interrupt();
+        }
+
+        sample.stop(archiveDuration);
+        rowsArchived.record(total);
+        return total;
+    }
+}
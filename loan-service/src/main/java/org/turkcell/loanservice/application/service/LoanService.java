@@ -1,16 +1,39 @@
 package org.turkcell.loanservice.application.service;
 
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.turkcell.loanservice.application.client.BookCatalog;
+import org.turkcell.loanservice.application.dto.BookLoanStatisticsResponse;
+import org.turkcell.loanservice.application.dto.BulkLoanItemResult;
+import org.turkcell.loanservice.application.dto.BulkLoanResponse;
+import org.turkcell.loanservice.application.dto.LoanPageResponse;
 import org.turkcell.loanservice.application.dto.LoanRequest;
 import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.dto.LoanStatisticsResponse;
 import org.turkcell.loanservice.application.dto.LoanUpdateRequest;
+import org.turkcell.loanservice.application.dto.UserLoanStatisticsResponse;
+import org.turkcell.loanservice.application.event.LoanEventPublisher;
+import org.turkcell.loanservice.application.exception.BorrowingLimitExceededException;
+import org.turkcell.loanservice.application.exception.LoanAlreadyReturnedException;
+import org.turkcell.loanservice.application.query.LoanQueryRepository;
+import org.turkcell.loanservice.application.query.LoanSearchCriteria;
+import org.turkcell.loanservice.application.statistics.LoanStatistics;
 import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanCursor;
+import org.turkcell.loanservice.domain.model.LoanEventType;
+import org.turkcell.loanservice.domain.model.LoanPage;
+import org.turkcell.loanservice.domain.model.LoanSort;
 import org.turkcell.loanservice.domain.model.LoanStatus;
 import org.turkcell.loanservice.domain.repository.LoanRepository;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -18,20 +41,73 @@ import java.util.stream.Collectors;
  * Bu sınıf ödünç işlemleriyle ilgili tüm business logic'i içerir
  */
 public class LoanService {
+    // Bir sayfada döndürülebilecek en fazla kayıt sayısı
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Toplu oluşturmada tek istekte kabul edilen en fazla kayıt sayısı
+    public static final int MAX_BULK_SIZE = 500;
+
+    // İstatistiklerde tek istekte istenebilecek en fazla gün sayısı
+    public static final int MAX_STATISTICS_DAYS = 366;
+
     // Veritabanı işlemleri için repository
     private final LoanRepository loanRepository;
 
-    // Constructor - repository'yi enjekte eder
-    public LoanService(LoanRepository loanRepository) {
+    // Liste ve dışa aktarım okumaları için (entity oluşturmadan)
+    private final LoanQueryRepository loanQueryRepository;
+
+    // Ödünç olaylarını kayıtla aynı transaction içinde yayınlamak için
+    private final LoanEventPublisher eventPublisher;
+
+    // Kullanıcı başına iade edilmemiş ödünç sayaçları (limit kontrolü için)
+    private final ActiveLoanCounter activeLoanCounter;
+
+    // Kitabın book-service katalogunda olup olmadığını kontrol etmek için
+    private final BookCatalog bookCatalog;
+
+    // Kitap, gün ve süresi geçmiş ödünç sayaçları (istatistikler için)
+    private final LoanStatistics loanStatistics;
+
+    // Oluşturmada sadece yazma kısmını transaction'a almak için; katalog kontrolü bağlantı tutmadan yapılır
+    private final TransactionTemplate transactionTemplate;
+
+    // Constructor - repository'leri, olay yayıncısını, ödünç sayaçlarını, kitap katalogunu, istatistikleri
+    // ve transaction şablonunu enjekte eder
+    public LoanService(LoanRepository loanRepository, LoanQueryRepository loanQueryRepository,
+                       LoanEventPublisher eventPublisher, ActiveLoanCounter activeLoanCounter,
+                       BookCatalog bookCatalog, LoanStatistics loanStatistics,
+                       TransactionTemplate transactionTemplate) {
         this.loanRepository = loanRepository;
+        this.loanQueryRepository = loanQueryRepository;
+        this.eventPublisher = eventPublisher;
+        this.activeLoanCounter = activeLoanCounter;
+        this.bookCatalog = bookCatalog;
+        this.loanStatistics = loanStatistics;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
      * Yeni bir ödünç kaydı oluşturur
      * @param request Ödünç bilgilerini içeren request objesi
      * @return Oluşturulan ödünç kaydının bilgileri
+     * @throws BorrowingLimitExceededException Kullanıcı ödünç limitindeyse hata fırlatır
+     * @throws IllegalArgumentException Kitap katalogda yoksa hata fırlatır
      */
     public LoanResponse createLoan(LoanRequest request) {
+        // Kitabın katalogda olduğunu transaction açmadan kontrol et; book-service beklenirken
+        // veritabanı bağlantısı ve limiter izni tutulmasın
+        requireBookExists(request.getBookId());
+
+        return transactionTemplate.execute(status -> saveLoan(request));
+    }
+
+    /**
+     * Katalog kontrolünden geçmiş ödünç kaydını transaction içinde oluşturur
+     */
+    private LoanResponse saveLoan(LoanRequest request) {
+        // Kullanıcının ödünç limitini bellekteki sayaçtan kontrol et
+        acquireLoanSlot(request.getUserId());
+
         // Ödünç alma tarihi gönderilmemişse bugünün tarihini kullan
         LocalDate loanDate = request.getLoanDate();
         if (loanDate == null) {
@@ -46,22 +122,102 @@ public class LoanService {
                 request.getDueDate()
         );
 
-        // Veritabanına kaydet
+        // Veritabanına kaydet, commit sonrası sayaçlara ekle
         Loan savedLoan = loanRepository.save(loan);
+        loanStatistics.recordCreated(savedLoan);
+
+        // Response DTO'suna dönüştür, olayı kaydet ve döndür
+        LoanResponse response = mapToResponse(savedLoan);
+        eventPublisher.publish(LoanEventType.LOAN_CREATED, response.getId(), response);
+        return response;
+    }
+
+    /**
+     * Birden fazla ödünç kaydını tek seferde oluşturur
+     * Kitaplar transaction dışında tek seferde kontrol edilir, geçerli kayıtlar tek transaction içinde toplu olarak kaydedilir,
+     * geçersiz kayıtlar için sıralarıyla birlikte hata mesajı döndürülür
+     * @param requests Ödünç bilgilerini içeren request listesi
+     * @return Her bir kaydın sonucu
+     * @throws IllegalArgumentException Liste boşsa veya MAX_BULK_SIZE'ı aşıyorsa hata fırlatır
+     */
+    public BulkLoanResponse createLoans(List<LoanRequest> requests) {
+        // Liste boyutunu kontrol et
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one loan request is required");
+        }
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " loans can be created at once");
+        }
+
+        // Tüm kitapları book-service'e transaction açmadan, tek seferde sor
+        Set<UUID> unknownBooks = bookCatalog.findUnknown(requests.stream()
+                .filter(request -> request != null && request.getBookId() != null)
+                .map(LoanRequest::getBookId)
+                .collect(Collectors.toSet()));
+
+        return transactionTemplate.execute(status -> saveLoans(requests, unknownBooks));
+    }
+
+    /**
+     * Katalog kontrolü yapılmış istekleri doğrular ve geçerli olanları transaction içinde kaydeder
+     */
+    private BulkLoanResponse saveLoans(List<LoanRequest> requests, Set<UUID> unknownBooks) {
+        BulkLoanItemResult[] results = new BulkLoanItemResult[requests.size()];
+        List<Loan> loansToSave = new ArrayList<>(requests.size());
+        List<Integer> savedIndexes = new ArrayList<>(requests.size());
+
+        // Her isteği doğrula, geçerli olanlardan Loan oluştur
+        for (int i = 0; i < requests.size(); i++) {
+            LoanRequest request = requests.get(i);
+            String error = validate(request);
+            if (error != null) {
+                results[i] = BulkLoanItemResult.failure(i, error);
+                continue;
+            }
+
+            // Katalogda olmayan kitap için kayıt oluşturma
+            if (unknownBooks.contains(request.getBookId())) {
+                results[i] = BulkLoanItemResult.failure(i, "Book not found with id: " + request.getBookId());
+                continue;
+            }
+
+            // Kullanıcı limitteyse bu kaydı atla
+            if (!tryAcquireLoanSlot(request.getUserId())) {
+                results[i] = BulkLoanItemResult.failure(i, "Borrowing limit of "
+                        + activeLoanCounter.getLimit() + " active loans reached");
+                continue;
+            }
+
+            LocalDate loanDate = request.getLoanDate() != null ? request.getLoanDate() : LocalDate.now();
+            loansToSave.add(new Loan(request.getBookId(), request.getUserId(), loanDate, request.getDueDate()));
+            savedIndexes.add(i);
+        }
+
+        // Geçerli kayıtları tek seferde kaydet
+        if (!loansToSave.isEmpty()) {
+            List<Loan> savedLoans = loanRepository.saveAll(loansToSave);
+            for (int i = 0; i < savedLoans.size(); i++) {
+                int index = savedIndexes.get(i);
+                loanStatistics.recordCreated(savedLoans.get(i));
+                LoanResponse response = mapToResponse(savedLoans.get(i));
+                eventPublisher.publish(LoanEventType.LOAN_CREATED, response.getId(), response);
+                results[index] = BulkLoanItemResult.success(index, response);
+            }
+        }
 
-        // Response DTO'suna dönüştür ve döndür
-        return mapToResponse(savedLoan);
+        return new BulkLoanResponse(List.of(results));
     }
 
     /**
      * ID'ye göre ödünç kaydı bulur
      * @param id Aranacak ödünç kaydının ID'si
+     * @param includeHistory true ise arşivlenmiş kayıtlar da aranır
      * @return Bulunan ödünç kaydı
      * @throws RuntimeException Kayıt bulunamazsa hata fırlatır
      */
-    public LoanResponse getLoanById(UUID id) {
+    public LoanResponse getLoanById(UUID id, boolean includeHistory) {
         // Veritabanından kaydı bul
-        var optionalLoan = loanRepository.findById(id);
+        var optionalLoan = includeHistory ? loanRepository.findByIdIncludingHistory(id) : loanRepository.findById(id);
 
         // Kayıt yoksa hata fırlat
         if (optionalLoan.isEmpty()) {
@@ -74,59 +230,80 @@ public class LoanService {
     }
 
     /**
-     * Tüm ödünç kayıtlarını getirir
-     * @return Tüm ödünç kayıtlarının listesi
+     * Tüm ödünç kayıtlarını sayfa sayfa getirir
+     * @param cursor Önceki sayfanın döndürdüğü imleç (ilk sayfa için null)
+     * @param size Sayfa boyutu (1 ile MAX_PAGE_SIZE arasına çekilir)
+     * @param sort Sıralama
+     * @return İstenen sayfa ve sonraki sayfanın imleci
      */
-    public List<LoanResponse> getAllLoans() {
-        // Veritabanından tüm kayıtları al
-        List<Loan> allLoans = loanRepository.findAll();
-
-        // Her bir Loan'ı LoanResponse'a dönüştür
-        List<LoanResponse> responseList = new ArrayList<>();
-        for (Loan loan : allLoans) {
-            LoanResponse response = mapToResponse(loan);
-            responseList.add(response);
-        }
-
-        return responseList;
+    public LoanPageResponse getAllLoans(String cursor, int size, LoanSort sort) {
+        // Sadece istenen sayfayı doğrudan response olarak oku
+        return loanQueryRepository.findPage(decodeCursor(cursor, sort), clampPageSize(size), sort);
     }
 
     /**
-     * Belirli bir kullanıcıya ait ödünç kayıtlarını getirir
+     * Belirli bir kullanıcıya ait ödünç kayıtlarını sayfa sayfa getirir
      * @param userId Kullanıcının ID'si
-     * @return Kullanıcıya ait ödünç kayıtlarının listesi
+     * @param cursor Önceki sayfanın döndürdüğü imleç (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @param sort Sıralama
+     * @param includeHistory true ise arşivlenmiş kayıtlar da listelenir
+     * @return Kullanıcıya ait kayıtlardan bir sayfa
      */
-    public List<LoanResponse> getLoansByUserId(UUID userId) {
-        // Veritabanından kullanıcıya ait kayıtları al
-        List<Loan> userLoans = loanRepository.findByUserId(userId);
+    public LoanPageResponse getLoansByUserId(UUID userId, String cursor, int size, LoanSort sort,
+                                             boolean includeHistory) {
+        // Veritabanından kullanıcıya ait kayıtlardan bir sayfa al
+        LoanCursor after = decodeCursor(cursor, sort);
+        int limit = clampPageSize(size);
+        LoanPage page = includeHistory
+                ? loanRepository.findPageByUserIdIncludingHistory(userId, after, limit, sort)
+                : loanRepository.findPageByUserId(userId, after, limit, sort);
+
+        return mapToPageResponse(page);
+    }
 
-        // Her bir Loan'ı LoanResponse'a dönüştür
-        List<LoanResponse> responseList = new ArrayList<>();
-        for (Loan loan : userLoans) {
-            LoanResponse response = mapToResponse(loan);
-            responseList.add(response);
-        }
+    /**
+     * Belirli bir kitaba ait ödünç kayıtlarını sayfa sayfa getirir
+     * @param bookId Kitabın ID'si
+     * @param cursor Önceki sayfanın döndürdüğü imleç (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @param sort Sıralama
+     * @return Kitaba ait kayıtlardan bir sayfa
+     */
+    public LoanPageResponse getLoansByBookId(UUID bookId, String cursor, int size, LoanSort sort) {
+        // Veritabanından kitaba ait kayıtlardan bir sayfa al
+        LoanPage page = loanRepository.findPageByBookId(bookId, decodeCursor(cursor, sort), clampPageSize(size), sort);
 
-        return responseList;
+        return mapToPageResponse(page);
     }
 
     /**
-     * Belirli bir kitaba ait ödünç kayıtlarını getirir
-     * @param bookId Kitabın ID'si
-     * @return Kitaba ait ödünç kayıtlarının listesi
+     * Birleştirilebilen filtrelerle ödünç kayıtlarını sayfa sayfa arar
+     * @param criteria Filtreler (null olanlar uygulanmaz)
+     * @param cursor Önceki sayfanın döndürdüğü imleç (ilk sayfa için null)
+     * @param size Sayfa boyutu
+     * @param sort Sıralama
+     * @return Filtrelere uyan kayıtlardan bir sayfa
+     * @throws IllegalArgumentException Tarih aralığının başlangıcı bitişinden sonraysa hata fırlatır
      */
-    public List<LoanResponse> getLoansByBookId(UUID bookId) {
-        // Veritabanından kitaba ait kayıtları al
-        List<Loan> bookLoans = loanRepository.findByBookId(bookId);
+    public LoanPageResponse searchLoans(LoanSearchCriteria criteria, String cursor, int size, LoanSort sort) {
+        // Boş sonuç için veritabanına gitmeden önce aralıkları kontrol et
+        requireValidRange("loanDate", criteria.loanDateFrom(), criteria.loanDateTo());
+        requireValidRange("dueDate", criteria.dueDateFrom(), criteria.dueDateTo());
 
-        // Her bir Loan'ı LoanResponse'a dönüştür
-        List<LoanResponse> responseList = new ArrayList<>();
-        for (Loan loan : bookLoans) {
-            LoanResponse response = mapToResponse(loan);
-            responseList.add(response);
-        }
+        return loanQueryRepository.search(criteria, decodeCursor(cursor, sort), clampPageSize(size), sort);
+    }
 
-        return responseList;
+    /**
+     * Filtreye uyan tüm ödünç kayıtlarını dışa aktarım için tek tek verir
+     * Kayıtlar listeye toplanmaz, her biri okunduğu anda doğrudan response olarak consumer'a iletilir
+     * @param status Durum filtresi (opsiyonel)
+     * @param from Ödünç alma tarihi alt sınırı, dahil (opsiyonel)
+     * @param to Ödünç alma tarihi üst sınırı, dahil (opsiyonel)
+     * @param consumer Her kayıt için çağrılacak fonksiyon
+     */
+    public void exportLoans(LoanStatus status, LocalDate from, LocalDate to, Consumer<LoanResponse> consumer) {
+        loanQueryRepository.streamAll(status, from, to, consumer);
     }
 
     /**
@@ -136,9 +313,10 @@ public class LoanService {
      * @return Güncellenmiş ödünç kaydının bilgileri
      * @throws RuntimeException Kayıt bulunamazsa hata fırlatır
      */
+    @Transactional
     public LoanResponse updateLoan(UUID id, LoanUpdateRequest request) {
-        // Önce kaydı bul
-        var optionalLoan = loanRepository.findById(id);
+        // Önce kaydın güncel halini bul (sayaç ve istatistik kararları önbellekteki kopyaya dayanmamalı)
+        var optionalLoan = loanRepository.findCurrentById(id);
 
         // Kayıt yoksa hata fırlat
         if (optionalLoan.isEmpty()) {
@@ -147,9 +325,17 @@ public class LoanService {
 
         Loan loan = optionalLoan.get();
 
+        // Sayaçları düzeltmek için güncelleme öncesi durumu sakla
+        UUID previousUserId = loan.getUserId();
+        boolean heldBefore = !loan.isReturned();
+        LoanStatistics.Contribution before = LoanStatistics.Contribution.of(loan);
+
         // Sadece gönderilen alanları güncelle
         // Kitap ID'si gönderildiyse güncelle
         if (request.getBookId() != null) {
+            if (!request.getBookId().equals(loan.getBookId())) {
+                requireBookExists(request.getBookId());
+            }
             loan.setBookId(request.getBookId());
         }
 
@@ -173,11 +359,28 @@ public class LoanService {
             loan.returnLoan(request.getReturnDate());
         }
 
+        // Ödünç başka bir kullanıcıya geçtiyse veya iade edildiyse sayaçları güncelle
+        boolean heldAfter = !loan.isReturned();
+        boolean userChanged = !previousUserId.equals(loan.getUserId());
+        if (heldAfter && (!heldBefore || userChanged)) {
+            acquireLoanSlot(loan.getUserId());
+        }
+        if (heldBefore && (!heldAfter || userChanged)) {
+            activeLoanCounter.releaseAfterCommit(previousUserId);
+        }
+
         // Güncellenmiş kaydı veritabanına kaydet
+        // Kayıt okunduktan sonra başka bir istek tarafından güncellendiyse @Version sayesinde
+        // OptimisticLockingFailureException fırlatılır, değişiklik sessizce ezilmez
         Loan updatedLoan = loanRepository.save(loan);
 
-        // Response'a dönüştür ve döndür
-        return mapToResponse(updatedLoan);
+        // Kitap, tarih veya durum değiştiyse istatistikleri düzelt
+        loanStatistics.recordUpdated(before, updatedLoan);
+
+        // Response'a dönüştür, olayı kaydet ve döndür
+        LoanResponse response = mapToResponse(updatedLoan);
+        eventPublisher.publish(LoanEventType.LOAN_UPDATED, id, response);
+        return response;
     }
 
     /**
@@ -185,59 +388,226 @@ public class LoanService {
      * @param id Silinecek kaydın ID'si
      * @throws RuntimeException Kayıt bulunamazsa hata fırlatır
      */
+    @Transactional
     public void deleteLoan(UUID id) {
-        // Önce kaydın var olup olmadığını kontrol et
-        boolean exists = loanRepository.existsById(id);
+        // Önce kaydın güncel halini bul (sayaç ve istatistik kararları önbellekteki kopyaya dayanmamalı)
+        var optionalLoan = loanRepository.findCurrentById(id);
 
         // Kayıt yoksa hata fırlat
-        if (!exists) {
+        if (optionalLoan.isEmpty()) {
             throw new RuntimeException("Loan not found with id: " + id);
         }
 
-        // Kaydı sil
+        // İade edilmemiş bir ödünç siliniyorsa kullanıcının sayacını azalt
+        Loan loan = optionalLoan.get();
+        if (!loan.isReturned()) {
+            activeLoanCounter.releaseAfterCommit(loan.getUserId());
+        }
+
+        // Kaydı sil, sayaçlardan çıkar ve olayı kaydet
         loanRepository.deleteById(id);
+        loanStatistics.recordDeleted(loan);
+        // Diğer instance'lar kullanıcının sayacını düşürebilsin diye silinen kaydın son hali gönderilir
+        eventPublisher.publish(LoanEventType.LOAN_DELETED, id, mapToResponse(loan));
     }
 
     /**
      * Bir ödünç kaydını iade eder (durumu RETURNED yapar)
+     * İade koşullu tek bir UPDATE ile yapılır, aynı kaydı aynı anda iade eden iki istekten sadece biri başarılı olur.
+     * Kaydın önceki durumu aynı ifadeden döner; böylece süresi geçmiş sayacı ek okuma yapmadan düzeltilir
      * @param id İade edilecek kaydın ID'si
      * @param returnDate İade tarihi (gönderilmezse bugünün tarihi kullanılır)
      * @return İade edilmiş ödünç kaydının bilgileri
      * @throws RuntimeException Kayıt bulunamazsa hata fırlatır
+     * @throws LoanAlreadyReturnedException Kayıt zaten iade edilmişse hata fırlatır
      */
+    @Transactional
     public LoanResponse returnLoan(UUID id, LocalDate returnDate) {
-        // Önce kaydı bul
-        var optionalLoan = loanRepository.findById(id);
-
-        // Kayıt yoksa hata fırlat
-        if (optionalLoan.isEmpty()) {
-            throw new RuntimeException("Loan not found with id: " + id);
-        }
-
-        Loan loan = optionalLoan.get();
-
         // İade tarihi gönderilmemişse bugünün tarihini kullan
         LocalDate actualReturnDate = returnDate;
         if (actualReturnDate == null) {
             actualReturnDate = LocalDate.now();
         }
 
-        // Kitabı iade et
-        loan.returnLoan(actualReturnDate);
+        // Kayıt iade edilmemişse tek UPDATE ile iade et
+        var optionalReturned = loanRepository.markReturned(id, actualReturnDate);
 
-        // Güncellenmiş kaydı veritabanına kaydet
-        Loan returnedLoan = loanRepository.save(loan);
+        // Güncellenen satır yoksa nedenini bul
+        if (optionalReturned.isEmpty()) {
+            if (!loanRepository.existsById(id)) {
+                throw new RuntimeException("Loan not found with id: " + id);
+            }
+            throw new LoanAlreadyReturnedException(id);
+        }
+
+        Loan returnedLoan = optionalReturned.get().getLoan();
+
+        // Kitap ilk kez iade edildi, kullanıcının sayacını azalt
+        activeLoanCounter.releaseAfterCommit(returnedLoan.getUserId());
+        loanStatistics.recordStatusChange(optionalReturned.get().getPreviousStatus(), LoanStatus.RETURNED, 1);
+
+        // Response'a dönüştür, olayı kaydet ve döndür
+        LoanResponse response = mapToResponse(returnedLoan);
+        eventPublisher.publish(LoanEventType.LOAN_RETURNED, id, response);
+        return response;
+    }
+
+    /**
+     * Süresi geçmiş ödünç sayısını ve tarih aralığındaki günlük ödünç sayılarını getirir
+     * Değerler artımlı tutulan sayaçlardan okunur, loans tablosu taranmaz
+     * @param from Aralığın ilk günü (gönderilmezse to'dan 29 gün önce)
+     * @param to Aralığın son günü (gönderilmezse bugün)
+     * @return İstatistikler; aralıktaki her gün için bir satır
+     * @throws IllegalArgumentException Aralık boşsa veya MAX_STATISTICS_DAYS'ten uzunsa hata fırlatır
+     */
+    public LoanStatisticsResponse getStatistics(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        requireValidRange("date", start, end);
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_STATISTICS_DAYS) {
+            throw new IllegalArgumentException("At most " + MAX_STATISTICS_DAYS + " days can be requested at once");
+        }
+
+        // Ödünç olmayan günleri 0 ile doldur
+        Map<LocalDate, Long> counts = loanStatistics.dailyCheckouts(start, end);
+        List<LoanStatisticsResponse.DailyCheckouts> days = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            days.add(new LoanStatisticsResponse.DailyCheckouts(day, counts.getOrDefault(day, 0L)));
+        }
+        return new LoanStatisticsResponse(loanStatistics.overdueLoans(), start, end, days);
+    }
+
+    /**
+     * Kullanıcının iade edilmemiş ödünç sayısını bellekteki limit sayacından getirir
+     * @param userId Kullanıcının ID'si
+     * @return Kullanıcı istatistikleri
+     */
+    public UserLoanStatisticsResponse getUserStatistics(UUID userId) {
+        return new UserLoanStatisticsResponse(userId, activeLoanCounter.get(userId));
+    }
+
+    /**
+     * Kitabın şimdiye kadarki toplam ödünç sayısını getirir
+     * @param bookId Kitabın ID'si
+     * @return Kitap istatistikleri
+     */
+    public BookLoanStatisticsResponse getBookStatistics(UUID bookId) {
+        return new BookLoanStatisticsResponse(bookId, loanStatistics.totalLoansOfBook(bookId));
+    }
+
+    /**
+     * Kullanıcının sayacını artırır, limitteyse hata fırlatır
+     * Transaction geri alınırsa artış da geri alınır
+     */
+    private void acquireLoanSlot(UUID userId) {
+        if (!tryAcquireLoanSlot(userId)) {
+            throw new BorrowingLimitExceededException(userId, activeLoanCounter.getLimit());
+        }
+    }
+
+    /**
+     * Kullanıcının sayacını artırmayı dener; bellekteki sayaç limitteyse reddetmeden önce veritabanına bakar
+     * Sayaç başka bir instance'ta yapılan ve henüz ulaşmamış bir iade veya silmeyi görmemiş olabilir
+     * @return Artırıldıysa true, kullanıcı gerçekten limitteyse false
+     */
+    private boolean tryAcquireLoanSlot(UUID userId) {
+        if (activeLoanCounter.tryAcquireInTransaction(userId)) {
+            return true;
+        }
+        // Sorgu sırasında değişen sayaç ezilmesin diye epoch sorgudan önce alınır
+        long epoch = activeLoanCounter.epoch();
+        if (!activeLoanCounter.reconcileUser(userId, loanRepository.countUnreturnedLoans(userId), epoch)) {
+            return false;
+        }
+        return activeLoanCounter.tryAcquireInTransaction(userId);
+    }
+
+    /**
+     * Kitap book-service katalogunda yoksa hata fırlatır
+     */
+    private void requireBookExists(UUID bookId) {
+        if (bookId != null && !bookCatalog.findUnknown(List.of(bookId)).isEmpty()) {
+            throw new IllegalArgumentException("Book not found with id: " + bookId);
+        }
+    }
+
+    /**
+     * Toplu oluşturmadaki bir isteğin zorunlu alanlarını kontrol eder
+     * @return Hata mesajı ya da geçerliyse null
+     */
+    private String validate(LoanRequest request) {
+        if (request == null) {
+            return "Loan request is empty";
+        }
+        if (request.getBookId() == null) {
+            return "bookId is required";
+        }
+        if (request.getUserId() == null) {
+            return "userId is required";
+        }
+        if (request.getDueDate() == null) {
+            return "dueDate is required";
+        }
+        if (request.getLoanDate() != null && request.getDueDate().isBefore(request.getLoanDate())) {
+            return "dueDate must not be before loanDate";
+        }
+        return null;
+    }
+
+    /**
+     * İstemcinin gönderdiği imleç token'ını çözer
+     * @param cursor Token (boş olabilir)
+     * @param sort İsteğin sıralaması; imleç aynı sıralamayla üretilmiş olmalı
+     * @return İmleç ya da ilk sayfa için null
+     * @throws IllegalArgumentException Token geçersizse ya da başka bir sıralamaya aitse hata fırlatır
+     */
+    private LoanCursor decodeCursor(String cursor, LoanSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        LoanCursor decoded = LoanCursor.decode(cursor);
+        decoded.requireSort(sort);
+        return decoded;
+    }
+
+    /**
+     * Tarih aralığının iki ucu da verildiyse başlangıcın bitişten sonra olmadığını kontrol eder
+     */
+    private void requireValidRange(String field, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException(field + " range is empty: " + from + " is after " + to);
+        }
+    }
+
+    /**
+     * Sayfa boyutunu 1 ile MAX_PAGE_SIZE arasında tutar
+     */
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * LoanPage domain objesini LoanPageResponse DTO'suna dönüştürür
+     */
+    private LoanPageResponse mapToPageResponse(LoanPage page) {
+        // Sayfadaki her bir Loan'ı LoanResponse'a dönüştür
+        List<LoanResponse> responseList = new ArrayList<>(page.getItems().size());
+        for (Loan loan : page.getItems()) {
+            responseList.add(mapToResponse(loan));
+        }
 
-        // Response'a dönüştür ve döndür
-        return mapToResponse(returnedLoan);
+        // Sonraki sayfa varsa imleci token'a çevir
+        String nextCursor = page.hasNext() ? page.getNextCursor().encode() : null;
+        return new LoanPageResponse(responseList, nextCursor);
     }
 
     /**
      * Loan domain objesini LoanResponse DTO'suna dönüştürür
+     * (benchmarks modülünden ölçülebilmesi için package-private)
      * @param loan Dönüştürülecek Loan objesi
      * @return LoanResponse objesi
      */
-    private LoanResponse mapToResponse(Loan loan) {
+    LoanResponse mapToResponse(Loan loan) {
         // Loan objesindeki tüm bilgileri al
         UUID id = loan.getId();
         UUID bookId = loan.getBookId();
@@ -0,0 +1,105 @@
+package org.turkcell.loanservice.application.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.event.LoanEventPublisher;
+import org.turkcell.loanservice.application.statistics.LoanStatistics;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanEventType;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Süresi geçen ödünç kayıtlarını ACTIVE durumundan OVERDUE durumuna taşır
+ * Kayıtlar belleğe yüklenmez, sınırlı boyutlu gruplar halinde set-based UPDATE ile güncellenir.
+ * Her grup ve güncellenen kayıtların LOAN_OVERDUE olayları aynı transaction'da outbox'a yazılır;
+ * böylece diğer instance'lar önbelleklerindeki eski ACTIVE kayıtları çıkarır
+ */
+public class OverdueLoanSweeper {
+    // Veritabanı işlemleri için repository
+    private final LoanRepository loanRepository;
+
+    // Süresi geçmiş ödünç sayacını artırmak için
+    private final LoanStatistics loanStatistics;
+
+    // Güncellenen kayıtların olaylarını outbox'a yazmak için
+    private final LoanEventPublisher eventPublisher;
+
+    // Her grup kendi transaction'ında çalışır
+    private final TransactionTemplate transactionTemplate;
+
+    // Bir UPDATE'in en fazla kaç satırı kilitleyeceği
+    private final int batchSize;
+
+    // Tek bir çalıştırmada en fazla kaç grup işleneceği
+    private final int maxBatches;
+
+    // "Bugün" bilgisini almak için saat
+    private final Clock clock;
+
+    // Her çalıştırmada güncellenen satır sayısı
+    private final DistributionSummary rowsTouched;
+
+    // Her çalıştırmanın süresi
+    private final Timer sweepDuration;
+
+    public OverdueLoanSweeper(LoanRepository loanRepository, LoanStatistics loanStatistics,
+                              LoanEventPublisher eventPublisher, TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry, int batchSize, int maxBatches, Clock clock) {
+        this.loanRepository = loanRepository;
+        this.loanStatistics = loanStatistics;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.clock = clock;
+        this.rowsTouched = DistributionSummary.builder("loan.overdue.sweep.rows")
+                .description("Loans moved from ACTIVE to OVERDUE per sweep run")
+                .register(meterRegistry);
+        this.sweepDuration = Timer.builder("loan.overdue.sweep.duration")
+                .description("Duration of one overdue sweep run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Süresi geçen kayıtları gruplar halinde OVERDUE yapar
+     * Bir grup batchSize'dan az satır güncellediğinde taranacak kayıt kalmamıştır
+     * @return Bu çalıştırmada güncellenen toplam kayıt sayısı
+     */
+    public int sweep() {
+        LocalDate today = LocalDate.now(clock);
+        Timer.Sample sample = Timer.start();
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int updated = transactionTemplate.execute(status -> sweepBatch(today));
+            total += updated;
+            if (updated < batchSize) {
+                break;
+            }
+        }
+
+        sample.stop(sweepDuration);
+        rowsTouched.record(total);
+        return total;
+    }
+
+    // Bir grubu OVERDUE yapar, olaylarını yazar; sayaç transaction commit edildikten sonra artar
+    private int sweepBatch(LocalDate today) {
+        List<Loan> swept = loanRepository.markOverdue(today, batchSize);
+        for (Loan loan : swept) {
+            eventPublisher.publish(LoanEventType.LOAN_OVERDUE, loan.getId(), new LoanResponse(
+                    loan.getId(), loan.getBookId(), loan.getUserId(), loan.getLoanDate(), loan.getDueDate(),
+                    loan.getReturnDate(), loan.getStatus(), loan.getPenaltyAmount()));
+        }
+        loanStatistics.recordStatusChange(LoanStatus.ACTIVE, LoanStatus.OVERDUE, swept.size());
+        return swept.size();
+    }
+}
@@ -0,0 +1,264 @@
+package org.turkcell.loanservice.application.statistics;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Kitap başına toplam ödünç, günlük ödünç ve süresi geçmiş ödünç sayılarını artımlı olarak tutar
+ *
+ * Ödünç işlemleri sayaçları veritabanında güncellemez: her commit edilen değişiklik bellekteki
+ * fark tamponuna eklenir ve tampon belirli aralıklarla (flush) özet tablolara toplanarak yazılır.
+ * Böylece aynı güne veya aynı kitaba ait satırlar istek transaction'ları boyunca kilitlenmez.
+ * Farklar mutlak değer değil artış olarak yazıldığından birden fazla instance aynı tabloları günceller.
+ *
+ * Süresi geçmiş sayacı sadece durum geçişlerinden (recordStatusChange) beslenir; oluşturma, güncelleme ve
+ * silme de kaydın eski ve yeni durumu üzerinden aynı geçiş hesabını kullanır.
+ *
+ * Okumalar özet tablodaki değere bu instance'ın henüz yazılmamış farklarını ekler; loans tablosu hiç taranmaz.
+ * Flush sırasında birkaç milisaniye boyunca aynı fark iki kez sayılabilir, diğer instance'ların farkları
+ * en geç bir flush aralığı sonra görünür. Uygulama kapanmadan önce son bir flush yapılır
+ */
+public class LoanStatistics {
+    // Yazılmakta olan fark olmadığında kullanılan boş tampon
+    private static final Deltas EMPTY = new Deltas();
+
+    // Özet tablolar
+    private final LoanStatisticsStore store;
+
+    // Kayıtlar tamponu okuma kilidiyle, flush yazma kilidiyle değiştirir; yazılmış bir tampona artık fark eklenmez
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // Yazılmayı bekleyen ve o anda yazılmakta olan farklar
+    private volatile Buffers buffers = new Buffers(new Deltas(), EMPTY);
+
+    public LoanStatistics(LoanStatisticsStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Yeni ödünç kaydını transaction commit edildikten sonra sayaçlara ekler
+     */
+    public void recordCreated(Loan loan) {
+        Contribution contribution = Contribution.of(loan);
+        afterCommit(deltas -> deltas.add(contribution, 1));
+        recordStatusChange(null, contribution.status(), 1);
+    }
+
+    /**
+     * Silinen ödünç kaydını transaction commit edildikten sonra sayaçlardan çıkarır
+     */
+    public void recordDeleted(Loan loan) {
+        Contribution contribution = Contribution.of(loan);
+        afterCommit(deltas -> deltas.add(contribution, -1));
+        recordStatusChange(contribution.status(), null, 1);
+    }
+
+    /**
+     * Güncellenen ödünç kaydının kitap, tarih veya durum değişikliğini sayaçlara yansıtır
+     * @param before Kaydın güncelleme öncesi katkısı
+     * @param after Kaydın güncel hali
+     */
+    public void recordUpdated(Contribution before, Loan after) {
+        Contribution current = Contribution.of(after);
+        if (!Objects.equals(current.bookId(), before.bookId()) || !Objects.equals(current.loanDate(), before.loanDate())) {
+            afterCommit(deltas -> {
+                deltas.add(before, -1);
+                deltas.add(current, 1);
+            });
+        }
+        recordStatusChange(before.status(), current.status(), 1);
+    }
+
+    /**
+     * Kayıtların durum değişikliğini süresi geçmiş sayacına yansıtır
+     * (sweeper: ACTIVE -> OVERDUE, iade: OVERDUE -> RETURNED). Süresi geçmiş sayacı sadece buradan değişir
+     * @param from Önceki durum (yeni kayıt için null)
+     * @param to Yeni durum (silinen kayıt için null)
+     * @param count Bu geçişi yapan kayıt sayısı
+     */
+    public void recordStatusChange(LoanStatus from, LoanStatus to, long count) {
+        long delta = count * (overdue(to) - overdue(from));
+        if (delta != 0) {
+            afterCommit(deltas -> deltas.overdue.addAndGet(delta));
+        }
+    }
+
+    /**
+     * Kitabın şimdiye kadarki toplam ödünç sayısı (arşivlenmiş kayıtlar dahil)
+     */
+    public long totalLoansOfBook(UUID bookId) {
+        Buffers current = buffers;
+        return store.totalLoansOfBook(bookId)
+                + current.pending.books.getOrDefault(bookId, 0L)
+                + current.flushing.books.getOrDefault(bookId, 0L);
+    }
+
+    /**
+     * Tarih aralığındaki günlük ödünç sayıları, tarihe göre sıralı; ödünç olmayan günler dönmez
+     */
+    public Map<LocalDate, Long> dailyCheckouts(LocalDate from, LocalDate to) {
+        Buffers current = buffers;
+        Map<LocalDate, Long> days = new TreeMap<>(store.dailyCheckouts(from, to));
+        mergeDays(days, current.pending.days, from, to);
+        mergeDays(days, current.flushing.days, from, to);
+        days.values().removeIf(count -> count == 0);
+        return days;
+    }
+
+    /**
+     * Şu anda süresi geçmiş (OVERDUE) ödünç sayısı
+     */
+    public long overdueLoans() {
+        Buffers current = buffers;
+        return store.overdueLoans() + current.pending.overdue.get() + current.flushing.overdue.get();
+    }
+
+    /**
+     * Biriken farkları özet tablolara yazar
+     * Yazma herhangi bir hatayla (Error dahil) başarısız olursa yazılamayan farklar bekleyen tampona geri
+     * eklenir; store.add tek transaction olduğundan ya hepsi yazılmıştır ya hiçbiri, bir sonraki flush
+     * aynı farkları iki kez saymadan tekrar dener
+     * @return Yazılan sayaç satırı sayısı
+     */
+    public synchronized int flush() {
+        Deltas flushing;
+        swapLock.writeLock().lock();
+        try {
+            flushing = buffers.pending;
+            if (flushing.isEmpty()) {
+                return 0;
+            }
+            buffers = new Buffers(new Deltas(), flushing);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        boolean written = false;
+        try {
+            store.add(flushing.books, flushing.days, flushing.overdue.get());
+            written = true;
+        } finally {
+            // Yazılamayan farklar, yazılmakta olan tampon görünür durumdayken bekleyen tampona geri eklenir;
+            // okumalar farkları hiçbir an kaybetmez, en fazla flush sırasındaki gibi kısa süre iki kez sayar
+            swapLock.writeLock().lock();
+            try {
+                Deltas pending = buffers.pending;
+                if (!written) {
+                    pending.addAll(flushing);
+                }
+                buffers = new Buffers(pending, EMPTY);
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+        return flushing.size();
+    }
+
+    /**
+     * Değişikliği açık transaction commit edildikten sonra tampona ekler; transaction yoksa hemen ekler
+     */
+    private void afterCommit(Consumer<Deltas> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private void apply(Consumer<Deltas> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(buffers.pending);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static int overdue(LoanStatus status) {
+        return status == LoanStatus.OVERDUE ? 1 : 0;
+    }
+
+    private static void mergeDays(Map<LocalDate, Long> target, Map<LocalDate, Long> deltas,
+                                  LocalDate from, LocalDate to) {
+        deltas.forEach((day, delta) -> {
+            if (!day.isBefore(from) && !day.isAfter(to)) {
+                target.merge(day, delta, Long::sum);
+            }
+        });
+    }
+
+    /**
+     * Bir ödünç kaydının sayaçlara katkısı: kitabına ve ödünç alma gününe birer ödünç,
+     * durumu süresi geçmiş sayacı için recordStatusChange'e verilir
+     */
+    public record Contribution(UUID bookId, LocalDate loanDate, LoanStatus status) {
+        public static Contribution of(Loan loan) {
+            return new Contribution(loan.getBookId(), loan.getLoanDate(), loan.getStatus());
+        }
+    }
+
+    // Yazılmayı bekleyen farklar ve o anda yazılmakta olan farklar (yoksa EMPTY)
+    private record Buffers(Deltas pending, Deltas flushing) {
+    }
+
+    /**
+     * Son flush'tan bu yana biriken farklar
+     * Sıfıra dönen farklar silinir, tampon sadece değişen kitaplar ve günler kadar büyür
+     */
+    private static final class Deltas {
+        // Kitap ID'si -> toplam ödünç farkı
+        private final ConcurrentHashMap<UUID, Long> books = new ConcurrentHashMap<>();
+
+        // Ödünç alma günü -> ödünç farkı
+        private final ConcurrentHashMap<LocalDate, Long> days = new ConcurrentHashMap<>();
+
+        // Süresi geçmiş ödünç farkı
+        private final AtomicLong overdue = new AtomicLong();
+
+        void add(Contribution contribution, long sign) {
+            if (contribution.bookId() != null) {
+                books.merge(contribution.bookId(), sign, LoanStatistics::sumOrRemove);
+            }
+            if (contribution.loanDate() != null) {
+                days.merge(contribution.loanDate(), sign, LoanStatistics::sumOrRemove);
+            }
+        }
+
+        void addAll(Deltas other) {
+            other.books.forEach((bookId, delta) -> books.merge(bookId, delta, LoanStatistics::sumOrRemove));
+            other.days.forEach((day, delta) -> days.merge(day, delta, LoanStatistics::sumOrRemove));
+            overdue.addAndGet(other.overdue.get());
+        }
+
+        boolean isEmpty() {
+            return books.isEmpty() && days.isEmpty() && overdue.get() == 0;
+        }
+
+        int size() {
+            return books.size() + days.size() + (overdue.get() == 0 ? 0 : 1);
+        }
+    }
+
+    // Toplam sıfırsa null döndürerek anahtarı map'ten siler
+    private static Long sumOrRemove(Long current, Long delta) {
+        long sum = current + delta;
+        return sum == 0 ? null : sum;
+    }
+}
@@ -0,0 +1,24 @@
+package org.turkcell.loanservice.application.statistics;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Ödünç istatistiklerinin kalıcı olarak tutulduğu özet tablolar için interface
+ * Sayaçlar loans tablosu taranmadan, birincil anahtar ile okunur
+ */
+public interface LoanStatisticsStore {
+
+    // Farkları mevcut sayaçlara ekle (tek transaction; satır yoksa oluşturulur)
+    void add(Map<UUID, Long> bookDeltas, Map<LocalDate, Long> dailyDeltas, long overdueDelta);
+
+    // Kitabın şimdiye kadarki toplam ödünç sayısını getir (kayıt yoksa 0)
+    long totalLoansOfBook(UUID bookId);
+
+    // Tarih aralığındaki (iki uç dahil) günlük ödünç sayılarını getir; ödünç olmayan günler dönmez
+    Map<LocalDate, Long> dailyCheckouts(LocalDate from, LocalDate to);
+
+    // Süresi geçmiş (OVERDUE) ödünç sayısını getir
+    long overdueLoans();
+}
@@ -0,0 +1,15 @@
+package org.turkcell.loanservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Yeni kayıtlar için birincil anahtar üreticisi
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    // Rastgele (v4) kimlikler; B-tree'ye dağınık yazılır, karşılaştırma için tutulur
+    IdGenerator RANDOM = UUID::randomUUID;
+
+    UUID next();
+}
@@ -0,0 +1,23 @@
+package org.turkcell.loanservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Domain nesnelerinin kimlik ürettiği ortak nokta
+ * Varsayılan UUIDv7'dir, uygulama başlarken yapılandırmaya göre değiştirilebilir.
+ */
+public final class Ids {
+
+    private static volatile IdGenerator generator = new UuidV7Generator();
+
+    private Ids() {
+    }
+
+    public static UUID next() {
+        return generator.next();
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        generator = idGenerator;
+    }
+}
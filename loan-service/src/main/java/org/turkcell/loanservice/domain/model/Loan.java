@@ -33,6 +33,9 @@ public class Loan {
     // Ceza tutarı (geç iade durumunda)
     private BigDecimal penaltyAmount;
 
+    // Kaydın sürüm numarası (henüz kaydedilmemiş yeni kayıtlarda null)
+    private Long version;
+
 
     public Loan() {
     }
@@ -45,8 +48,8 @@ public class Loan {
      * @param dueDate Geri verme tarihi
      */
     public Loan(UUID bookId, UUID userId, LocalDate loanDate, LocalDate dueDate) {
-        // Yeni bir benzersiz ID oluştur
-        this.id = UUID.randomUUID();
+        // Yeni bir benzersiz, zamana göre sıralı ID oluştur
+        this.id = Ids.next();
         this.bookId = bookId;
         this.userId = userId;
         this.loanDate = loanDate;
@@ -121,6 +124,41 @@ public class Loan {
         this.penaltyAmount = penaltyAmount;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Bu kaydın bağımsız bir kopyasını oluşturur
+     * Önbellekte tutulan nesnelerin dışarıda değiştirilmesini önlemek için kullanılır
+     * @return Aynı alanlara sahip yeni bir Loan
+     */
+    public Loan copy() {
+        Loan copy = new Loan();
+        copy.id = id;
+        copy.bookId = bookId;
+        copy.userId = userId;
+        copy.loanDate = loanDate;
+        copy.dueDate = dueDate;
+        copy.returnDate = returnDate;
+        copy.status = status;
+        copy.penaltyAmount = penaltyAmount;
+        copy.version = version;
+        return copy;
+    }
+
+    /**
+     * Kitap iade edildi mi?
+     * ACTIVE ve OVERDUE kayıtlar hala kullanıcıdadır
+     */
+    public boolean isReturned() {
+        return status == LoanStatus.RETURNED;
+    }
+
     /**
      * Ödünç alınan kitabı iade et
      * @param returnDate İade edilme tarihi
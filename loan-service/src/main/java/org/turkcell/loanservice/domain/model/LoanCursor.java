@@ -0,0 +1,100 @@
+package org.turkcell.loanservice.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Keyset sayfalama imleci
+ * Bir önceki sayfanın son kaydının sıralama değerini ve ID'sini tutar
+ * Hangi sıralamayla üretildiği de token'a yazılır; başka bir sıralamayla kullanılırsa
+ * keyset koşulu yanlış alana uygulanıp kayıt atlanmasın diye reddedilir
+ * İstemciye opak bir token olarak gönderilir
+ */
+public class LoanCursor {
+    // Token içindeki alanları ayıran karakter
+    private static final String SEPARATOR = "|";
+
+    // İmlecin üretildiği sıralama
+    private final LoanSort sort;
+
+    // Son kaydın sıralama alanındaki değeri
+    private final LocalDate sortValue;
+
+    // Son kaydın ID'si (aynı tarihli kayıtları ayırmak için)
+    private final UUID id;
+
+    public LoanCursor(LoanSort sort, LocalDate sortValue, UUID id) {
+        this.sort = sort;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * Verilen kaydın bu sıralamadaki konumundan bir imleç oluşturur
+     * @param loan Sayfanın son kaydı
+     * @param sort Kullanılan sıralama
+     * @return Yeni imleç
+     */
+    public static LoanCursor of(Loan loan, LoanSort sort) {
+        return new LoanCursor(sort, sort.valueOf(loan), loan.getId());
+    }
+
+    /**
+     * İmleci URL içinde taşınabilecek bir token'a çevirir
+     * @return Base64 (URL safe) token
+     */
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Token'ı tekrar imlece çevirir
+     * @param token İstemcinin gönderdiği token
+     * @return Çözülen imleç
+     * @throws IllegalArgumentException Token geçersizse hata fırlatır
+     */
+    public static LoanCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(SEPARATOR), -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            LoanSort sort = LoanSort.valueOf(parts[0]);
+            LocalDate sortValue = LocalDate.parse(parts[1]);
+            UUID id = UUID.fromString(parts[2]);
+            return new LoanCursor(sort, sortValue, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    /**
+     * İmlecin verilen sıralamayla üretildiğini doğrular
+     * @param expected İsteğin sıralaması
+     * @throws IllegalArgumentException İmleç başka bir sıralamaya aitse hata fırlatır
+     */
+    public void requireSort(LoanSort expected) {
+        if (sort != expected) {
+            throw new IllegalArgumentException(
+                    "Cursor was issued for sort " + sort + " and cannot be used with sort " + expected);
+        }
+    }
+
+    public LoanSort getSort() {
+        return sort;
+    }
+
+    public LocalDate getSortValue() {
+        return sortValue;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
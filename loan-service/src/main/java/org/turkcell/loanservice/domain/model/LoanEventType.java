@@ -0,0 +1,21 @@
+package org.turkcell.loanservice.domain.model;
+
+/**
+ * Ödünç kaydının yaşam döngüsünde yayınlanan olay tipleri
+ */
+public enum LoanEventType {
+    // Yeni ödünç kaydı oluşturuldu
+    LOAN_CREATED,
+
+    // Ödünç kaydı güncellendi
+    LOAN_UPDATED,
+
+    // Kitap iade edildi
+    LOAN_RETURNED,
+
+    // Son iade tarihi geçti, kayıt sweeper tarafından OVERDUE yapıldı
+    LOAN_OVERDUE,
+
+    // Ödünç kaydı silindi
+    LOAN_DELETED
+}
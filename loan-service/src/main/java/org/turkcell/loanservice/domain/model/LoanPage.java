@@ -0,0 +1,32 @@
+package org.turkcell.loanservice.domain.model;
+
+import java.util.List;
+
+/**
+ * Keyset sayfalama ile okunan tek bir sayfa
+ * Sayfadaki kayıtları ve varsa bir sonraki sayfanın imlecini tutar
+ */
+public class LoanPage {
+    // Bu sayfadaki ödünç kayıtları
+    private final List<Loan> items;
+
+    // Sonraki sayfanın imleci (son sayfada null)
+    private final LoanCursor nextCursor;
+
+    public LoanPage(List<Loan> items, LoanCursor nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Loan> getItems() {
+        return items;
+    }
+
+    public LoanCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
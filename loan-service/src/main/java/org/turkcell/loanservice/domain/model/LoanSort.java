@@ -0,0 +1,52 @@
+package org.turkcell.loanservice.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Ödünç listelerinde kullanılabilecek sıralama seçenekleri
+ * Keyset sayfalama için her sıralama bir tarih alanı ve ID ile sabitlenir
+ */
+public enum LoanSort {
+    // Ödünç alma tarihine göre eskiden yeniye
+    LOAN_DATE_ASC("loanDate", true),
+
+    // Ödünç alma tarihine göre yeniden eskiye
+    LOAN_DATE_DESC("loanDate", false),
+
+    // Son iade tarihine göre yakından uzağa
+    DUE_DATE_ASC("dueDate", true),
+
+    // Son iade tarihine göre uzaktan yakına
+    DUE_DATE_DESC("dueDate", false);
+
+    // Sıralamada kullanılan alanın adı
+    private final String property;
+
+    // Artan sıralama mı?
+    private final boolean ascending;
+
+    LoanSort(String property, boolean ascending) {
+        this.property = property;
+        this.ascending = ascending;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * Verilen ödünç kaydının bu sıralamadaki anahtar değerini döndürür
+     * @param loan Ödünç kaydı
+     * @return Sıralama alanının değeri
+     */
+    public LocalDate valueOf(Loan loan) {
+        if ("dueDate".equals(property)) {
+            return loan.getDueDate();
+        }
+        return loan.getLoanDate();
+    }
+}
@@ -0,0 +1,26 @@
+package org.turkcell.loanservice.domain.model;
+
+/**
+ * Koşullu iade UPDATE'inin sonucu
+ * Kaydın iade edilmiş halini ve iade öncesindeki durumunu (ACTIVE veya OVERDUE) tutar
+ */
+public class ReturnedLoan {
+    // Kaydın iade edilmiş hali
+    private final Loan loan;
+
+    // İade öncesindeki durum
+    private final LoanStatus previousStatus;
+
+    public ReturnedLoan(Loan loan, LoanStatus previousStatus) {
+        this.loan = loan;
+        this.previousStatus = previousStatus;
+    }
+
+    public Loan getLoan() {
+        return loan;
+    }
+
+    public LoanStatus getPreviousStatus() {
+        return previousStatus;
+    }
+}
@@ -0,0 +1,65 @@
+package org.turkcell.loanservice.domain.model;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Zamana göre sıralı UUIDv7 üreticisi (RFC 9562)
+ *
+ * İlk 48 bit Unix zaman damgası (ms), ardından sürüm ve 12 bitlik sayaç gelir; kalan 62 bit rastgeledir.
+ * Zaman damgası ve sayaç tek bir AtomicLong'da CAS ile ilerletilir, böylece aynı milisaniyede ve
+ * saat geri gittiğinde bile üretilen kimlikler kesin artan sırada olur. Kilit kullanılmaz.
+ * Servisler ayrı ayrı derlendiği için book-service'te aynı sınıfın bir kopyası vardır; ikisi birlikte değiştirilmeli.
+ */
+public class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    // Rastgele kısım için SHA1PRNG örnekleri thread'lere dağıtılır (varsayılan NativePRNG tek bir ortak kilit kullanır)
+    private static final int RANDOM_STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) * 2;
+
+    private final Clock clock;
+    private final SecureRandom[] randoms;
+
+    // (zaman damgası << 12) | sayaç; son üretilen değer
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(Clock.systemUTC());
+    }
+
+    public UuidV7Generator(Clock clock) {
+        this.clock = clock;
+        this.randoms = new SecureRandom[RANDOM_STRIPES];
+        for (int i = 0; i < randoms.length; i++) {
+            randoms[i] = newRandom();
+        }
+    }
+
+    private static SecureRandom newRandom() {
+        try {
+            return SecureRandom.getInstance("SHA1PRNG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    @Override
+    public UUID next() {
+        long candidate = clock.millis() << COUNTER_BITS;
+        // Aynı milisaniyede sayaç artar; 4096'yı aşarsa taşma zaman damgasına eklenir, sıra yine bozulmaz
+        long current = lastTimestampAndCounter.accumulateAndGet(candidate,
+                (last, now) -> Math.max(now, last + 1));
+
+        long timestamp = current >>> COUNTER_BITS;
+        long counter = current & ((1L << COUNTER_BITS) - 1);
+        long mostSigBits = (timestamp << 16) | 0x7000L | counter;
+
+        SecureRandom random = randoms[(int) Thread.currentThread().threadId() & (randoms.length - 1)];
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -1,8 +1,14 @@
 package org.turkcell.loanservice.domain.repository;
 
 import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanCursor;
+import org.turkcell.loanservice.domain.model.LoanPage;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.model.ReturnedLoan;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,9 +21,15 @@ public interface LoanRepository {
     // Yeni bir ödünç kaydı oluştur veya mevcut bir kaydı güncelle
     Loan save(Loan loan);
 
+    // Birden fazla ödünç kaydını tek transaction içinde toplu olarak kaydet
+    List<Loan> saveAll(List<Loan> loans);
+
     // ID'ye göre ödünç kaydı bul (bulunamazsa null döner)
     Optional<Loan> findById(UUID id);
 
+    // Kaydın veritabanındaki güncel halini önbelleği atlayarak oku; yazma kararları (sayaç, istatistik) buna dayanır
+    Optional<Loan> findCurrentById(UUID id);
+
     // Tüm ödünç kayıtlarını getir
     List<Loan> findAll();
 
@@ -27,6 +39,39 @@ public interface LoanRepository {
     // Belirli bir kitaba ait tüm ödünç kayıtlarını getir
     List<Loan> findByBookId(UUID bookId);
 
+    // Belirli bir kullanıcıya ait ödünç kayıtlarını sayfa sayfa getir
+    LoanPage findPageByUserId(UUID userId, LoanCursor after, int limit, LoanSort sort);
+
+    // Belirli bir kitaba ait ödünç kayıtlarını sayfa sayfa getir
+    LoanPage findPageByBookId(UUID bookId, LoanCursor after, int limit, LoanSort sort);
+
+    // Son iade tarihi geçmiş aktif kayıtlardan en fazla batchSize tanesini OVERDUE yap, güncellenen kayıtları döndür
+    List<Loan> markOverdue(LocalDate today, int batchSize);
+
+    // Kayıt iade edilmemişse tek bir koşullu UPDATE ile iade et; geçiş olduysa kaydın güncel halini ve
+    // önceki durumunu aynı ifadeden döndür, kayıt yoksa veya zaten iade edilmişse boş döndür
+    Optional<ReturnedLoan> markReturned(UUID id, LocalDate returnDate);
+
+    // ID'ye göre ödünç kaydını önce sıcak tabloda, bulunamazsa arşivde ara
+    Optional<Loan> findByIdIncludingHistory(UUID id);
+
+    // Belirli bir kullanıcıya ait, arşivlenmiş kayıtlar dahil ödünç kayıtlarını sayfa sayfa getir
+    LoanPage findPageByUserIdIncludingHistory(UUID userId, LoanCursor after, int limit, LoanSort sort);
+
+    // returnedBefore tarihinden önce iade edilmiş kayıtlar için arşivi hazırla (PostgreSQL'de aylık bölümler);
+    // arşiv gruplarından önce, grupların transaction'ı dışında çağrılır
+    void prepareArchive(LocalDate returnedBefore);
+
+    // returnedBefore tarihinden önce iade edilmiş kayıtlardan en fazla batchSize tanesini arşive taşı,
+    // taşınan kayıt sayısını döndür
+    int archiveReturned(LocalDate returnedBefore, int batchSize);
+
+    // Kullanıcı başına iade edilmemiş (ACTIVE veya OVERDUE) ödünç sayılarını getir
+    Map<UUID, Integer> countUnreturnedLoansByUser();
+
+    // Bir kullanıcının iade edilmemiş (ACTIVE veya OVERDUE) ödünç sayısını getir
+    int countUnreturnedLoans(UUID userId);
+
     // ID'ye göre ödünç kaydını sil
     void deleteById(UUID id);
 
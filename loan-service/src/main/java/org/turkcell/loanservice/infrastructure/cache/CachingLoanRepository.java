@@ -0,0 +1,284 @@
+package org.turkcell.loanservice.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanCursor;
+import org.turkcell.loanservice.domain.model.LoanPage;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.model.ReturnedLoan;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LoanRepository önünde çalışan read-through önbellek
+ * ID'ye göre okuma ile kullanıcı ve kitap sayfaları ayrı önbelleklerde tutulur,
+ * her biri konfigürasyondan ayrı ayrı açılıp kapatılabilir (kapalı olan null verilir)
+ *
+ * Sayfa önbelleklerinde geçersiz kılma O(1)'dir: her kullanıcı/kitap için bir "nesil" numarası tutulur
+ * ve anahtarın parçasıdır. Yazma işleminde nesil artırılır, eski sayfalara bir daha erişilmez ve
+ * boyut/TTL sınırlarıyla önbellekten düşerler
+ *
+ * ID önbelleği de aynı şekilde (ID, nesil) ile anahtarlanır: veritabanından okunup henüz önbelleğe
+ * yazılmamış bir kayıt, bu arada commit edilen bir yazmanın geçersiz kılmasından sonra yazılsa bile
+ * eski nesil altında kalır ve bir daha okunmaz
+ */
+public class CachingLoanRepository implements LoanRepository {
+    // Asıl veritabanı işlemlerini yapan repository
+    private final LoanRepository delegate;
+
+    // (ID, nesil) -> Loan (kapalıysa null)
+    private final Cache<LoanKey, Loan> byId;
+
+    // (kullanıcı, nesil, imleç, limit, sıralama) -> LoanPage (kapalıysa null)
+    private final Cache<PageKey, LoanPage> byUser;
+
+    // (kitap, nesil, imleç, limit, sıralama) -> LoanPage (kapalıysa null)
+    private final Cache<PageKey, LoanPage> byBook;
+
+    // Ödünç/kullanıcı/kitap ID'si -> güncel nesil numarası
+    private final Cache<UUID, Long> generations;
+
+    // Yeni nesil numaraları buradan alınır, böylece bir numara asla tekrar kullanılmaz
+    private final AtomicLong generationSequence = new AtomicLong();
+
+    public CachingLoanRepository(LoanRepository delegate,
+                                 Cache<LoanKey, Loan> byId,
+                                 Cache<PageKey, LoanPage> byUser,
+                                 Cache<PageKey, LoanPage> byBook,
+                                 Cache<UUID, Long> generations) {
+        this.delegate = delegate;
+        this.byId = byId;
+        this.byUser = byUser;
+        this.byBook = byBook;
+        this.generations = generations;
+    }
+
+    @Override
+    public Loan save(Loan loan) {
+        // Güncellemelerde eski kullanıcı/kitap sayfaları da geçersiz olmalı
+        Loan previous = loan.getVersion() == null ? null : previousState(loan.getId());
+        Loan saved = delegate.save(loan);
+        evict(previous);
+        evict(saved);
+        return saved;
+    }
+
+    @Override
+    public List<Loan> saveAll(List<Loan> loans) {
+        List<Loan> savedLoans = delegate.saveAll(loans);
+        for (Loan saved : savedLoans) {
+            evict(saved);
+        }
+        return savedLoans;
+    }
+
+    @Override
+    public Optional<Loan> findById(UUID id) {
+        if (byId == null) {
+            return delegate.findById(id);
+        }
+        // Nesil veritabanı okunmadan önce alınır; okuma sırasında kayıt değişirse sonuç eski nesle yazılır
+        LoanKey key = new LoanKey(id, generation(id));
+        Loan cached = byId.getIfPresent(key);
+        if (cached == null) {
+            // Bulunamayan kayıtlar önbelleğe alınmaz
+            Optional<Loan> loaded = delegate.findById(id);
+            loaded.ifPresent(loan -> byId.put(key, loan.copy()));
+            return loaded;
+        }
+        // Çağıran nesneyi değiştirebilir, önbellekteki örneği değil kopyasını ver
+        return Optional.of(cached.copy());
+    }
+
+    // Yazma yolları için: önbellekteki kopya başka bir instance'ın değişikliğini kaçırmış olabilir
+    @Override
+    public Optional<Loan> findCurrentById(UUID id) {
+        return delegate.findCurrentById(id);
+    }
+
+    @Override
+    public List<Loan> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Loan> findByUserId(UUID userId) {
+        return delegate.findByUserId(userId);
+    }
+
+    @Override
+    public List<Loan> findByBookId(UUID bookId) {
+        return delegate.findByBookId(bookId);
+    }
+
+    // Not: önbellekten dönen sayfalar paylaşılır, çağıranlar sadece okumalıdır
+    @Override
+    public LoanPage findPageByUserId(UUID userId, LoanCursor after, int limit, LoanSort sort) {
+        if (byUser == null) {
+            return delegate.findPageByUserId(userId, after, limit, sort);
+        }
+        return byUser.get(pageKey(userId, after, limit, sort),
+                key -> delegate.findPageByUserId(userId, after, limit, sort));
+    }
+
+    @Override
+    public LoanPage findPageByBookId(UUID bookId, LoanCursor after, int limit, LoanSort sort) {
+        if (byBook == null) {
+            return delegate.findPageByBookId(bookId, after, limit, sort);
+        }
+        return byBook.get(pageKey(bookId, after, limit, sort),
+                key -> delegate.findPageByBookId(bookId, after, limit, sort));
+    }
+
+    @Override
+    public List<Loan> markOverdue(LocalDate today, int batchSize) {
+        List<Loan> swept = delegate.markOverdue(today, batchSize);
+        swept.forEach(this::evict);
+        return swept;
+    }
+
+    @Override
+    public Optional<ReturnedLoan> markReturned(UUID id, LocalDate returnDate) {
+        Optional<ReturnedLoan> returned = delegate.markReturned(id, returnDate);
+        returned.ifPresent(result -> evict(result.getLoan()));
+        return returned;
+    }
+
+    // Geçmiş dahil okumalar nadirdir ve arşiv değişmez, önbelleğe alınmaz
+    @Override
+    public Optional<Loan> findByIdIncludingHistory(UUID id) {
+        Optional<Loan> hot = findById(id);
+        return hot.isPresent() ? hot : delegate.findByIdIncludingHistory(id);
+    }
+
+    @Override
+    public LoanPage findPageByUserIdIncludingHistory(UUID userId, LoanCursor after, int limit, LoanSort sort) {
+        return delegate.findPageByUserIdIncludingHistory(userId, after, limit, sort);
+    }
+
+    @Override
+    public void prepareArchive(LocalDate returnedBefore) {
+        delegate.prepareArchive(returnedBefore);
+    }
+
+    @Override
+    public int archiveReturned(LocalDate returnedBefore, int batchSize) {
+        int archived = delegate.archiveReturned(returnedBefore, batchSize);
+        if (archived > 0) {
+            // Hangi kayıtların taşındığı bilinmiyor, tüm önbellek temizlenir
+            invalidateAll();
+        }
+        return archived;
+    }
+
+    @Override
+    public Map<UUID, Integer> countUnreturnedLoansByUser() {
+        return delegate.countUnreturnedLoansByUser();
+    }
+
+    @Override
+    public int countUnreturnedLoans(UUID userId) {
+        return delegate.countUnreturnedLoans(userId);
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        Loan previous = previousState(id);
+        delegate.deleteById(id);
+        evict(previous);
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return delegate.existsById(id);
+    }
+
+    /**
+     * Bir ödünç kaydını ve ait olduğu kullanıcı/kitap sayfalarını önbellekten çıkarır
+     * Diğer instance'lardan gelen olaylarla da çağrılır
+     */
+    public void evict(UUID loanId, UUID userId, UUID bookId) {
+        if (byId != null && loanId != null) {
+            // Önceki nesilde kalan kopyalar boyut/TTL sınırlarıyla düşer
+            generations.put(loanId, generationSequence.incrementAndGet());
+        }
+        if (userId != null) {
+            generations.put(userId, generationSequence.incrementAndGet());
+        }
+        if (bookId != null) {
+            generations.put(bookId, generationSequence.incrementAndGet());
+        }
+    }
+
+    /**
+     * Tüm önbellekleri temizler
+     */
+    public void invalidateAll() {
+        if (byId != null) {
+            byId.invalidateAll();
+        }
+        // Nesiller silinince her kullanıcı/kitap yeni bir nesil alır, eski sayfalar erişilmez olur
+        generations.invalidateAll();
+        if (byUser != null) {
+            byUser.invalidateAll();
+        }
+        if (byBook != null) {
+            byBook.invalidateAll();
+        }
+    }
+
+    /**
+     * Kaydı hemen önbellekten çıkarır; açık bir transaction varsa commit sonrasında tekrar çıkarır.
+     * Aksi halde commit'ten önce başka bir okuma eski veriyi önbelleğe geri yazabilir
+     */
+    private void evict(Loan loan) {
+        if (loan == null) {
+            return;
+        }
+        evict(loan.getId(), loan.getUserId(), loan.getBookId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(loan.getId(), loan.getUserId(), loan.getBookId());
+                }
+            });
+        }
+    }
+
+    /**
+     * Bir kaydın veritabanındaki son halini bulur
+     * Önbellekteki kopya eski olabilir (ör. kullanıcısı başka bir instance'ta değişmiş), bu yüzden kullanılmaz
+     */
+    private Loan previousState(UUID id) {
+        return delegate.findCurrentById(id).orElse(null);
+    }
+
+    private PageKey pageKey(UUID scope, LoanCursor after, int limit, LoanSort sort) {
+        return new PageKey(scope, generation(scope), after == null ? null : after.encode(), limit, sort);
+    }
+
+    private long generation(UUID scope) {
+        return generations.get(scope, key -> generationSequence.incrementAndGet());
+    }
+
+    /**
+     * ID önbelleğinin anahtarı
+     */
+    public record LoanKey(UUID id, long generation) {
+    }
+
+    /**
+     * Sayfa önbelleklerinin anahtarı
+     */
+    public record PageKey(UUID scope, long generation, String cursor, int limit, LoanSort sort) {
+    }
+}
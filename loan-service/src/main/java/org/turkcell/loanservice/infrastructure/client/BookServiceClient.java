@@ -0,0 +1,225 @@
+package org.turkcell.loanservice.infrastructure.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.RestClient;
+import org.turkcell.loanservice.application.client.BookCatalog;
+import org.turkcell.loanservice.application.exception.BookCatalogUnavailableException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * book-service için gruplayan (coalescing) katalog istemcisi
+ *
+ * Aynı anda gelen kontroller tek bir POST /api/books/exists isteğinde birleştirilir:
+ * ilk istek bir grup açar, grup maxWait kadar bekledikten veya maxBatchSize'a ulaştıktan sonra gönderilir.
+ * Aynı kitap için süren bir istek varsa yenisi açılmaz, mevcut sonuç paylaşılır.
+ * Sonuçlar kısa süreli önbellekte tutulur (var olanlar daha uzun, olmayanlar daha kısa süre).
+ * Çağıran en fazla timeBudget kadar bekler
+ */
+public class BookServiceClient implements BookCatalog, AutoCloseable {
+    private final RestClient restClient;
+    private final Duration maxWait;
+    private final int maxBatchSize;
+    private final Duration timeBudget;
+
+    // Kitap ID'si -> katalogda var mı?
+    private final Cache<UUID, Boolean> cache;
+
+    // Cevabı beklenen kitap ID'leri
+    private final ConcurrentHashMap<UUID, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    // Grupları maxWait sonunda göndermek için
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    // HTTP isteklerini göndermek için (close() ile kapatılır)
+    private final ExecutorService sender;
+
+    // Henüz gönderilmemiş, yeni ID eklenebilen grup
+    // synchronized yerine ReentrantLock: sanal thread'ler taşıyıcı thread'e sabitlenmez
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<UUID> openBatch;
+
+    public BookServiceClient(RestClient restClient, ExecutorService sender, Duration maxWait, int maxBatchSize,
+                             Duration timeBudget, Duration positiveTtl, Duration negativeTtl, long cacheSize) {
+        this.restClient = restClient;
+        this.sender = sender;
+        this.maxWait = maxWait;
+        this.maxBatchSize = maxBatchSize;
+        this.timeBudget = timeBudget;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<UUID, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, Boolean exists, long currentTime) {
+                        return (exists ? positiveTtl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, Boolean exists, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, exists, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, Boolean exists, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Set<UUID> findUnknown(Collection<UUID> bookIds) {
+        // Önbellekte olmayanlar için istek aç ya da süren isteğe katıl
+        Map<UUID, CompletableFuture<Boolean>> pending = new HashMap<>();
+        Set<UUID> unknown = new HashSet<>();
+        for (UUID bookId : bookIds) {
+            Boolean exists = cache.getIfPresent(bookId);
+            if (exists == null) {
+                pending.put(bookId, lookup(bookId));
+            } else if (!exists) {
+                unknown.add(bookId);
+            }
+        }
+        if (pending.isEmpty()) {
+            return unknown;
+        }
+
+        // Hepsini tek bir zaman bütçesi içinde bekle
+        try {
+            CompletableFuture.allOf(pending.values().toArray(new CompletableFuture[0]))
+                    .get(timeBudget.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // Sonraki kontroller cevapsız kalan isteğe katılmasın, yeni istek açsın;
+            // bu arada başka bir isteğe geçmiş ID'lere dokunulmaz
+            pending.forEach(inFlight::remove);
+            throw new BookCatalogUnavailableException("book-service did not answer within " + timeBudget, e);
+        } catch (ExecutionException e) {
+            throw new BookCatalogUnavailableException("book-service lookup failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BookCatalogUnavailableException("Interrupted while waiting for book-service", e);
+        }
+
+        pending.forEach((bookId, future) -> {
+            if (!future.join()) {
+                unknown.add(bookId);
+            }
+        });
+        return unknown;
+    }
+
+    /**
+     * Bir kitap için süren isteği döndürür, yoksa açık gruba ekler
+     */
+    private CompletableFuture<Boolean> lookup(UUID bookId) {
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(bookId, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        List<UUID> full = null;
+        lock.lock();
+        try {
+            if (openBatch == null) {
+                // Yeni grup aç, maxWait sonunda gönderilsin
+                List<UUID> batch = new ArrayList<>();
+                openBatch = batch;
+                scheduler.schedule(() -> flush(batch), maxWait.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            openBatch.add(bookId);
+            if (openBatch.size() >= maxBatchSize) {
+                // Grup doldu, beklemeden gönder
+                full = openBatch;
+                openBatch = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (full != null) {
+            List<UUID> batch = full;
+            sender.execute(() -> send(batch));
+        }
+        return future;
+    }
+
+    /**
+     * Bekleme süresi dolan grubu, henüz gönderilmediyse gönderir
+     */
+    private void flush(List<UUID> batch) {
+        lock.lock();
+        try {
+            if (openBatch != batch) {
+                // Grup dolduğu için zaten gönderildi
+                return;
+            }
+            openBatch = null;
+        } finally {
+            lock.unlock();
+        }
+        sender.execute(() -> send(batch));
+    }
+
+    /**
+     * Grubu tek bir HTTP isteğiyle gönderir ve bekleyenlere sonucu iletir
+     */
+    private void send(List<UUID> batch) {
+        try {
+            List<UUID> existing = restClient.post()
+                    .uri("/api/books/exists")
+                    .body(batch)
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<List<UUID>>() {
+                    });
+            Set<UUID> existingIds = existing == null ? Set.of() : new HashSet<>(existing);
+            for (UUID bookId : batch) {
+                boolean exists = existingIds.contains(bookId);
+                cache.put(bookId, exists);
+                complete(bookId, exists, null);
+            }
+        } catch (RuntimeException e) {
+            // Hatalar önbelleğe alınmaz, bir sonraki istek tekrar dener
+            for (UUID bookId : batch) {
+                complete(bookId, false, e);
+            }
+        }
+    }
+
+    private void complete(UUID bookId, boolean exists, Throwable error) {
+        CompletableFuture<Boolean> future = inFlight.remove(bookId);
+        if (future == null) {
+            return;
+        }
+        if (error == null) {
+            future.complete(exists);
+        } else {
+            future.completeExceptionally(error);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        sender.shutdownNow();
+    }
+}
@@ -0,0 +1,49 @@
+package org.turkcell.loanservice.infrastructure.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.turkcell.loanservice.application.dto.LoanEventMessage;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.event.LoanEventOrigin;
+import org.turkcell.loanservice.application.event.LoanEventPublisher;
+import org.turkcell.loanservice.domain.model.LoanEventType;
+import org.turkcell.loanservice.infrastructure.persistence.entity.OutboxEventEntity;
+import org.turkcell.loanservice.infrastructure.persistence.repository.JpaOutboxEventRepository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * LoanEventPublisher'ın outbox implementasyonu
+ * Olayı doğrudan broker'a göndermez, çağıranın transaction'ı içinde outbox tablosuna yazar
+ */
+@Component
+public class OutboxLoanEventPublisher implements LoanEventPublisher {
+    private final JpaOutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxLoanEventPublisher(JpaOutboxEventRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(LoanEventType type, UUID loanId, LoanResponse loan) {
+        Instant now = Instant.now();
+        LoanEventMessage message = new LoanEventMessage(UUID.randomUUID(), type, now, loanId, loan,
+                LoanEventOrigin.LOCAL);
+        outboxRepository.save(new OutboxEventEntity(loanId, type.name(), toJson(message), now));
+    }
+
+    private String toJson(LoanEventMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Loan event could not be serialized", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.turkcell.loanservice.infrastructure.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.turkcell.loanservice.infrastructure.persistence.entity.OutboxEventEntity;
+import org.turkcell.loanservice.infrastructure.persistence.repository.JpaOutboxEventRepository;
+
+import java.util.List;
+
+/**
+ * Outbox tablosundaki olayları Spring Cloud Stream üzerinden gruplar halinde yayınlar
+ * Her grup tek transaction'da okunur, gönderilir ve silinir; gönderim başarısız olursa
+ * transaction geri alınır ve olaylar bir sonraki çalıştırmada tekrar denenir (at-least-once)
+ */
+@Component
+public class OutboxRelay {
+    // Olayların gönderildiği binding (hedef topic konfigürasyondan gelir)
+    public static final String BINDING = "loanEvents-out-0";
+
+    // Kafka mesaj anahtarı olarak kullanılan header; aynı ödünç kaydının olayları aynı partition'a gider
+    public static final String LOAN_ID_HEADER = "loanId";
+
+    public static final String EVENT_TYPE_HEADER = "eventType";
+
+    private final JpaOutboxEventRepository outboxRepository;
+    private final StreamBridge streamBridge;
+    private final TransactionTemplate transactionTemplate;
+
+    // Bir transaction'da yayınlanacak en fazla olay sayısı
+    private final int batchSize;
+
+    public OutboxRelay(JpaOutboxEventRepository outboxRepository,
+                       StreamBridge streamBridge,
+                       TransactionTemplate transactionTemplate,
+                       @Value("${loan.outbox.relay.batch-size:200}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.streamBridge = streamBridge;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Bekleyen tüm olayları gruplar halinde yayınlar
+     * @return Yayınlanan toplam olay sayısı
+     */
+    public int relayPending() {
+        int total = 0;
+        int published;
+        do {
+            published = transactionTemplate.execute(status -> publishBatch());
+            total += published;
+        } while (published == batchSize);
+        return total;
+    }
+
+    private int publishBatch() {
+        List<OutboxEventEntity> events = outboxRepository.findNextBatch(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // Olayları sıra numarasıyla gönder
+        for (OutboxEventEntity event : events) {
+            Message<String> message = MessageBuilder.withPayload(event.getPayload())
+                    .setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+                    .setHeader(LOAN_ID_HEADER, event.getAggregateId().toString())
+                    .setHeader(EVENT_TYPE_HEADER, event.getEventType())
+                    .build();
+            if (!streamBridge.send(BINDING, message)) {
+                throw new IllegalStateException("Outbox event " + event.getId() + " could not be sent");
+            }
+        }
+
+        // Gönderilen olayları tek DELETE ile temizle
+        outboxRepository.deleteAllInBatch(events);
+        return events.size();
+    }
+}
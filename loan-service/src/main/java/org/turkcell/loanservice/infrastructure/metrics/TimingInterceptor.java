@@ -0,0 +1,104 @@
+package org.turkcell.loanservice.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+
+public class TimingInterceptor implements MethodInterceptor {
+
+    private final String metricName;
+    private final Supplier<MeterRegistry> registrySupplier;
+    private volatile MeterRegistry registry;
+
+    // Timer'lar her çağrıda registry'de aranmasın, metot (ve hata tipi) başına bir kez oluşturulur
+    private final ConcurrentMap<Method, Timer> successTimers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<ErrorKey, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    public TimingInterceptor(String metricName, Supplier<MeterRegistry> registrySupplier) {
+        this.metricName = metricName;
+        this.registrySupplier = registrySupplier;
+    }
+
+    /**
+     * Verilen sınıfın public metotlarını ölçen advisor. Transaction'dan önce çalışır, commit süresi de ölçüme girer.
+     */
+    public static Advisor advisorFor(Class<?> targetClass, String metricName, ObjectProvider<MeterRegistry> registry) {
+        // Registry ilk çağrıda alınır, advisor'lar erken oluşturulduğu için registry'nin post-processor'ları atlanmasın
+        TimingInterceptor interceptor = new TimingInterceptor(metricName, registry::getObject);
+        StaticMethodMatcher publicMethods = new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> type) {
+                return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(new RootClassFilter(targetClass), publicMethods), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            successTimer(invocation.getMethod()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            errorTimer(invocation.getMethod(), ex.getClass()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+
+    private Timer successTimer(Method method) {
+        Timer timer = successTimers.get(method);
+        if (timer == null) {
+            timer = successTimers.computeIfAbsent(method, m -> register(m, "success", "none"));
+        }
+        return timer;
+    }
+
+    private Timer errorTimer(Method method, Class<? extends Throwable> exceptionType) {
+        return errorTimers.computeIfAbsent(new ErrorKey(method, exceptionType),
+                key -> register(method, "error", exceptionType.getSimpleName()));
+    }
+
+    private Timer register(Method method, String outcome, String exception) {
+        // Prometheus tarafında histogram_quantile ile yüzdelikler hesaplanabilsin diye bucket'lar yayınlanır
+        return Timer.builder(metricName)
+                .description("Duration of a call, by operation and outcome")
+                .tag("operation", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(registry());
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry current = registry;
+        if (current == null) {
+            current = registrySupplier.get();
+            registry = current;
+        }
+        return current;
+    }
+
+    private record ErrorKey(Method method, Class<?> exceptionType) {
+    }
+}
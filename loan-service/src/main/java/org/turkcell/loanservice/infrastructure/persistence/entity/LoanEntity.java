@@ -13,7 +13,15 @@ import java.util.UUID;
  * @Entity anotasyonu ile Spring JPA'ya bu sınıfın bir veritabanı tablosu olduğunu söyleriz
  */
 @Entity
-@Table(name = "loans")
+@Table(name = "loans", indexes = {
+        // Index'ler db/migration altındaki Flyway migration'larında oluşturulur, burada belgelenir
+        @Index(name = "idx_loans_user_loan_date", columnList = "user_id, loan_date, id"),
+        @Index(name = "idx_loans_book_loan_date", columnList = "book_id, loan_date, id"),
+        @Index(name = "idx_loans_status_due_date_id", columnList = "status, due_date, id"),
+        @Index(name = "idx_loans_status_loan_date", columnList = "status, loan_date, id"),
+        @Index(name = "idx_loans_loan_date", columnList = "loan_date, id"),
+        @Index(name = "idx_loans_due_date", columnList = "due_date, id")
+})
 public class LoanEntity {
     @Id
     @Column(columnDefinition = "UUID")
@@ -41,6 +49,12 @@ public class LoanEntity {
     @Column(name = "penalty_amount", precision = 19, scale = 2)
     private BigDecimal penaltyAmount;
 
+    // ID uygulama tarafından atandığı için yeni kayıt olup olmadığı sürümden anlaşılır:
+    // version null ise Spring Data merge yerine persist çağırır ve INSERT öncesi SELECT yapılmaz
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public LoanEntity() {
     }
 
@@ -107,5 +121,13 @@ public class LoanEntity {
     public void setPenaltyAmount(BigDecimal penaltyAmount) {
         this.penaltyAmount = penaltyAmount;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
 
@@ -0,0 +1,100 @@
+package org.turkcell.loanservice.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Arşivlenmiş ödünç kaydı (loans_history tablosu)
+ * Satırlar sadece arşivleme sırasında SQL ile eklenir, uygulama tarafından değiştirilmez
+ */
+@Entity
+@Immutable
+@Table(name = "loans_history", indexes = {
+        // Index'ler db/vendor altındaki Flyway migration'larında oluşturulur, burada belgelenir
+        @Index(name = "idx_loans_history_user_id", columnList = "user_id"),
+        @Index(name = "idx_loans_history_book_id", columnList = "book_id")
+})
+public class LoanHistoryEntity {
+    // Tablonun birincil anahtarı (id, return_date); ID tek başına da benzersizdir
+    @Id
+    @Column(columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(name = "book_id", nullable = false, columnDefinition = "UUID")
+    private UUID bookId;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "UUID")
+    private UUID userId;
+
+    @Column(name = "loan_date", nullable = false)
+    private LocalDate loanDate;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(name = "return_date", nullable = false)
+    private LocalDate returnDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private LoanStatus status;
+
+    @Column(name = "penalty_amount", precision = 19, scale = 2)
+    private BigDecimal penaltyAmount;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // Kaydın arşive taşındığı an
+    @Column(name = "archived_at", nullable = false)
+    private OffsetDateTime archivedAt;
+
+    protected LoanHistoryEntity() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getBookId() {
+        return bookId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public LocalDate getLoanDate() {
+        return loanDate;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public LocalDate getReturnDate() {
+        return returnDate;
+    }
+
+    public LoanStatus getStatus() {
+        return status;
+    }
+
+    public BigDecimal getPenaltyAmount() {
+        return penaltyAmount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public OffsetDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,65 @@
+package org.turkcell.loanservice.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Outbox tablosu
+ * Yayınlanacak olaylar ödünç kaydıyla aynı transaction içinde buraya yazılır,
+ * relay tarafından yayınlandıktan sonra silinir
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEventEntity {
+    // Sıra numarası: relay olayları bu sırayla yayınlar.
+    // allocationSize = 1, farklı instance'ların önceden ayırdığı aralıklar yüzünden
+    // aynı ödünç kaydının olaylarının sırasının karışmasını önler
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "aggregate_id", nullable = false, columnDefinition = "UUID")
+    private UUID aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, length = 4000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public OutboxEventEntity() {
+    }
+
+    public OutboxEventEntity(UUID aggregateId, String eventType, String payload, Instant createdAt) {
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,28 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.turkcell.loanservice.infrastructure.persistence.entity.LoanHistoryEntity;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface JpaLoanHistoryRepository extends JpaRepository<LoanHistoryEntity, UUID>,
+        JpaSpecificationExecutor<LoanHistoryEntity> {
+
+    // Verilen ödünç kayıtlarını loans tablosundan arşive kopyalar (satırlar uygulamaya yüklenmez)
+    @Modifying
+    @Query(value = """
+            INSERT INTO loans_history (id, book_id, user_id, loan_date, due_date, return_date,
+                                       status, penalty_amount, version, archived_at)
+            SELECT id, book_id, user_id, loan_date, due_date, return_date,
+                   status, penalty_amount, version, :archivedAt
+            FROM loans
+            WHERE id IN (:ids)
+            """, nativeQuery = true)
+    int copyFromLoans(@Param("ids") Collection<UUID> ids, @Param("archivedAt") OffsetDateTime archivedAt);
+}
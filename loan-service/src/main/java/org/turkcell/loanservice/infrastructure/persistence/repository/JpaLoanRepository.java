@@ -1,13 +1,64 @@
 package org.turkcell.loanservice.infrastructure.persistence.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.domain.model.LoanStatus;
 import org.turkcell.loanservice.infrastructure.persistence.entity.LoanEntity;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface JpaLoanRepository extends JpaRepository<LoanEntity, UUID> {
+public interface JpaLoanRepository extends JpaRepository<LoanEntity, UUID>, JpaSpecificationExecutor<LoanEntity> {
     List<LoanEntity> findByUserId(UUID userId);
     List<LoanEntity> findByBookId(UUID bookId);
-}
 
+    // Dışa aktarım için ileri yönlü, fetch size ayarlı cursor; açık bir transaction içinde tüketilmelidir.
+    // Satırlar entity yerine doğrudan LoanResponse olarak okunur, persistence context'e bir şey eklenmez
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new org.turkcell.loanservice.application.dto.LoanResponse("
+            + "l.id, l.bookId, l.userId, l.loanDate, l.dueDate, l.returnDate, l.status, l.penaltyAmount) "
+            + "from LoanEntity l where l.status in :statuses and l.loanDate >= :from and l.loanDate <= :to")
+    Stream<LoanResponse> streamForExport(@Param("statuses") Collection<LoanStatus> statuses,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    // Kullanıcı başına iade edilmemiş ödünç sayıları: [userId, count]
+    @Query("select l.userId, count(l) from LoanEntity l where l.status <> :returned group by l.userId")
+    List<Object[]> countByUserIdAndStatusNot(@Param("returned") LoanStatus returned);
+
+    // Bir kullanıcının iade edilmemiş ödünç sayısı
+    @Query("select count(l) from LoanEntity l where l.userId = :userId and l.status <> :returned")
+    long countUnreturnedByUserId(@Param("userId") UUID userId, @Param("returned") LoanStatus returned);
+
+    // Belirli bir tarihten önce iade edilmiş kayıtların en eski ve en yeni iade tarihi: [min, max]
+    @Query("select min(l.returnDate), max(l.returnDate) from LoanEntity l "
+            + "where l.status = :returned and l.returnDate < :returnedBefore")
+    List<Object[]> findReturnDateRange(@Param("returned") LoanStatus returned,
+                                       @Param("returnedBefore") LocalDate returnedBefore);
+
+    // Belirli bir tarihten önce iade edilmiş kayıtlardan en fazla batchSize tanesini kilitler: [id, return_date].
+    // Kilitli satırlar transaction sonuna kadar değişmez; diğer instance'lar SKIP LOCKED ile başka satırları alır
+    @Query(value = """
+            SELECT id, return_date FROM loans
+            WHERE status = 'RETURNED' AND return_date < :returnedBefore
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Object[]> lockArchivable(@Param("returnedBefore") LocalDate returnedBefore,
+                                  @Param("batchSize") int batchSize);
+
+    // Arşive kopyalanmış kayıtları sıcak tablodan siler
+    @Modifying
+    @Query(value = "DELETE FROM loans WHERE id IN (:ids) AND status = 'RETURNED'", nativeQuery = true)
+    int deleteArchived(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,19 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.turkcell.loanservice.infrastructure.persistence.entity.OutboxEventEntity;
+
+import java.util.List;
+
+public interface JpaOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    // Sıradaki olayları kilitleyerek getirir; başka bir relay aynı satırları kilitlemişse bekler,
+    // böylece relay'ler kuyruğun başında sıraya girer ve aynı kaydın olayları sırasıyla yayınlanır
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from OutboxEventEntity e order by e.id")
+    List<OutboxEventEntity> findNextBatch(Pageable pageable);
+}
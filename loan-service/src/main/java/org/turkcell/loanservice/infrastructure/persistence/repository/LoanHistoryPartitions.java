@@ -0,0 +1,94 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * loans_history tablosunun aylık bölümlerini oluşturur
+ * Sadece PostgreSQL'de bölümleme vardır; diğer veritabanlarında (testlerdeki H2) hiçbir şey yapmaz
+ *
+ * Bölümler arşiv gruplarından önce, her biri kendi kısa transaction'ında oluşturulur: DDL ana tablo üzerinde
+ * ACCESS EXCLUSIVE kilit alır ve grup transaction'ı içinde çalışırsa kilit grup bitene kadar tutulur.
+ * Birden fazla instance aynı bölümü aynı anda oluşturmaya çalışabilir; IF NOT EXISTS'e rağmen
+ * kaybeden taraf duplicate_table (42P07) veya unique_violation (23505) alabilir, bunlar başarı sayılır
+ */
+@Component
+public class LoanHistoryPartitions {
+    // Başka bir oturum bölümü aynı anda oluşturduğunda dönen SQLSTATE'ler
+    private static final Set<String> ALREADY_CREATED = Set.of("42P07", "23505");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Açık bir transaction varsa askıya alınır, DDL ayrı transaction'da commit edilir
+    private final TransactionTemplate newTransaction;
+
+    // Veritabanı bölümlemeyi destekliyor mu (PostgreSQL)
+    private final boolean partitioned;
+
+    // Bu instance'ın var olduğunu bildiği bölümler; her arşiv grubunda DDL çalıştırılmasın
+    private final Set<YearMonth> knownMonths = ConcurrentHashMap.newKeySet();
+
+    public LoanHistoryPartitions(DataSource dataSource, PlatformTransactionManager transactionManager)
+            throws MetaDataAccessException {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        this.partitioned = "PostgreSQL".equalsIgnoreCase(product);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    /**
+     * from ve to dahil aradaki her ayın bölümünü oluşturur
+     */
+    public void ensureRange(YearMonth from, YearMonth to) {
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            ensure(month);
+        }
+    }
+
+    /**
+     * Verilen ayın bölümü yoksa kendi transaction'ında oluşturur
+     * Çağıranın açık bir transaction'ı varsa ona katılmaz
+     */
+    public void ensure(YearMonth month) {
+        if (!partitioned || knownMonths.contains(month)) {
+            return;
+        }
+        // Tablo adı ve sınırlar YearMonth'tan üretilir, kullanıcı girdisi içermez
+        String sql = String.format(
+                "CREATE TABLE IF NOT EXISTS loans_history_y%04dm%02d PARTITION OF loans_history "
+                        + "FOR VALUES FROM ('%s') TO ('%s')",
+                month.getYear(), month.getMonthValue(), month.atDay(1), month.plusMonths(1).atDay(1));
+        try {
+            newTransaction.executeWithoutResult(status -> jdbcTemplate.execute(sql));
+        } catch (DataAccessException e) {
+            if (!createdConcurrently(e)) {
+                throw e;
+            }
+        }
+        knownMonths.add(month);
+    }
+
+    // Hata, aynı bölümü aynı anda oluşturan başka bir oturumdan mı kaynaklanıyor
+    private static boolean createdConcurrently(DataAccessException e) {
+        return e.getMostSpecificCause() instanceof SQLException sqlException
+                && ALREADY_CREATED.contains(sqlException.getSQLState());
+    }
+}
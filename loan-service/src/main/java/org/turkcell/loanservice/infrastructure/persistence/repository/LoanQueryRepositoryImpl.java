@@ -0,0 +1,147 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.turkcell.loanservice.application.dto.LoanPageResponse;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.query.LoanQueryRepository;
+import org.turkcell.loanservice.application.query.LoanSearchCriteria;
+import org.turkcell.loanservice.domain.model.LoanCursor;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+import org.turkcell.loanservice.infrastructure.persistence.entity.LoanEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * LoanQueryRepository interface'inin implementasyonu
+ * Sorgular constructor expression ile doğrudan LoanResponse seçer:
+ * persistence context'e entity eklenmez, dirty checking kopyası tutulmaz ve satır başına tek obje oluşur
+ */
+@Repository
+public class LoanQueryRepositoryImpl implements LoanQueryRepository {
+    // Tarih filtresi gönderilmediğinde kullanılan sınırlar
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    // Dışa aktarım sorgusu için
+    private final JpaLoanRepository jpaLoanRepository;
+
+    // Sayfa sorgusunu Criteria API ile kurmak için
+    private final EntityManager entityManager;
+
+    public LoanQueryRepositoryImpl(JpaLoanRepository jpaLoanRepository, EntityManager entityManager) {
+        this.jpaLoanRepository = jpaLoanRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Keyset sayfalama ile tek bir sayfa okur
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public LoanPageResponse findPage(LoanCursor after, int limit, LoanSort sort) {
+        return readPage(null, after, limit, sort);
+    }
+
+    /**
+     * Filtrelere uyan kayıtlardan bir sayfa okur
+     * Sadece gönderilen filtreler WHERE'e eklenir; eşitlik filtreleri ve sıralama kolonu
+     * V6 migration'ındaki bileşik index'lerle karşılanır
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public LoanPageResponse search(LoanSearchCriteria criteria, LoanCursor after, int limit, LoanSort sort) {
+        List<Specification<LoanEntity>> filters = new ArrayList<>();
+        if (criteria.status() != null) {
+            filters.add(LoanSpecifications.hasStatus(criteria.status()));
+        }
+        if (criteria.userId() != null) {
+            filters.add(LoanSpecifications.hasUserId(criteria.userId()));
+        }
+        if (criteria.bookId() != null) {
+            filters.add(LoanSpecifications.hasBookId(criteria.bookId()));
+        }
+        filters.add(LoanSpecifications.dateBetween("loanDate", criteria.loanDateFrom(), criteria.loanDateTo()));
+        filters.add(LoanSpecifications.dateBetween("dueDate", criteria.dueDateFrom(), criteria.dueDateTo()));
+        return readPage(Specification.allOf(filters), after, limit, sort);
+    }
+
+    /**
+     * Filtre ve keyset koşuluyla limit + 1 kayıt okur
+     * Fazladan gelen kayıt bir sonraki sayfanın olduğunu gösterir, ayrı bir COUNT sorgusuna gerek kalmaz
+     */
+    private LoanPageResponse readPage(Specification<LoanEntity> filter, LoanCursor after, int limit, LoanSort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LoanResponse> query = cb.createQuery(LoanResponse.class);
+        Root<LoanEntity> root = query.from(LoanEntity.class);
+
+        // Sadece response'taki kolonları seç
+        query.select(cb.construct(LoanResponse.class,
+                root.get("id"),
+                root.get("bookId"),
+                root.get("userId"),
+                root.get("loanDate"),
+                root.get("dueDate"),
+                root.get("returnDate"),
+                root.get("status"),
+                root.get("penaltyAmount")));
+
+        // Entity sorgularıyla aynı keyset koşulu ve sıralama
+        Specification<LoanEntity> spec = LoanSpecifications.after(after, sort);
+        if (filter != null) {
+            spec = filter.and(spec);
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(LoanSpecifications.orderOf(sort), root, cb));
+
+        List<LoanResponse> rows = entityManager.createQuery(query)
+                .setMaxResults(limit + 1)
+                .getResultList();
+
+        // Fazladan gelen kayıt varsa bir sonraki sayfa vardır
+        boolean hasNext = rows.size() > limit;
+        List<LoanResponse> items = hasNext ? rows.subList(0, limit) : rows;
+
+        // Son kayıttan bir sonraki sayfanın imlecini oluştur
+        String nextCursor = null;
+        if (hasNext) {
+            LoanResponse last = items.get(limit - 1);
+            LocalDate sortValue = "dueDate".equals(sort.getProperty()) ? last.getDueDate() : last.getLoanDate();
+            nextCursor = new LoanCursor(sort, sortValue, last.getId()).encode();
+        }
+        return new LoanPageResponse(items, nextCursor);
+    }
+
+    /**
+     * Filtreye uyan kayıtları veritabanı cursor'ı üzerinden tek tek okur
+     * Okunan satırlar yönetilen entity olmadığı için persistence context büyümez
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(LoanStatus status, LocalDate from, LocalDate to, Consumer<LoanResponse> consumer) {
+        // Gönderilmeyen filtreleri tüm değerleri kapsayacak şekilde doldur
+        EnumSet<LoanStatus> statuses = status == null ? EnumSet.allOf(LoanStatus.class) : EnumSet.of(status);
+        LocalDate fromDate = from == null ? MIN_DATE : from;
+        LocalDate toDate = to == null ? MAX_DATE : to;
+
+        try (Stream<LoanResponse> stream = jpaLoanRepository.streamForExport(statuses, fromDate, toDate)) {
+            stream.forEach(consumer);
+        }
+    }
+}
@@ -1,14 +1,37 @@
 package org.turkcell.loanservice.infrastructure.persistence.repository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanCursor;
+import org.turkcell.loanservice.domain.model.LoanPage;
+import org.turkcell.loanservice.domain.model.LoanSort;
 import org.turkcell.loanservice.domain.model.LoanStatus;
+import org.turkcell.loanservice.domain.model.ReturnedLoan;
 import org.turkcell.loanservice.domain.repository.LoanRepository;
 import org.turkcell.loanservice.infrastructure.persistence.entity.LoanEntity;
+import org.turkcell.loanservice.infrastructure.persistence.entity.LoanHistoryEntity;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -21,9 +44,60 @@ public class LoanRepositoryImpl implements LoanRepository {
     // JPA repository - Spring Data JPA'nın sağladığı repository
     private final JpaLoanRepository jpaLoanRepository;
 
-    // Constructor - JPA repository'yi enjekte eder
-    public LoanRepositoryImpl(JpaLoanRepository jpaLoanRepository) {
+    // Arşivlenmiş kayıtlar (loans_history) için JPA repository
+    private final JpaLoanHistoryRepository jpaLoanHistoryRepository;
+
+    // PostgreSQL: koşullu UPDATE güncel satırı RETURNING ile, önceki durumu kilitli alt sorgudan döndürür
+    private static final String RETURN_SQL_POSTGRES = """
+            UPDATE loans l SET status = 'RETURNED', return_date = :returnDate, version = l.version + 1
+            FROM (SELECT id, status FROM loans WHERE id = :id FOR UPDATE) previous
+            WHERE l.id = previous.id AND l.status <> 'RETURNED'
+            RETURNING l.id, l.book_id, l.user_id, l.loan_date, l.due_date, l.return_date,
+                      l.penalty_amount, l.version, previous.status AS previous_status
+            """;
+
+    // H2: OLD TABLE güncellenen satırların UPDATE öncesi halini verir, değişen kolonlar yeni değerleriyle seçilir
+    private static final String RETURN_SQL_H2 = """
+            SELECT id, book_id, user_id, loan_date, due_date, CAST(:returnDate AS DATE) AS return_date,
+                   penalty_amount, version + 1 AS version, status AS previous_status
+            FROM OLD TABLE (UPDATE loans SET status = 'RETURNED', return_date = :returnDate, version = version + 1
+                            WHERE id = :id AND status <> 'RETURNED')
+            """;
+
+    // Süresi geçmiş ACTIVE kayıtlardan en fazla batchSize tanesini OVERDUE yapar ve güncellenen satırları döndürür.
+    // SKIP LOCKED sayesinde aynı anda çalışan diğer instance'ların kilitlediği satırlar beklenmeden atlanır
+    private static final String OVERDUE_SQL_POSTGRES = """
+            UPDATE loans SET status = 'OVERDUE', version = version + 1
+            WHERE id IN (SELECT id FROM loans
+                         WHERE status = 'ACTIVE' AND due_date < :today
+                         LIMIT :batchSize
+                         FOR UPDATE SKIP LOCKED)
+            RETURNING id, book_id, user_id, loan_date, due_date, return_date, penalty_amount, version
+            """;
+
+    // H2: FINAL TABLE güncellenen satırların UPDATE sonrası halini verir
+    private static final String OVERDUE_SQL_H2 = """
+            SELECT id, book_id, user_id, loan_date, due_date, return_date, penalty_amount, version
+            FROM FINAL TABLE (UPDATE loans SET status = 'OVERDUE', version = version + 1
+                              WHERE id IN (SELECT id FROM loans
+                                           WHERE status = 'ACTIVE' AND due_date < :today
+                                           LIMIT :batchSize
+                                           FOR UPDATE SKIP LOCKED))
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Arşiv tablosunun aylık bölümleri
+    private final LoanHistoryPartitions historyPartitions;
+
+    // Constructor - JPA repository'leri ve bölüm yöneticisini enjekte eder
+    public LoanRepositoryImpl(JpaLoanRepository jpaLoanRepository,
+                              JpaLoanHistoryRepository jpaLoanHistoryRepository,
+                              LoanHistoryPartitions historyPartitions) {
         this.jpaLoanRepository = jpaLoanRepository;
+        this.jpaLoanHistoryRepository = jpaLoanHistoryRepository;
+        this.historyPartitions = historyPartitions;
     }
 
     /**
@@ -41,6 +115,31 @@ public class LoanRepositoryImpl implements LoanRepository {
         return mapToDomain(savedEntity);
     }
 
+    /**
+     * Birden fazla ödünç kaydını tek transaction içinde kaydeder
+     * Hibernate JDBC batching açık olduğunda INSERT'ler toplu olarak gönderilir
+     */
+    @Override
+    @Transactional
+    public List<Loan> saveAll(List<Loan> loans) {
+        // Domain model'leri JPA entity'lere dönüştür
+        List<LoanEntity> entityList = new ArrayList<>(loans.size());
+        for (Loan loan : loans) {
+            entityList.add(mapToEntity(loan));
+        }
+
+        // Hepsini tek seferde kaydet
+        List<LoanEntity> savedList = jpaLoanRepository.saveAll(entityList);
+
+        // Kaydedilen entity'leri domain model'e dönüştür
+        List<Loan> loanList = new ArrayList<>(savedList.size());
+        for (LoanEntity entity : savedList) {
+            loanList.add(mapToDomain(entity));
+        }
+
+        return loanList;
+    }
+
     /**
      * ID'ye göre ödünç kaydı bulur
      */
@@ -60,6 +159,14 @@ public class LoanRepositoryImpl implements LoanRepository {
         return Optional.of(loan);
     }
 
+    /**
+     * Bu katmanda önbellek yoktur, findById ile aynıdır
+     */
+    @Override
+    public Optional<Loan> findCurrentById(UUID id) {
+        return findById(id);
+    }
+
     /**
      * Tüm ödünç kayıtlarını getirir
      */
@@ -114,6 +221,184 @@ public class LoanRepositoryImpl implements LoanRepository {
         return loanList;
     }
 
+    /**
+     * Belirli bir kullanıcıya ait ödünç kayıtlarından bir sayfa getirir
+     */
+    @Override
+    public LoanPage findPageByUserId(UUID userId, LoanCursor after, int limit, LoanSort sort) {
+        return findPage(LoanSpecifications.hasUserId(userId), after, limit, sort);
+    }
+
+    /**
+     * Belirli bir kitaba ait ödünç kayıtlarından bir sayfa getirir
+     */
+    @Override
+    public LoanPage findPageByBookId(UUID bookId, LoanCursor after, int limit, LoanSort sort) {
+        return findPage(LoanSpecifications.hasBookId(bookId), after, limit, sort);
+    }
+
+    /**
+     * Süresi geçmiş aktif kayıtlardan bir grubu tek bir UPDATE ile OVERDUE yapar
+     * Güncellenen satırlar aynı ifadeden döner: PostgreSQL'de RETURNING, H2'de FINAL TABLE.
+     * Çağıranın transaction'ına katılır; sweeper her grubu ve olaylarını kendi kısa transaction'ında çalıştırır
+     */
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public List<Loan> markOverdue(LocalDate today, int batchSize) {
+        entityManager.flush();
+        List<Object[]> rows = loanRowQuery(isPostgres() ? OVERDUE_SQL_POSTGRES : OVERDUE_SQL_H2)
+                .setParameter("today", today)
+                .setParameter("batchSize", batchSize)
+                .getResultList();
+        entityManager.clear();
+
+        List<Loan> loans = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            loans.add(toLoan(row, LoanStatus.OVERDUE));
+        }
+        return loans;
+    }
+
+    /**
+     * Kaydı tek bir koşullu UPDATE ile iade eder (status <> RETURNED)
+     * Kaydın güncel hali ve önceki durumu aynı ifadeden okunur: PostgreSQL'de UPDATE ... RETURNING,
+     * H2'de OLD TABLE (UPDATE ...). Aynı kaydı aynı anda iade eden iki istekten sadece biri satırı günceller.
+     * Güncellenen satır yoksa kayıt bulunamamış veya başka bir istek tarafından zaten iade edilmiştir
+     */
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Optional<ReturnedLoan> markReturned(UUID id, LocalDate returnDate) {
+        // Bekleyen değişiklikler UPDATE'ten önce yazılır, eski entity'ler sonradan okunmasın diye temizlenir
+        entityManager.flush();
+        List<Object[]> rows = loanRowQuery(isPostgres() ? RETURN_SQL_POSTGRES : RETURN_SQL_H2)
+                .setParameter("id", id)
+                .setParameter("returnDate", returnDate)
+                .addScalar("previous_status", StandardBasicTypes.STRING)
+                .getResultList();
+        entityManager.clear();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] row = rows.get(0);
+        return Optional.of(new ReturnedLoan(toLoan(row, LoanStatus.RETURNED), LoanStatus.valueOf((String) row[8])));
+    }
+
+    /**
+     * ID'ye göre ödünç kaydını önce loans, bulunamazsa loans_history tablosunda arar
+     */
+    @Override
+    public Optional<Loan> findByIdIncludingHistory(UUID id) {
+        Optional<Loan> hot = findById(id);
+        if (hot.isPresent()) {
+            return hot;
+        }
+        return jpaLoanHistoryRepository.findById(id).map(this::mapToDomain);
+    }
+
+    /**
+     * Kullanıcının sıcak ve arşivlenmiş kayıtlarından bir sayfa getirir
+     * İki tablodan da aynı imleç ve sıralamayla limit + 1 kayıt okunur, bellekte birleştirilir.
+     * Bir kayıt aynı anda iki tabloda bulunmaz (arşivleme tek transaction'da kopyalayıp siler)
+     */
+    @Override
+    public LoanPage findPageByUserIdIncludingHistory(UUID userId, LoanCursor after, int limit, LoanSort sort) {
+        Specification<LoanEntity> hotSpec = LoanSpecifications.<LoanEntity>hasUserId(userId)
+                .and(LoanSpecifications.after(after, sort));
+        Specification<LoanHistoryEntity> historySpec = LoanSpecifications.<LoanHistoryEntity>hasUserId(userId)
+                .and(LoanSpecifications.after(after, sort));
+
+        List<Loan> merged = new ArrayList<>(2 * (limit + 1));
+        for (LoanEntity entity : jpaLoanRepository.findBy(hotSpec, query -> query
+                .sortBy(LoanSpecifications.orderOf(sort))
+                .limit(limit + 1)
+                .all())) {
+            merged.add(mapToDomain(entity));
+        }
+        for (LoanHistoryEntity entity : jpaLoanHistoryRepository.findBy(historySpec, query -> query
+                .sortBy(LoanSpecifications.orderOf(sort))
+                .limit(limit + 1)
+                .all())) {
+            merged.add(mapToDomain(entity));
+        }
+        merged.sort(LoanSpecifications.comparatorOf(sort));
+
+        // Fazladan gelen kayıt varsa bir sonraki sayfa vardır
+        boolean hasNext = merged.size() > limit;
+        List<Loan> loanList = hasNext ? new ArrayList<>(merged.subList(0, limit)) : merged;
+        LoanCursor nextCursor = hasNext ? LoanCursor.of(loanList.get(limit - 1), sort) : null;
+        return new LoanPage(loanList, nextCursor);
+    }
+
+    /**
+     * Arşivlenecek kayıtların iade tarihlerini kapsayan aylık bölümleri gruplardan önce oluşturur
+     * Transaction açmaz; her bölüm LoanHistoryPartitions'ta kendi transaction'ında oluşturulur
+     */
+    @Override
+    public void prepareArchive(LocalDate returnedBefore) {
+        if (!historyPartitions.isPartitioned()) {
+            return;
+        }
+        List<Object[]> range = jpaLoanRepository.findReturnDateRange(LoanStatus.RETURNED, returnedBefore);
+        if (range.isEmpty() || range.get(0)[0] == null) {
+            return;
+        }
+        historyPartitions.ensureRange(YearMonth.from(toLocalDate(range.get(0)[0])),
+                YearMonth.from(toLocalDate(range.get(0)[1])));
+    }
+
+    /**
+     * Eski iade edilmiş kayıtlardan bir grubu arşive taşır
+     * Satırlar kilitlenir, INSERT ... SELECT ile kopyalanıp silinir. Her grup kendi kısa transaction'ında çalışır.
+     * Bölümler prepareArchive'da oluşturulur; sonradan arşivlenebilir hale gelen bir ayın bölümü
+     * yine grubun transaction'ı dışında, ayrı bir transaction'da oluşturulur
+     */
+    @Override
+    @Transactional
+    public int archiveReturned(LocalDate returnedBefore, int batchSize) {
+        List<Object[]> rows = jpaLoanRepository.lockArchivable(returnedBefore, batchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = new ArrayList<>(rows.size());
+        Set<YearMonth> months = new HashSet<>();
+        for (Object[] row : rows) {
+            ids.add(toUuid(row[0]));
+            months.add(YearMonth.from(toLocalDate(row[1])));
+        }
+        for (YearMonth month : months) {
+            historyPartitions.ensure(month);
+        }
+
+        jpaLoanHistoryRepository.copyFromLoans(ids, OffsetDateTime.now());
+        return jpaLoanRepository.deleteArchived(ids);
+    }
+
+    /**
+     * Kullanıcı başına iade edilmemiş ödünç sayılarını tek bir GROUP BY sorgusuyla getirir
+     */
+    @Override
+    public Map<UUID, Integer> countUnreturnedLoansByUser() {
+        List<Object[]> rows = jpaLoanRepository.countByUserIdAndStatusNot(LoanStatus.RETURNED);
+
+        Map<UUID, Integer> counts = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            counts.put((UUID) row[0], ((Long) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Bir kullanıcının iade edilmemiş ödünç sayısını getirir
+     */
+    @Override
+    public int countUnreturnedLoans(UUID userId) {
+        return (int) jpaLoanRepository.countUnreturnedByUserId(userId, LoanStatus.RETURNED);
+    }
+
     /**
      * ID'ye göre ödünç kaydını siler
      */
@@ -132,11 +417,100 @@ public class LoanRepositoryImpl implements LoanRepository {
         return jpaLoanRepository.existsById(id);
     }
 
+    /**
+     * Keyset sayfalama ile tek bir sayfa okur
+     * Sonraki sayfanın olup olmadığını anlamak için limit + 1 kayıt istenir,
+     * böylece ayrı bir COUNT sorgusuna gerek kalmaz
+     */
+    private LoanPage findPage(Specification<LoanEntity> scope, LoanCursor after, int limit, LoanSort sort) {
+        Specification<LoanEntity> spec = LoanSpecifications.after(after, sort);
+        if (scope != null) {
+            spec = scope.and(spec);
+        }
+
+        // İmleçten sonraki limit + 1 kaydı sıralı olarak al
+        List<LoanEntity> entityList = jpaLoanRepository.findBy(spec, query -> query
+                .sortBy(LoanSpecifications.orderOf(sort))
+                .limit(limit + 1)
+                .all());
+
+        // Fazladan gelen kayıt varsa bir sonraki sayfa vardır
+        boolean hasNext = entityList.size() > limit;
+        int size = hasNext ? limit : entityList.size();
+
+        // Sayfadaki entity'leri domain model'e dönüştür
+        List<Loan> loanList = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            loanList.add(mapToDomain(entityList.get(i)));
+        }
+
+        // Son kayıttan bir sonraki sayfanın imlecini oluştur
+        LoanCursor nextCursor = hasNext ? LoanCursor.of(loanList.get(size - 1), sort) : null;
+        return new LoanPage(loanList, nextCursor);
+    }
+
+    // Native sorgulardaki DATE kolonu sürücüye göre java.sql.Date veya LocalDate olarak gelir
+    // İfadelerin söz dizimi Hibernate'in kullandığı dialect'e göre seçilir
+    private boolean isPostgres() {
+        Dialect dialect = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        return dialect instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * Satır döndüren native UPDATE ifadesi; ilk sekiz kolon loans satırıdır (toLoan ile okunur)
+     */
+    @SuppressWarnings("rawtypes")
+    private NativeQuery loanRowQuery(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.UUID)
+                .addScalar("book_id", StandardBasicTypes.UUID)
+                .addScalar("user_id", StandardBasicTypes.UUID)
+                .addScalar("loan_date", StandardBasicTypes.LOCAL_DATE)
+                .addScalar("due_date", StandardBasicTypes.LOCAL_DATE)
+                .addScalar("return_date", StandardBasicTypes.LOCAL_DATE)
+                .addScalar("penalty_amount", StandardBasicTypes.BIG_DECIMAL)
+                .addScalar("version", StandardBasicTypes.LONG);
+    }
+
+    // loanRowQuery satırını, durumu ifadenin yazdığı değer olan domain modeline dönüştürür
+    private Loan toLoan(Object[] row, LoanStatus status) {
+        LoanEntity entity = new LoanEntity();
+        entity.setId((UUID) row[0]);
+        entity.setBookId((UUID) row[1]);
+        entity.setUserId((UUID) row[2]);
+        entity.setLoanDate((LocalDate) row[3]);
+        entity.setDueDate((LocalDate) row[4]);
+        entity.setReturnDate((LocalDate) row[5]);
+        entity.setStatus(status);
+        entity.setPenaltyAmount((BigDecimal) row[6]);
+        entity.setVersion((Long) row[7]);
+        return mapToDomain(entity);
+    }
+
+    // Native sorgularda UUID kolonu PostgreSQL'de UUID, H2'de 16 baytlık dizi olarak döner
+    private static UUID toUuid(Object value) {
+        if (value instanceof byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return (UUID) value;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
     /**
      * Domain model (Loan) objesini JPA entity (LoanEntity) objesine dönüştürür
      * Bu işlem veritabanına kaydetmeden önce yapılır
+     * (benchmarks modülünden ölçülebilmesi için package-private)
      */
-    private LoanEntity mapToEntity(Loan loan) {
+    LoanEntity mapToEntity(Loan loan) {
         // Yeni bir JPA entity oluştur
         LoanEntity entity = new LoanEntity();
 
@@ -149,6 +523,7 @@ public class LoanRepositoryImpl implements LoanRepository {
         entity.setReturnDate(loan.getReturnDate());
         entity.setStatus(loan.getStatus());
         entity.setPenaltyAmount(loan.getPenaltyAmount());
+        entity.setVersion(loan.getVersion());
 
         return entity;
     }
@@ -156,8 +531,9 @@ public class LoanRepositoryImpl implements LoanRepository {
     /**
      * JPA entity (LoanEntity) objesini domain model (Loan) objesine dönüştürür
      * Bu işlem veritabanından okuma yapıldıktan sonra yapılır
+     * (benchmarks modülünden ölçülebilmesi için package-private)
      */
-    private Loan mapToDomain(LoanEntity entity) {
+    Loan mapToDomain(LoanEntity entity) {
         // Yeni bir domain model oluştur
         Loan loan = new Loan();
 
@@ -170,8 +546,27 @@ public class LoanRepositoryImpl implements LoanRepository {
         loan.setReturnDate(entity.getReturnDate());
         loan.setStatus(entity.getStatus());
         loan.setPenaltyAmount(entity.getPenaltyAmount());
+        loan.setVersion(entity.getVersion());
 
         return loan;
     }
-}
 
+    /**
+     * Arşivlenmiş kaydı (LoanHistoryEntity) domain model'e dönüştürür
+     */
+    Loan mapToDomain(LoanHistoryEntity entity) {
+        Loan loan = new Loan();
+
+        loan.setId(entity.getId());
+        loan.setBookId(entity.getBookId());
+        loan.setUserId(entity.getUserId());
+        loan.setLoanDate(entity.getLoanDate());
+        loan.setDueDate(entity.getDueDate());
+        loan.setReturnDate(entity.getReturnDate());
+        loan.setStatus(entity.getStatus());
+        loan.setPenaltyAmount(entity.getPenaltyAmount());
+        loan.setVersion(entity.getVersion());
+
+        return loan;
+    }
+}
@@ -0,0 +1,103 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanCursor;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * LoanEntity ve LoanHistoryEntity sorguları için tekrar kullanılabilen JPA Specification'ları
+ * İki entity aynı alan adlarını kullandığı için Specification'lar entity tipinden bağımsızdır
+ */
+final class LoanSpecifications {
+
+    private LoanSpecifications() {
+    }
+
+    // Belirli bir kullanıcıya ait kayıtlar
+    static <T> Specification<T> hasUserId(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    // Belirli bir kitaba ait kayıtlar
+    static <T> Specification<T> hasBookId(UUID bookId) {
+        return (root, query, cb) -> cb.equal(root.get("bookId"), bookId);
+    }
+
+    // Belirli durumdaki kayıtlar (status null ise koşul eklenmez)
+    static <T> Specification<T> hasStatus(LoanStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    // Tarih alanı [from, to] aralığında; gönderilmeyen uç için koşul eklenmez
+    static <T> Specification<T> dateBetween(String property, LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            Path<LocalDate> value = root.get(property);
+            if (from != null && to != null) {
+                return cb.between(value, from, to);
+            }
+            if (from != null) {
+                return cb.greaterThanOrEqualTo(value, from);
+            }
+            if (to != null) {
+                return cb.lessThanOrEqualTo(value, to);
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Keyset koşulu: imleçteki (sıralama değeri, id) çiftinden sonra gelen kayıtlar
+     * Artan sıralamada (değer > v) OR (değer = v AND id > i), azalan sıralamada tersi
+     * İmleç yoksa koşul eklenmez
+     */
+    static <T> Specification<T> after(LoanCursor cursor, LoanSort sort) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            Path<LocalDate> value = root.get(sort.getProperty());
+            Path<UUID> id = root.get("id");
+            if (sort.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(value, cursor.getSortValue()),
+                        cb.and(cb.equal(value, cursor.getSortValue()), cb.greaterThan(id, cursor.getId())));
+            }
+            return cb.or(
+                    cb.lessThan(value, cursor.getSortValue()),
+                    cb.and(cb.equal(value, cursor.getSortValue()), cb.lessThan(id, cursor.getId())));
+        };
+    }
+
+    /**
+     * Keyset koşuluyla aynı yönde, ID ile sabitlenmiş sıralama
+     * ID eklenmezse aynı tarihli kayıtlar sayfalar arasında kayabilir
+     */
+    static Sort orderOf(LoanSort sort) {
+        Sort.Direction direction = sort.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(direction, sort.getProperty()).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * orderOf ile aynı sıralama; iki tablodan okunup bellekte birleştirilen sayfalar için
+     * ID'ler veritabanındaki gibi işaretsiz (bayt bayt) karşılaştırılır
+     */
+    static Comparator<Loan> comparatorOf(LoanSort sort) {
+        Comparator<Loan> comparator = Comparator.comparing((Loan loan) -> sort.valueOf(loan))
+                .thenComparing(Loan::getId, LoanSpecifications::compareUnsigned);
+        return sort.isAscending() ? comparator : comparator.reversed();
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result
+                : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
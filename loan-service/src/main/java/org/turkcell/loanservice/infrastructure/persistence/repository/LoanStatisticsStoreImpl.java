@@ -0,0 +1,110 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.turkcell.loanservice.application.statistics.LoanStatisticsStore;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * LoanStatisticsStore interface'inin implementasyonu
+ * Farklar özet tablolara tek transaction içinde, JDBC batch ile eklenir.
+ * Satırlar her instance'ta aynı sırayla (anahtara göre sıralı) güncellenir, flush'lar birbirini kilitlemez
+ */
+@Repository
+public class LoanStatisticsStoreImpl implements LoanStatisticsStore {
+    // PostgreSQL'de INSERT ... ON CONFLICT, diğer veritabanlarında (testlerdeki H2) MERGE kullanılır
+    private static final String PG_ADD_BOOK = """
+            INSERT INTO loan_book_stats (book_id, total_loans) VALUES (?, ?)
+            ON CONFLICT (book_id) DO UPDATE SET total_loans = loan_book_stats.total_loans + EXCLUDED.total_loans
+            """;
+    private static final String PG_ADD_DAY = """
+            INSERT INTO loan_daily_stats (loan_date, checkouts) VALUES (?, ?)
+            ON CONFLICT (loan_date) DO UPDATE SET checkouts = loan_daily_stats.checkouts + EXCLUDED.checkouts
+            """;
+    private static final String MERGE_ADD_BOOK = """
+            MERGE INTO loan_book_stats t
+            USING (VALUES (CAST(? AS UUID), CAST(? AS BIGINT))) AS s(book_id, delta) ON t.book_id = s.book_id
+            WHEN MATCHED THEN UPDATE SET total_loans = t.total_loans + s.delta
+            WHEN NOT MATCHED THEN INSERT (book_id, total_loans) VALUES (s.book_id, s.delta)
+            """;
+    private static final String MERGE_ADD_DAY = """
+            MERGE INTO loan_daily_stats t
+            USING (VALUES (CAST(? AS DATE), CAST(? AS BIGINT))) AS s(loan_date, delta) ON t.loan_date = s.loan_date
+            WHEN MATCHED THEN UPDATE SET checkouts = t.checkouts + s.delta
+            WHEN NOT MATCHED THEN INSERT (loan_date, checkouts) VALUES (s.loan_date, s.delta)
+            """;
+    private static final String OVERDUE = "overdue";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Kitap ve gün farklarını ekleyen, veritabanına göre seçilmiş sorgular
+    private final String addBookSql;
+    private final String addDaySql;
+
+    public LoanStatisticsStoreImpl(JdbcTemplate jdbcTemplate, DataSource dataSource) throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        boolean postgres = "PostgreSQL".equalsIgnoreCase(product);
+        this.addBookSql = postgres ? PG_ADD_BOOK : MERGE_ADD_BOOK;
+        this.addDaySql = postgres ? PG_ADD_DAY : MERGE_ADD_DAY;
+    }
+
+    @Override
+    @Transactional
+    public void add(Map<UUID, Long> bookDeltas, Map<LocalDate, Long> dailyDeltas, long overdueDelta) {
+        if (!bookDeltas.isEmpty()) {
+            jdbcTemplate.batchUpdate(addBookSql, rows(new TreeMap<>(bookDeltas)));
+        }
+        if (!dailyDeltas.isEmpty()) {
+            jdbcTemplate.batchUpdate(addDaySql, rows(new TreeMap<>(dailyDeltas)));
+        }
+        if (overdueDelta != 0) {
+            jdbcTemplate.update("UPDATE loan_counters SET counter_value = counter_value + ? WHERE counter_name = ?",
+                    overdueDelta, OVERDUE);
+        }
+    }
+
+    @Override
+    public long totalLoansOfBook(UUID bookId) {
+        return single("SELECT total_loans FROM loan_book_stats WHERE book_id = ?", bookId);
+    }
+
+    @Override
+    public Map<LocalDate, Long> dailyCheckouts(LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> days = new HashMap<>();
+        jdbcTemplate.query("SELECT loan_date, checkouts FROM loan_daily_stats WHERE loan_date BETWEEN ? AND ?",
+                rs -> {
+                    days.put(rs.getObject(1, LocalDate.class), rs.getLong(2));
+                }, from, to);
+        return days;
+    }
+
+    @Override
+    public long overdueLoans() {
+        return single("SELECT counter_value FROM loan_counters WHERE counter_name = ?", OVERDUE);
+    }
+
+    // Tek satırlık sayacı okur, satır yoksa 0
+    private long single(String sql, Object key) {
+        Long value = jdbcTemplate.query(sql, rs -> rs.next() ? rs.getLong(1) : 0L, key);
+        return value == null ? 0L : value;
+    }
+
+    private static <K> List<Object[]> rows(Map<K, Long> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> rows.add(new Object[]{key, delta}));
+        return rows;
+    }
+}
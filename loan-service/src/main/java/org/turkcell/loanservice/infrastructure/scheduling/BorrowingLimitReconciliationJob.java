@@ -0,0 +1,45 @@
+package org.turkcell.loanservice.infrastructure.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.turkcell.loanservice.application.service.ActiveLoanCounter;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+/**
+ * Ödünç sayaçlarını uygulama açılırken veritabanından doldurur
+ * ve belirli aralıklarla veritabanıyla eşitleyerek kaymaları düzeltir
+ */
+@Component
+public class BorrowingLimitReconciliationJob {
+    private static final Logger log = LoggerFactory.getLogger(BorrowingLimitReconciliationJob.class);
+
+    private final ActiveLoanCounter activeLoanCounter;
+    private final LoanRepository loanRepository;
+
+    public BorrowingLimitReconciliationJob(ActiveLoanCounter activeLoanCounter, LoanRepository loanRepository) {
+        this.activeLoanCounter = activeLoanCounter;
+        this.loanRepository = loanRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long epoch = activeLoanCounter.epoch();
+        int users = activeLoanCounter.reconcile(loanRepository.countUnreturnedLoansByUser(), epoch);
+        log.info("Borrowing limit counters warmed up for {} users", users);
+    }
+
+    @Scheduled(fixedDelayString = "${loan.borrowing-limit.reconcile-interval-ms:300000}",
+            initialDelayString = "${loan.borrowing-limit.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        // Sorgu sırasında değişen sayaçlar ezilmesin diye epoch sorgudan önce alınır
+        long epoch = activeLoanCounter.epoch();
+        int corrected = activeLoanCounter.reconcile(loanRepository.countUnreturnedLoansByUser(), epoch);
+        if (corrected > 0) {
+            log.warn("Borrowing limit counters drifted for {} users and were corrected", corrected);
+        }
+    }
+}
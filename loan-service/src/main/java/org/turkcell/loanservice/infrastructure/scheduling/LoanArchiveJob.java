@@ -0,0 +1,30 @@
+package org.turkcell.loanservice.infrastructure.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.turkcell.loanservice.application.service.LoanArchiver;
+
+/**
+ * LoanArchiver'ı zamanlanmış olarak çalıştırır
+ * Birden fazla instance aynı anda çalışabilir: satırlar SKIP LOCKED ile paylaşılır
+ */
+@Component
+@ConditionalOnProperty(name = "loan.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class LoanArchiveJob {
+    private static final Logger log = LoggerFactory.getLogger(LoanArchiveJob.class);
+
+    private final LoanArchiver archiver;
+
+    public LoanArchiveJob(LoanArchiver archiver) {
+        this.archiver = archiver;
+    }
+
+    @Scheduled(cron = "${loan.archive.cron:0 30 3 * * *}")
+    public void run() {
+        int archived = archiver.archive();
+        log.info("Loan archive moved {} returned loans to loans_history", archived);
+    }
+}
@@ -0,0 +1,56 @@
+package org.turkcell.loanservice.infrastructure.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.turkcell.loanservice.application.statistics.LoanStatistics;
+
+/**
+ * Bellekte biriken istatistik farklarını belirli aralıklarla özet tablolara yazar
+ * Yazma başarısız olursa farklar bir sonraki çalıştırmaya kalır. Uygulama kapanırken sonraki çalıştırma
+ * olmayacağı için son flush birkaç kez denenir
+ */
+@Component
+public class LoanStatisticsFlushJob {
+    private static final Logger log = LoggerFactory.getLogger(LoanStatisticsFlushJob.class);
+
+    // Kapanışta flush'ın en fazla kaç kez deneneceği ve denemeler arası bekleme
+    private static final int SHUTDOWN_ATTEMPTS = 3;
+    private static final long SHUTDOWN_RETRY_DELAY_MS = 1000;
+
+    private final LoanStatistics loanStatistics;
+
+    public LoanStatisticsFlushJob(LoanStatistics loanStatistics) {
+        this.loanStatistics = loanStatistics;
+    }
+
+    @Scheduled(fixedDelayString = "${loan.statistics.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            loanStatistics.flush();
+        } catch (RuntimeException e) {
+            log.warn("Loan statistics flush failed, deltas will be retried", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                int rows = loanStatistics.flush();
+                log.info("Loan statistics flushed {} counters on shutdown", rows);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == SHUTDOWN_ATTEMPTS) {
+                    log.error("Loan statistics flush failed on shutdown after {} attempts, unflushed deltas are lost",
+                            attempt, e);
+                    return;
+                }
+                log.warn("Loan statistics flush failed on shutdown (attempt {}), retrying", attempt, e);
+            }
+            Thread.sleep(SHUTDOWN_RETRY_DELAY_MS);
+        }
+    }
+}
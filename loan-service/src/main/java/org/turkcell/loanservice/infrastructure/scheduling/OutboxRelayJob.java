@@ -0,0 +1,26 @@
+package org.turkcell.loanservice.infrastructure.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.turkcell.loanservice.infrastructure.messaging.OutboxRelay;
+
+/**
+ * OutboxRelay'i belirli aralıklarla çalıştırır
+ * linger-ms, olayların gruplanmak için en fazla ne kadar bekleyeceğini belirler
+ */
+@Component
+@ConditionalOnProperty(name = "loan.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayJob {
+
+    private final OutboxRelay relay;
+
+    public OutboxRelayJob(OutboxRelay relay) {
+        this.relay = relay;
+    }
+
+    @Scheduled(fixedDelayString = "${loan.outbox.relay.linger-ms:500}")
+    public void run() {
+        relay.relayPending();
+    }
+}
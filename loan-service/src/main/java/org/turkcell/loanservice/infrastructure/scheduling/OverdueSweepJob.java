@@ -0,0 +1,30 @@
+package org.turkcell.loanservice.infrastructure.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.turkcell.loanservice.application.service.OverdueLoanSweeper;
+
+/**
+ * OverdueLoanSweeper'ı zamanlanmış olarak çalıştırır
+ * Birden fazla instance aynı anda çalışabilir: UPDATE'ler SKIP LOCKED ile satırları paylaşır
+ */
+@Component
+@ConditionalOnProperty(name = "loan.overdue-sweep.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueSweepJob {
+    private static final Logger log = LoggerFactory.getLogger(OverdueSweepJob.class);
+
+    private final OverdueLoanSweeper sweeper;
+
+    public OverdueSweepJob(OverdueLoanSweeper sweeper) {
+        this.sweeper = sweeper;
+    }
+
+    @Scheduled(cron = "${loan.overdue-sweep.cron:0 0 * * * *}")
+    public void run() {
+        int updated = sweeper.sweep();
+        log.info("Overdue sweep marked {} loans as OVERDUE", updated);
+    }
+}
@@ -1,16 +1,32 @@
 package org.turkcell.loanservice.presentation.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.turkcell.loanservice.application.dto.BulkLoanResponse;
+import org.turkcell.loanservice.application.dto.LoanPageResponse;
 import org.turkcell.loanservice.application.dto.LoanRequest;
 import org.turkcell.loanservice.application.dto.LoanResponse;
 import org.turkcell.loanservice.application.dto.LoanUpdateRequest;
+import org.turkcell.loanservice.application.query.LoanSearchCriteria;
 import org.turkcell.loanservice.application.service.LoanService;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.model.LoanStatus;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Loan Controller sınıfı
@@ -20,12 +36,19 @@ import java.util.UUID;
 @RestController
 @RequestMapping("/api/v1/loans")
 public class LoanController {
+    // NDJSON dışa aktarımının içerik tipi
+    private static final String NDJSON = "application/x-ndjson";
+
     // Business logic işlemleri için service sınıfı
     private final LoanService loanService;
 
-    // Constructor - service'i enjekte eder
-    public LoanController(LoanService loanService) {
+    // Dışa aktarımda kayıtları JSON'a çevirmek için
+    private final ObjectMapper objectMapper;
+
+    // Constructor - service'i ve ObjectMapper'ı enjekte eder
+    public LoanController(LoanService loanService, ObjectMapper objectMapper) {
         this.loanService = loanService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -43,63 +66,221 @@ public class LoanController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Birden fazla ödünç kaydını tek istekte oluşturur
+     * POST /api/v1/loans/bulk
+     * @param requests Ödünç bilgilerini içeren request listesi
+     * @return Her bir kaydın sonucu (HTTP 200 OK)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkLoanResponse> createLoans(@RequestBody List<LoanRequest> requests) {
+        // Service'i kullanarak kayıtları toplu oluştur
+        BulkLoanResponse response = loanService.createLoans(requests);
+
+        // HTTP 200 OK status kodu ile döndür
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * ID'ye göre ödünç kaydı getirir
-     * GET /api/v1/loans/{id}
+     * GET /api/v1/loans/{id}?includeHistory=true
      * @param id Aranacak ödünç kaydının ID'si
+     * @param includeHistory true ise arşivlenmiş kayıtlar da aranır
      * @return Bulunan ödünç kaydı (HTTP 200 OK)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<LoanResponse> getLoanById(@PathVariable UUID id) {
+    public ResponseEntity<LoanResponse> getLoanById(@PathVariable UUID id,
+                                                    @RequestParam(defaultValue = "false") boolean includeHistory) {
         // Service'i kullanarak kaydı bul
-        LoanResponse response = loanService.getLoanById(id);
+        LoanResponse response = loanService.getLoanById(id, includeHistory);
 
         // HTTP 200 OK status kodu ile döndür
         return ResponseEntity.ok(response);
     }
 
     /**
-     * Tüm ödünç kayıtlarını getirir
-     * GET /api/v1/loans
-     * @return Tüm ödünç kayıtlarının listesi (HTTP 200 OK)
+     * Tüm ödünç kayıtlarını sayfa sayfa getirir
+     * GET /api/v1/loans?cursor=...&size=20&sort=LOAN_DATE_DESC
+     * @param cursor Önceki sayfanın nextCursor değeri (ilk sayfa için gönderilmez)
+     * @param size Sayfa boyutu (en fazla 100)
+     * @param sort Sıralama
+     * @return Ödünç kayıtlarından bir sayfa (HTTP 200 OK)
      */
     @GetMapping
-    public ResponseEntity<List<LoanResponse>> getAllLoans() {
-        // Service'i kullanarak tüm kayıtları getir
-        List<LoanResponse> responses = loanService.getAllLoans();
+    public ResponseEntity<LoanPageResponse> getAllLoans(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(defaultValue = "20") int size,
+                                                        @RequestParam(defaultValue = "LOAN_DATE_DESC") LoanSort sort) {
+        // Service'i kullanarak istenen sayfayı getir
+        LoanPageResponse response = loanService.getAllLoans(cursor, size, sort);
+
+        // HTTP 200 OK status kodu ile döndür
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Ödünç kayıtlarını birleştirilebilen filtrelerle sayfa sayfa arar
+     * GET /api/v1/loans/search?status=OVERDUE&bookId=...&dueDateFrom=2024-01-01&dueDateTo=2024-01-31
+     * Gönderilmeyen filtreler uygulanmaz; tarih aralıklarının iki ucu da dahildir
+     * @param status Durum filtresi (opsiyonel)
+     * @param userId Kullanıcı filtresi (opsiyonel)
+     * @param bookId Kitap filtresi (opsiyonel)
+     * @param loanDateFrom Ödünç alma tarihi alt sınırı (opsiyonel)
+     * @param loanDateTo Ödünç alma tarihi üst sınırı (opsiyonel)
+     * @param dueDateFrom Son iade tarihi alt sınırı (opsiyonel)
+     * @param dueDateTo Son iade tarihi üst sınırı (opsiyonel)
+     * @param cursor Önceki sayfanın nextCursor değeri
+     * @param size Sayfa boyutu
+     * @param sort Sıralama
+     * @return Filtrelere uyan ödünç kayıtlarından bir sayfa (HTTP 200 OK)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<LoanPageResponse> searchLoans(
+            @RequestParam(required = false) LoanStatus status,
+            @RequestParam(required = false) UUID userId,
+            @RequestParam(required = false) UUID bookId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate loanDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate loanDateTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "LOAN_DATE_DESC") LoanSort sort) {
+        LoanSearchCriteria criteria = new LoanSearchCriteria(status, userId, bookId,
+                loanDateFrom, loanDateTo, dueDateFrom, dueDateTo);
+
+        // Service'i kullanarak filtrelere uyan kayıtlardan bir sayfa getir
+        LoanPageResponse response = loanService.searchLoans(criteria, cursor, size, sort);
 
         // HTTP 200 OK status kodu ile döndür
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(response);
     }
 
     /**
-     * Belirli bir kullanıcıya ait ödünç kayıtlarını getirir
-     * GET /api/v1/loans/user/{userId}
+     * Belirli bir kullanıcıya ait ödünç kayıtlarını sayfa sayfa getirir
+     * GET /api/v1/loans/user/{userId}?includeHistory=true
      * @param userId Kullanıcının ID'si
-     * @return Kullanıcıya ait ödünç kayıtlarının listesi (HTTP 200 OK)
+     * @param cursor Önceki sayfanın nextCursor değeri
+     * @param size Sayfa boyutu
+     * @param sort Sıralama
+     * @param includeHistory true ise arşivlenmiş kayıtlar da listelenir
+     * @return Kullanıcıya ait ödünç kayıtlarından bir sayfa (HTTP 200 OK)
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<LoanResponse>> getLoansByUserId(@PathVariable UUID userId) {
-        // Service'i kullanarak kullanıcıya ait kayıtları getir
-        List<LoanResponse> responses = loanService.getLoansByUserId(userId);
+    public ResponseEntity<LoanPageResponse> getLoansByUserId(@PathVariable UUID userId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size,
+                                                             @RequestParam(defaultValue = "LOAN_DATE_DESC") LoanSort sort,
+                                                             @RequestParam(defaultValue = "false") boolean includeHistory) {
+        // Service'i kullanarak kullanıcıya ait kayıtlardan bir sayfa getir
+        LoanPageResponse response = loanService.getLoansByUserId(userId, cursor, size, sort, includeHistory);
 
         // HTTP 200 OK status kodu ile döndür
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(response);
     }
 
     /**
-     * Belirli bir kitaba ait ödünç kayıtlarını getirir
+     * Belirli bir kitaba ait ödünç kayıtlarını sayfa sayfa getirir
      * GET /api/v1/loans/book/{bookId}
      * @param bookId Kitabın ID'si
-     * @return Kitaba ait ödünç kayıtlarının listesi (HTTP 200 OK)
+     * @param cursor Önceki sayfanın nextCursor değeri
+     * @param size Sayfa boyutu
+     * @param sort Sıralama
+     * @return Kitaba ait ödünç kayıtlarından bir sayfa (HTTP 200 OK)
      */
     @GetMapping("/book/{bookId}")
-    public ResponseEntity<List<LoanResponse>> getLoansByBookId(@PathVariable UUID bookId) {
-        // Service'i kullanarak kitaba ait kayıtları getir
-        List<LoanResponse> responses = loanService.getLoansByBookId(bookId);
+    public ResponseEntity<LoanPageResponse> getLoansByBookId(@PathVariable UUID bookId,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size,
+                                                             @RequestParam(defaultValue = "LOAN_DATE_DESC") LoanSort sort) {
+        // Service'i kullanarak kitaba ait kayıtlardan bir sayfa getir
+        LoanPageResponse response = loanService.getLoansByBookId(bookId, cursor, size, sort);
 
         // HTTP 200 OK status kodu ile döndür
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Ödünç kayıtlarını satır satır JSON (NDJSON) olarak dışa aktarır
+     * GET /api/v1/loans/export?status=ACTIVE&from=2024-01-01&to=2024-12-31
+     * Kayıtlar veritabanından okundukça yazılır, tamamı bellekte tutulmaz
+     * İstemci Accept-Encoding ile gzip'i (veya *) sıfırdan büyük q değeriyle kabul ederse çıktı gzip ile sıkıştırılır
+     * @param status Durum filtresi (opsiyonel)
+     * @param from Ödünç alma tarihi alt sınırı (opsiyonel)
+     * @param to Ödünç alma tarihi üst sınırı (opsiyonel)
+     * @param acceptEncoding İstemcinin kabul ettiği sıkıştırmalar
+     * @return Akış halinde NDJSON gövdesi (HTTP 200 OK)
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportLoans(
+            @RequestParam(required = false) LoanStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : outputStream;
+            // Her kayıttan sonra flush yapılmasın, tampon dolunca yazılsın
+            try (SequenceWriter writer = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(new BufferedOutputStream(target, 64 * 1024))) {
+                // Her kaydı okunduğu anda yaz
+                loanService.exportLoans(status, from, to, loan -> {
+                    try {
+                        writer.write(loan);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+
+        // Yanıt Accept-Encoding'e göre değiştiği için ara önbellekler bu başlığı anahtara katmalı
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * Accept-Encoding başlığının gzip'e izin verip vermediğini q değerleriyle birlikte değerlendirir
+     * Açıkça yazılan gzip, * değerinden önceliklidir; q=0 reddetmek anlamına gelir
+     * @param acceptEncoding İstemcinin gönderdiği başlık (gönderilmediyse null)
+     * @return gzip kullanılabiliyorsa true
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        // Bozuk q değeri kodlamayı kabul edilmiş saymaz
+                        quality = 0.0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                wildcardQuality = quality;
+            }
+        }
+        Double quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+        return quality != null && quality > 0;
     }
 
     /**
@@ -0,0 +1,69 @@
+package org.turkcell.loanservice.presentation.controller;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.turkcell.loanservice.application.dto.BookLoanStatisticsResponse;
+import org.turkcell.loanservice.application.dto.LoanStatisticsResponse;
+import org.turkcell.loanservice.application.dto.UserLoanStatisticsResponse;
+import org.turkcell.loanservice.application.service.LoanService;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Loan Statistics Controller sınıfı
+ * Panolar için ödünç istatistiklerini sunar
+ * Tüm değerler artımlı tutulan sayaçlardan okunur; geçmiş ne kadar büyük olursa olsun loans tablosu taranmaz
+ */
+@RestController
+@RequestMapping("/api/v1/loans/stats")
+public class LoanStatisticsController {
+    // İstatistikler service üzerinden okunur
+    private final LoanService loanService;
+
+    // Constructor - service'i enjekte eder
+    public LoanStatisticsController(LoanService loanService) {
+        this.loanService = loanService;
+    }
+
+    /**
+     * Süresi geçmiş ödünç sayısını ve günlük ödünç sayılarını getirir
+     * GET /api/v1/loans/stats?from=2024-01-01&to=2024-01-31
+     * @param from Aralığın ilk günü (opsiyonel - gönderilmezse son 30 gün)
+     * @param to Aralığın son günü (opsiyonel - gönderilmezse bugün)
+     * @return İstatistikler (HTTP 200 OK)
+     */
+    @GetMapping
+    public ResponseEntity<LoanStatisticsResponse> getStatistics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(loanService.getStatistics(from, to));
+    }
+
+    /**
+     * Kullanıcının iade edilmemiş ödünç sayısını getirir
+     * GET /api/v1/loans/stats/users/{userId}
+     * @param userId Kullanıcının ID'si
+     * @return Kullanıcı istatistikleri (HTTP 200 OK)
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<UserLoanStatisticsResponse> getUserStatistics(@PathVariable UUID userId) {
+        return ResponseEntity.ok(loanService.getUserStatistics(userId));
+    }
+
+    /**
+     * Kitabın şimdiye kadarki toplam ödünç sayısını getirir
+     * GET /api/v1/loans/stats/books/{bookId}
+     * @param bookId Kitabın ID'si
+     * @return Kitap istatistikleri (HTTP 200 OK)
+     */
+    @GetMapping("/books/{bookId}")
+    public ResponseEntity<BookLoanStatisticsResponse> getBookStatistics(@PathVariable UUID bookId) {
+        return ResponseEntity.ok(loanService.getBookStatistics(bookId));
+    }
+}
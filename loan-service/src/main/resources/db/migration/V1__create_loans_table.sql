@@ -0,0 +1,11 @@
+-- Ödünç kayıtları tablosu (LoanEntity)
+CREATE TABLE IF NOT EXISTS loans (
+    id             UUID PRIMARY KEY,
+    book_id        UUID           NOT NULL,
+    user_id        UUID           NOT NULL,
+    loan_date      DATE           NOT NULL,
+    due_date       DATE           NOT NULL,
+    return_date    DATE,
+    status         VARCHAR(255)   NOT NULL,
+    penalty_amount NUMERIC(19, 2)
+);
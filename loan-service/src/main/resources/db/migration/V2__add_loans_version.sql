@@ -0,0 +1,2 @@
+-- Yeni kayıt tespiti ve optimistic locking için sürüm kolonu
+ALTER TABLE loans ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
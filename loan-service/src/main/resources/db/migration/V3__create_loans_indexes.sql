@@ -0,0 +1,8 @@
+-- Kullanıcıya göre ödünç listeleri
+CREATE INDEX IF NOT EXISTS idx_loans_user_id ON loans (user_id);
+
+-- Kitaba göre ödünç listeleri
+CREATE INDEX IF NOT EXISTS idx_loans_book_id ON loans (book_id);
+
+-- Süresi geçen aktif ödünçlerin taranması (status = ? AND due_date < ?)
+CREATE INDEX IF NOT EXISTS idx_loans_status_due_date ON loans (status, due_date);
@@ -0,0 +1,10 @@
+-- Transactional outbox: ödünç olayları kayıtla aynı transaction içinde buraya yazılır
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id           BIGINT PRIMARY KEY,
+    aggregate_id UUID          NOT NULL,
+    event_type   VARCHAR(64)   NOT NULL,
+    payload      VARCHAR(4000) NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,34 @@
+-- İstatistik endpoint'i için artımlı güncellenen özet tablolar
+-- Uygulama farkları periyodik olarak ekler (total = total + fark); okumalar birincil anahtarla yapılır
+
+-- Kitap başına şimdiye kadarki toplam ödünç sayısı
+CREATE TABLE IF NOT EXISTS loan_book_stats (
+    book_id     UUID PRIMARY KEY,
+    total_loans BIGINT NOT NULL
+);
+
+-- Ödünç alma gününe göre ödünç sayısı
+CREATE TABLE IF NOT EXISTS loan_daily_stats (
+    loan_date DATE PRIMARY KEY,
+    checkouts BIGINT NOT NULL
+);
+
+-- Tek değerli sayaçlar (şimdilik sadece 'overdue')
+CREATE TABLE IF NOT EXISTS loan_counters (
+    counter_name  VARCHAR(50) PRIMARY KEY,
+    counter_value BIGINT NOT NULL
+);
+
+-- Mevcut kayıtlardan bir kereye mahsus doldurulur; arşivlenmiş kayıtlar da toplamlara dahildir
+INSERT INTO loan_book_stats (book_id, total_loans)
+SELECT book_id, COUNT(*)
+FROM (SELECT book_id FROM loans UNION ALL SELECT book_id FROM loans_history) all_loans
+GROUP BY book_id;
+
+INSERT INTO loan_daily_stats (loan_date, checkouts)
+SELECT loan_date, COUNT(*)
+FROM (SELECT loan_date FROM loans UNION ALL SELECT loan_date FROM loans_history) all_loans
+GROUP BY loan_date;
+
+INSERT INTO loan_counters (counter_name, counter_value)
+SELECT 'overdue', COUNT(*) FROM loans WHERE status = 'OVERDUE';
@@ -0,0 +1,194 @@
+package org.turkcell.loanservice.application.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.turkcell.loanservice.application.dto.LoanEventMessage;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.event.LoanEventOrigin;
+import org.turkcell.loanservice.config.LoanServiceConfig;
+import org.turkcell.loanservice.domain.model.LoanEventType;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActiveLoanCounterTest {
+
+    @Test
+    void acquireStopsAtLimitAndReleaseFreesASlot() {
+        ActiveLoanCounter counter = new ActiveLoanCounter(2);
+        UUID userId = UUID.randomUUID();
+
+        assertTrue(counter.tryAcquire(userId));
+        assertTrue(counter.tryAcquire(userId));
+        assertFalse(counter.tryAcquire(userId));
+
+        counter.release(userId);
+        assertTrue(counter.tryAcquire(userId));
+        assertEquals(2, counter.get(userId));
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedLimit() throws InterruptedException {
+        ActiveLoanCounter counter = new ActiveLoanCounter(5);
+        UUID userId = UUID.randomUUID();
+        AtomicInteger granted = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> {
+                if (counter.tryAcquire(userId)) {
+                    granted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(5, granted.get());
+        assertEquals(5, counter.get(userId));
+    }
+
+    @Test
+    void reconcileCorrectsDrift() {
+        ActiveLoanCounter counter = new ActiveLoanCounter(5);
+        UUID drifted = UUID.randomUUID();
+        UUID gone = UUID.randomUUID();
+        counter.tryAcquire(drifted);
+        counter.tryAcquire(gone);
+
+        int corrected = counter.reconcile(Map.of(drifted, 3), counter.epoch());
+
+        assertEquals(2, corrected);
+        assertEquals(3, counter.get(drifted));
+        assertEquals(0, counter.get(gone));
+    }
+
+    @Test
+    void reconcileKeepsCountsChangedAfterSnapshotWasTaken() {
+        ActiveLoanCounter counter = new ActiveLoanCounter(5);
+        UUID userId = UUID.randomUUID();
+        counter.tryAcquire(userId);
+
+        // Anlık görüntü okunurken kullanıcı bir ödünç daha alır
+        long epoch = counter.epoch();
+        Map<UUID, Integer> snapshot = Map.of(userId, 1);
+        counter.tryAcquire(userId);
+
+        assertEquals(0, counter.reconcile(snapshot, epoch));
+        assertEquals(2, counter.get(userId));
+
+        // Bir sonraki eşitlemede görüntü güncel
+        assertEquals(0, counter.reconcile(Map.of(userId, 2), counter.epoch()));
+    }
+
+    @Test
+    void reconcileSkipsUsersWithUncommittedChanges() {
+        ActiveLoanCounter counter = new ActiveLoanCounter(5);
+        UUID acquiring = UUID.randomUUID();
+        UUID releasing = UUID.randomUUID();
+        counter.tryAcquire(releasing);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counter.tryAcquireInTransaction(acquiring);
+            counter.releaseAfterCommit(releasing);
+
+            // Commit edilmemiş değişiklikler görüntüde yok, sayaçlar ezilmez
+            assertEquals(0, counter.reconcile(Map.of(releasing, 1), counter.epoch()));
+            assertEquals(1, counter.get(acquiring));
+            assertEquals(1, counter.get(releasing));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, counter.get(acquiring));
+        assertEquals(0, counter.get(releasing));
+        assertEquals(0, counter.reconcile(Map.of(acquiring, 1), counter.epoch()));
+    }
+
+    @Test
+    void rolledBackAcquireIsGivenBack() {
+        ActiveLoanCounter counter = new ActiveLoanCounter(1);
+        UUID userId = UUID.randomUUID();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(counter.tryAcquireInTransaction(userId));
+            assertFalse(counter.tryAcquire(userId));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, counter.get(userId));
+        assertTrue(counter.tryAcquire(userId));
+    }
+
+    @Test
+    void reconcileUserCorrectsOnlySettledCounters() {
+        ActiveLoanCounter counter = new ActiveLoanCounter(2);
+        UUID userId = UUID.randomUUID();
+        counter.tryAcquire(userId);
+        counter.tryAcquire(userId);
+
+        // Başka instance'taki bir iade bu instance'a henüz ulaşmadı; veritabanında 1 ödünç var
+        assertTrue(counter.reconcileUser(userId, 1, counter.epoch()));
+        assertEquals(1, counter.get(userId));
+        assertFalse(counter.reconcileUser(userId, 1, counter.epoch()));
+
+        // Anlık görüntüden sonra değişen sayaç ezilmez
+        long epoch = counter.epoch();
+        counter.tryAcquire(userId);
+        assertFalse(counter.reconcileUser(userId, 0, epoch));
+        assertEquals(2, counter.get(userId));
+    }
+
+    @Test
+    void remoteEventsAreAppliedAndOwnEventsSkipped() {
+        ActiveLoanCounter counter = new ActiveLoanCounter(5);
+        Consumer<LoanEventMessage> sync = new LoanServiceConfig().borrowingLimitSync(counter);
+        UUID userId = UUID.randomUUID();
+        UUID otherInstance = UUID.randomUUID();
+
+        sync.accept(event(LoanEventType.LOAN_CREATED, userId, LoanStatus.ACTIVE, otherInstance));
+        sync.accept(event(LoanEventType.LOAN_CREATED, userId, LoanStatus.ACTIVE, otherInstance));
+        sync.accept(event(LoanEventType.LOAN_CREATED, userId, LoanStatus.ACTIVE, otherInstance));
+        assertEquals(3, counter.get(userId));
+
+        sync.accept(event(LoanEventType.LOAN_RETURNED, userId, LoanStatus.RETURNED, otherInstance));
+        sync.accept(event(LoanEventType.LOAN_DELETED, userId, LoanStatus.OVERDUE, otherInstance));
+        // İade edilmiş kaydın silinmesi ve süresi geçmesi sayacı değiştirmez
+        sync.accept(event(LoanEventType.LOAN_DELETED, userId, LoanStatus.RETURNED, otherInstance));
+        sync.accept(event(LoanEventType.LOAN_OVERDUE, userId, LoanStatus.OVERDUE, otherInstance));
+        assertEquals(1, counter.get(userId));
+
+        // Bu instance'ın kendi olayları sayaca commit sırasında yansıdı, tekrar uygulanmaz
+        sync.accept(event(LoanEventType.LOAN_CREATED, userId, LoanStatus.ACTIVE, LoanEventOrigin.LOCAL));
+        assertEquals(1, counter.get(userId));
+    }
+
+    private static LoanEventMessage event(LoanEventType type, UUID userId, LoanStatus status, UUID origin) {
+        UUID loanId = UUID.randomUUID();
+        LoanResponse loan = new LoanResponse(loanId, UUID.randomUUID(), userId, LocalDate.of(2024, 3, 1),
+                LocalDate.of(2024, 3, 15), null, status, BigDecimal.ZERO);
+        return new LoanEventMessage(UUID.randomUUID(), type, Instant.now(), loanId, loan, origin);
+    }
+}
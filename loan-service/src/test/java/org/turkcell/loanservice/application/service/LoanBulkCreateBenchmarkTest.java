@@ -0,0 +1,76 @@
+package org.turkcell.loanservice.application.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.turkcell.loanservice.application.dto.BulkLoanResponse;
+import org.turkcell.loanservice.application.dto.LoanRequest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Toplu oluşturma ile tek tek createLoan çağrılarının throughput karşılaştırması
+ * Çalıştırmak için: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+class LoanBulkCreateBenchmarkTest {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Test
+    void bulkCreateVersusSingleCalls() {
+        // JIT ve bağlantı havuzu ısınsın
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runSingle(newRequests());
+            runBulk(newRequests());
+        }
+
+        long singleNanos = 0;
+        long bulkNanos = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            singleNanos += runSingle(newRequests());
+            bulkNanos += runBulk(newRequests());
+        }
+
+        int total = BATCH_SIZE * MEASURED_ROUNDS;
+        System.out.printf("single calls: %.0f loans/s%n", total / (singleNanos / 1e9));
+        System.out.printf("bulk create : %.0f loans/s%n", total / (bulkNanos / 1e9));
+    }
+
+    private long runSingle(List<LoanRequest> requests) {
+        long start = System.nanoTime();
+        for (LoanRequest request : requests) {
+            loanService.createLoan(request);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long runBulk(List<LoanRequest> requests) {
+        long start = System.nanoTime();
+        BulkLoanResponse response = loanService.createLoans(requests);
+        long elapsed = System.nanoTime() - start;
+        assertEquals(requests.size(), response.getCreatedCount());
+        return elapsed;
+    }
+
+    private List<LoanRequest> newRequests() {
+        List<LoanRequest> requests = new ArrayList<>(BATCH_SIZE);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            requests.add(new LoanRequest(UUID.randomUUID(), UUID.randomUUID(), today, today.plusDays(14)));
+        }
+        return requests;
+    }
+}
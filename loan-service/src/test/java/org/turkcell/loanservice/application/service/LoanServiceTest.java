@@ -0,0 +1,143 @@
+package org.turkcell.loanservice.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.turkcell.loanservice.application.client.BookCatalog;
+import org.turkcell.loanservice.application.dto.BulkLoanResponse;
+import org.turkcell.loanservice.application.dto.LoanRequest;
+import org.turkcell.loanservice.application.event.LoanEventPublisher;
+import org.turkcell.loanservice.application.exception.BorrowingLimitExceededException;
+import org.turkcell.loanservice.application.query.LoanQueryRepository;
+import org.turkcell.loanservice.application.statistics.LoanStatistics;
+import org.turkcell.loanservice.application.statistics.LoanStatisticsStore;
+import org.turkcell.loanservice.domain.model.LoanCursor;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LoanServiceTest {
+    private final UUID bookId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    private LoanRepository loanRepository;
+    private LoanQueryRepository loanQueryRepository;
+    private BookCatalog bookCatalog;
+    private PlatformTransactionManager transactionManager;
+    private LoanService loanService;
+
+    @BeforeEach
+    void setUp() {
+        loanRepository = mock(LoanRepository.class);
+        loanQueryRepository = mock(LoanQueryRepository.class);
+        bookCatalog = mock(BookCatalog.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(loanRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(loanRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        loanService = new LoanService(loanRepository, loanQueryRepository,
+                mock(LoanEventPublisher.class), new ActiveLoanCounter(5), bookCatalog,
+                new LoanStatistics(mock(LoanStatisticsStore.class)), new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void createLoanChecksTheCatalogBeforeOpeningTheTransaction() {
+        when(bookCatalog.findUnknown(List.of(bookId))).thenReturn(Set.of());
+
+        loanService.createLoan(request());
+
+        // book-service beklenirken veritabanı bağlantısı tutulmaz
+        InOrder order = inOrder(bookCatalog, transactionManager, loanRepository);
+        order.verify(bookCatalog).findUnknown(List.of(bookId));
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(loanRepository).save(any());
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void createLoanForUnknownBookDoesNotOpenATransaction() {
+        when(bookCatalog.findUnknown(List.of(bookId))).thenReturn(Set.of(bookId));
+
+        assertThrows(IllegalArgumentException.class, () -> loanService.createLoan(request()));
+        verify(transactionManager, never()).getTransaction(any());
+    }
+
+    @Test
+    void createLoansChecksTheCatalogBeforeOpeningTheTransaction() {
+        when(bookCatalog.findUnknown(Set.of(bookId))).thenReturn(Set.of());
+
+        BulkLoanResponse response = loanService.createLoans(List.of(request(), request()));
+
+        assertEquals(2, response.getCreatedCount());
+        InOrder order = inOrder(bookCatalog, transactionManager, loanRepository);
+        order.verify(bookCatalog).findUnknown(Set.of(bookId));
+        order.verify(transactionManager).getTransaction(any());
+        order.verify(loanRepository).saveAll(anyList());
+        order.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void limitRejectionIsConfirmedAgainstTheDatabase() {
+        ActiveLoanCounter counter = new ActiveLoanCounter(1);
+        loanService = new LoanService(loanRepository, mock(LoanQueryRepository.class),
+                mock(LoanEventPublisher.class), counter, bookCatalog,
+                new LoanStatistics(mock(LoanStatisticsStore.class)), new TransactionTemplate(transactionManager));
+        when(bookCatalog.findUnknown(List.of(bookId))).thenReturn(Set.of());
+        counter.tryAcquire(userId);
+
+        // Ödünç başka bir instance'ta iade edildi, bu instance'ın sayacı henüz görmedi
+        when(loanRepository.countUnreturnedLoans(userId)).thenReturn(0);
+        loanService.createLoan(request());
+        assertEquals(1, counter.get(userId));
+
+        // Veritabanı da limitte olduğunu gösteriyorsa reddedilir
+        when(loanRepository.countUnreturnedLoans(userId)).thenReturn(1);
+        assertThrows(BorrowingLimitExceededException.class, () -> loanService.createLoan(request()));
+    }
+
+    @Test
+    void cursorIsOnlyAcceptedWithTheSortItWasIssuedFor() {
+        LoanCursor cursor = new LoanCursor(LoanSort.DUE_DATE_ASC, LocalDate.of(2024, 3, 15), UUID.randomUUID());
+        String token = cursor.encode();
+
+        // Başka bir sıralamanın değeriyle keyset koşulu kayıt atlatır, sorgu hiç çalıştırılmaz
+        assertThrows(IllegalArgumentException.class,
+                () -> loanService.getAllLoans(token, 10, LoanSort.LOAN_DATE_DESC));
+        assertThrows(IllegalArgumentException.class,
+                () -> loanService.getLoansByBookId(bookId, token, 10, LoanSort.DUE_DATE_DESC));
+        verifyNoInteractions(loanQueryRepository);
+        verify(loanRepository, never()).findPageByBookId(any(), any(), anyInt(), any());
+
+        loanService.getAllLoans(token, 10, LoanSort.DUE_DATE_ASC);
+        ArgumentCaptor<LoanCursor> after = ArgumentCaptor.forClass(LoanCursor.class);
+        verify(loanQueryRepository).findPage(after.capture(), eq(10), eq(LoanSort.DUE_DATE_ASC));
+        assertEquals(LoanSort.DUE_DATE_ASC, after.getValue().getSort());
+        assertEquals(cursor.getSortValue(), after.getValue().getSortValue());
+        assertEquals(cursor.getId(), after.getValue().getId());
+    }
+
+    private LoanRequest request() {
+        return new LoanRequest(bookId, userId, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 15));
+    }
+}
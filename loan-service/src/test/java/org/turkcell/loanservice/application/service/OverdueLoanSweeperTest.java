@@ -0,0 +1,69 @@
+package org.turkcell.loanservice.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.turkcell.loanservice.application.event.LoanEventPublisher;
+import org.turkcell.loanservice.application.statistics.LoanStatistics;
+import org.turkcell.loanservice.application.statistics.LoanStatisticsStore;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanEventType;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OverdueLoanSweeperTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 1);
+
+    @Test
+    void sweptLoansArePublishedInTheBatchTransaction() {
+        LoanRepository loanRepository = mock(LoanRepository.class);
+        LoanEventPublisher eventPublisher = mock(LoanEventPublisher.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        List<Loan> firstBatch = List.of(overdueLoan(), overdueLoan());
+        List<Loan> lastBatch = List.of(overdueLoan());
+        when(loanRepository.markOverdue(TODAY, 2)).thenReturn(firstBatch, lastBatch);
+
+        LoanStatistics statistics = new LoanStatistics(mock(LoanStatisticsStore.class));
+        OverdueLoanSweeper sweeper = new OverdueLoanSweeper(loanRepository, statistics, eventPublisher,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), 2, 10,
+                Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+        assertEquals(3, sweeper.sweep());
+
+        // Yarım grup taranacak kayıt kalmadığını gösterir; her grup ayrı transaction'dır
+        verify(loanRepository, times(2)).markOverdue(TODAY, 2);
+        verify(transactionManager, times(2)).commit(any());
+        for (Loan loan : List.of(firstBatch.get(0), firstBatch.get(1), lastBatch.get(0))) {
+            verify(eventPublisher).publish(eq(LoanEventType.LOAN_OVERDUE), eq(loan.getId()),
+                    argThat(response -> response.getStatus() == LoanStatus.OVERDUE
+                            && loan.getUserId().equals(response.getUserId())));
+        }
+        assertEquals(3, statistics.overdueLoans());
+    }
+
+    private static Loan overdueLoan() {
+        Loan loan = new Loan(UUID.randomUUID(), UUID.randomUUID(), TODAY.minusDays(30), TODAY.minusDays(16));
+        loan.setStatus(LoanStatus.OVERDUE);
+        return loan;
+    }
+}
@@ -0,0 +1,207 @@
+package org.turkcell.loanservice.application.statistics;
+
+import org.junit.jupiter.api.Test;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoanStatisticsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    @Test
+    void unflushedChangesAreVisibleAndFlushMovesThemToStore() {
+        InMemoryStore store = new InMemoryStore();
+        LoanStatistics statistics = new LoanStatistics(store);
+        UUID bookId = UUID.randomUUID();
+
+        statistics.recordCreated(loan(bookId, DAY));
+        statistics.recordCreated(loan(bookId, DAY.plusDays(1)));
+        statistics.recordStatusChange(LoanStatus.ACTIVE, LoanStatus.OVERDUE, 3);
+
+        assertEquals(2, statistics.totalLoansOfBook(bookId));
+        assertEquals(Map.of(DAY, 1L, DAY.plusDays(1), 1L), statistics.dailyCheckouts(DAY, DAY.plusDays(5)));
+        assertEquals(3, statistics.overdueLoans());
+        assertEquals(0, store.totalLoansOfBook(bookId));
+
+        assertEquals(4, statistics.flush());
+        assertEquals(2, store.totalLoansOfBook(bookId));
+        assertEquals(3, store.overdueLoans());
+        // Değerler flush sonrası iki kez sayılmaz
+        assertEquals(2, statistics.totalLoansOfBook(bookId));
+        assertEquals(0, statistics.flush());
+    }
+
+    @Test
+    void updateAndDeleteMoveContributions() {
+        LoanStatistics statistics = new LoanStatistics(new InMemoryStore());
+        UUID oldBook = UUID.randomUUID();
+        UUID newBook = UUID.randomUUID();
+        Loan loan = loan(oldBook, DAY);
+        statistics.recordCreated(loan);
+        assertEquals(0, statistics.overdueLoans());
+
+        // Sweeper kaydı OVERDUE yapar
+        loan.setStatus(LoanStatus.OVERDUE);
+        statistics.recordStatusChange(LoanStatus.ACTIVE, LoanStatus.OVERDUE, 1);
+        assertEquals(1, statistics.overdueLoans());
+
+        LoanStatistics.Contribution before = LoanStatistics.Contribution.of(loan);
+        loan.setBookId(newBook);
+        loan.setLoanDate(DAY.plusDays(2));
+        loan.returnLoan(DAY.plusDays(20));
+        statistics.recordUpdated(before, loan);
+
+        assertEquals(0, statistics.totalLoansOfBook(oldBook));
+        assertEquals(1, statistics.totalLoansOfBook(newBook));
+        assertEquals(Map.of(DAY.plusDays(2), 1L), statistics.dailyCheckouts(DAY, DAY.plusDays(2)));
+        assertEquals(0, statistics.overdueLoans());
+
+        statistics.recordDeleted(loan);
+        assertEquals(0, statistics.totalLoansOfBook(newBook));
+        assertEquals(0, statistics.overdueLoans());
+        assertTrue(statistics.dailyCheckouts(DAY, DAY.plusDays(2)).isEmpty());
+    }
+
+    @Test
+    void deletingOverdueLoanRemovesItFromOverdueCount() {
+        LoanStatistics statistics = new LoanStatistics(new InMemoryStore());
+        Loan loan = loan(UUID.randomUUID(), DAY);
+        statistics.recordCreated(loan);
+        loan.setStatus(LoanStatus.OVERDUE);
+        statistics.recordStatusChange(LoanStatus.ACTIVE, LoanStatus.OVERDUE, 1);
+
+        statistics.recordDeleted(loan);
+        assertEquals(0, statistics.overdueLoans());
+    }
+
+    @Test
+    void failedFlushKeepsDeltasForNextAttempt() {
+        InMemoryStore store = new InMemoryStore();
+        LoanStatistics statistics = new LoanStatistics(store);
+        UUID bookId = UUID.randomUUID();
+        statistics.recordCreated(loan(bookId, DAY));
+
+        store.failNext = true;
+        assertThrows(IllegalStateException.class, statistics::flush);
+        assertEquals(1, statistics.totalLoansOfBook(bookId));
+
+        statistics.flush();
+        assertEquals(1, store.totalLoansOfBook(bookId));
+        assertEquals(1, statistics.totalLoansOfBook(bookId));
+    }
+
+    @Test
+    void deltasSurviveAnyFailureOfTheStoreWrite() {
+        InMemoryStore store = new InMemoryStore();
+        LoanStatistics statistics = new LoanStatistics(store);
+        UUID bookId = UUID.randomUUID();
+        statistics.recordCreated(loan(bookId, DAY));
+        statistics.recordStatusChange(LoanStatus.ACTIVE, LoanStatus.OVERDUE, 1);
+
+        // Yazma sırasında yeni bir kayıt gelir ve yazma RuntimeException dışı bir hatayla kesilir
+        store.duringNextAdd = () -> statistics.recordCreated(loan(bookId, DAY.plusDays(1)));
+        store.errorNext = new AssertionError("connection reset");
+        assertThrows(AssertionError.class, statistics::flush);
+
+        assertEquals(2, statistics.totalLoansOfBook(bookId));
+        assertEquals(Map.of(DAY, 1L, DAY.plusDays(1), 1L), statistics.dailyCheckouts(DAY, DAY.plusDays(1)));
+        assertEquals(1, statistics.overdueLoans());
+
+        // Tekrar denenen flush farkları bir kez yazar
+        statistics.flush();
+        assertEquals(2, store.totalLoansOfBook(bookId));
+        assertEquals(Map.of(DAY, 1L, DAY.plusDays(1), 1L), store.dailyCheckouts(DAY, DAY.plusDays(1)));
+        assertEquals(1, store.overdueLoans());
+        assertEquals(2, statistics.totalLoansOfBook(bookId));
+        assertEquals(0, statistics.flush());
+    }
+
+    @Test
+    void concurrentRecordsAndFlushesLoseNothing() throws InterruptedException {
+        InMemoryStore store = new InMemoryStore();
+        LoanStatistics statistics = new LoanStatistics(store);
+        UUID bookId = UUID.randomUUID();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            executor.execute(() -> statistics.recordCreated(loan(bookId, DAY)));
+            if (i % 500 == 0) {
+                executor.execute(statistics::flush);
+            }
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        statistics.flush();
+
+        assertEquals(10_000, store.totalLoansOfBook(bookId));
+        assertEquals(10_000, store.dailyCheckouts(DAY, DAY).get(DAY));
+    }
+
+    private static Loan loan(UUID bookId, LocalDate loanDate) {
+        return new Loan(bookId, UUID.randomUUID(), loanDate, loanDate.plusDays(14));
+    }
+
+    // Özet tabloların bellekteki karşılığı
+    private static final class InMemoryStore implements LoanStatisticsStore {
+        private final Map<UUID, Long> books = new HashMap<>();
+        private final Map<LocalDate, Long> days = new HashMap<>();
+        private long overdue;
+        private boolean failNext;
+        private Error errorNext;
+        private Runnable duringNextAdd;
+
+        @Override
+        public synchronized void add(Map<UUID, Long> bookDeltas, Map<LocalDate, Long> dailyDeltas, long overdueDelta) {
+            if (duringNextAdd != null) {
+                Runnable action = duringNextAdd;
+                duringNextAdd = null;
+                action.run();
+            }
+            if (errorNext != null) {
+                Error error = errorNext;
+                errorNext = null;
+                throw error;
+            }
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("database unavailable");
+            }
+            bookDeltas.forEach((key, delta) -> books.merge(key, delta, Long::sum));
+            dailyDeltas.forEach((key, delta) -> days.merge(key, delta, Long::sum));
+            overdue += overdueDelta;
+        }
+
+        @Override
+        public synchronized long totalLoansOfBook(UUID bookId) {
+            return books.getOrDefault(bookId, 0L);
+        }
+
+        @Override
+        public synchronized Map<LocalDate, Long> dailyCheckouts(LocalDate from, LocalDate to) {
+            Map<LocalDate, Long> result = new HashMap<>();
+            days.forEach((day, count) -> {
+                if (!day.isBefore(from) && !day.isAfter(to)) {
+                    result.put(day, count);
+                }
+            });
+            return result;
+        }
+
+        @Override
+        public synchronized long overdueLoans() {
+            return overdue;
+        }
+    }
+}
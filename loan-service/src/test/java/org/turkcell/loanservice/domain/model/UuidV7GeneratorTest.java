@@ -0,0 +1,116 @@
+package org.turkcell.loanservice.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void carriesVersionVariantAndTimestamp() {
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(now, ZoneOffset.UTC));
+
+        UUID id = generator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(now.toEpochMilli(), id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void staysIncreasingWithinOneMillisecondAndWhenClockGoesBack() {
+        MutableClock clock = new MutableClock(1_000_000L);
+        UuidV7Generator generator = new UuidV7Generator(clock);
+
+        List<UUID> ids = new ArrayList<>();
+        // 4096'dan fazla kimlik aynı milisaniyede: sayaç zaman damgasına taşar
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.next());
+        }
+        clock.millis = 999_000L;
+        for (int i = 0; i < 100; i++) {
+            ids.add(generator.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(compareUnsigned(ids.get(i - 1), ids.get(i)) < 0, "kimlik " + i + " artan sırada değil");
+        }
+    }
+
+    @Test
+    void concurrentCallersGetUniqueIds() throws Exception {
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                UUID previous = null;
+                for (int i = 0; i < 50_000; i++) {
+                    UUID id = generator.next();
+                    // Aynı thread'in gördüğü kimlikler de artan sırada olmalı
+                    assertTrue(previous == null || compareUnsigned(previous, id) < 0);
+                    ids.add(id);
+                    previous = id;
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(8 * 50_000, ids.size());
+    }
+
+    // PostgreSQL uuid'leri bayt bayt (işaretsiz) karşılaştırır
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result
+                : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile long millis;
+
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
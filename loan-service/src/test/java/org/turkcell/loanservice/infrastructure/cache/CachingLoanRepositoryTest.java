@@ -0,0 +1,120 @@
+package org.turkcell.loanservice.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanPage;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingLoanRepositoryTest {
+
+    private LoanRepository delegate;
+    private CachingLoanRepository repository;
+    private Loan loan;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(LoanRepository.class);
+        repository = new CachingLoanRepository(delegate,
+                Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build(),
+                Caffeine.newBuilder().build());
+
+        LocalDate today = LocalDate.now();
+        loan = new Loan(UUID.randomUUID(), UUID.randomUUID(), today, today.plusDays(14));
+        loan.setVersion(0L);
+        when(delegate.findById(loan.getId())).thenReturn(Optional.of(loan));
+        when(delegate.findCurrentById(loan.getId())).thenReturn(Optional.of(loan));
+        when(delegate.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(delegate.findPageByUserId(loan.getUserId(), null, 20, LoanSort.LOAN_DATE_DESC))
+                .thenReturn(new LoanPage(List.of(loan), null));
+    }
+
+    @Test
+    void repeatedLookupsHitTheCache() {
+        repository.findById(loan.getId());
+        Loan cached = repository.findById(loan.getId()).orElseThrow();
+
+        verify(delegate, times(1)).findById(loan.getId());
+        assertNotSame(loan, cached);
+    }
+
+    @Test
+    void saveInvalidatesLoanAndUserPages() {
+        repository.findById(loan.getId());
+        repository.findPageByUserId(loan.getUserId(), null, 20, LoanSort.LOAN_DATE_DESC);
+
+        Loan changed = repository.findById(loan.getId()).orElseThrow();
+        changed.returnLoan(LocalDate.now());
+        repository.save(changed);
+
+        repository.findById(loan.getId());
+        repository.findPageByUserId(loan.getUserId(), null, 20, LoanSort.LOAN_DATE_DESC);
+
+        verify(delegate, times(2)).findById(loan.getId());
+        verify(delegate, times(2)).findPageByUserId(loan.getUserId(), null, 20, LoanSort.LOAN_DATE_DESC);
+    }
+
+    @Test
+    void writePathsUseTheCurrentRowInsteadOfAStaleCachedCopy() {
+        // Önbellekteki kopya eski kullanıcıyı gösterir, kayıt başka bir instance'ta yeni kullanıcıya geçmiştir
+        repository.findById(loan.getId());
+        Loan moved = loan.copy();
+        moved.setUserId(UUID.randomUUID());
+        when(delegate.findCurrentById(loan.getId())).thenReturn(Optional.of(moved));
+        when(delegate.findPageByUserId(moved.getUserId(), null, 20, LoanSort.LOAN_DATE_DESC))
+                .thenReturn(new LoanPage(List.of(moved), null));
+        repository.findPageByUserId(moved.getUserId(), null, 20, LoanSort.LOAN_DATE_DESC);
+
+        assertEquals(moved.getUserId(), repository.findCurrentById(loan.getId()).orElseThrow().getUserId());
+        repository.deleteById(loan.getId());
+
+        // Yeni kullanıcının sayfaları da geçersiz olur
+        repository.findPageByUserId(moved.getUserId(), null, 20, LoanSort.LOAN_DATE_DESC);
+        verify(delegate, times(2)).findPageByUserId(moved.getUserId(), null, 20, LoanSort.LOAN_DATE_DESC);
+    }
+
+    @Test
+    void readThatRacesACommittedWriteIsNotServedFromTheCache() {
+        Loan stale = loan.copy();
+        when(delegate.findById(loan.getId())).thenAnswer(invocation -> {
+            // Okuma eski satırı aldıktan sonra bir yazma commit edilir ve kaydı geçersiz kılar
+            repository.evict(loan.getId(), loan.getUserId(), loan.getBookId());
+            return Optional.of(stale);
+        }).thenReturn(Optional.of(loan));
+
+        repository.findById(loan.getId());
+        repository.findById(loan.getId());
+
+        // Eski kopya geçersiz kılmadan sonra yazılmış olsa da okunmaz, kayıt tekrar yüklenir
+        verify(delegate, times(2)).findById(loan.getId());
+    }
+
+    @Test
+    void disabledCachesGoStraightToTheDelegate() {
+        CachingLoanRepository uncached = new CachingLoanRepository(delegate, null, null, null,
+                Caffeine.newBuilder().build());
+
+        uncached.findById(loan.getId());
+        uncached.findById(loan.getId());
+
+        assertEquals(loan.getId(), uncached.findById(loan.getId()).orElseThrow().getId());
+        verify(delegate, times(3)).findById(loan.getId());
+    }
+}
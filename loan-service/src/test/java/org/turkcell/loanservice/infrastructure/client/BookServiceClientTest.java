@@ -0,0 +1,113 @@
+package org.turkcell.loanservice.infrastructure.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.turkcell.loanservice.application.exception.BookCatalogUnavailableException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class BookServiceClientTest {
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID missing = UUID.randomUUID();
+
+    private MockRestServiceServer server;
+    private BookServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://book-service");
+        server = MockRestServiceServer.bindTo(builder).build();
+        // Grup ancak üç farklı kitap toplandığında gönderilir, böylece birleşme deterministik olur
+        client = new BookServiceClient(builder.build(), Executors.newFixedThreadPool(2),
+                Duration.ofSeconds(10), 3, Duration.ofSeconds(5),
+                Duration.ofMinutes(10), Duration.ofMinutes(10), 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void concurrentLookupsAreCoalescedIntoOneRequestAndCached() {
+        server.expect(once(), requestTo("http://book-service/api/books/exists"))
+                .andExpect(method(HttpMethod.POST))
+                .andRespond(withSuccess("[\"" + first + "\",\"" + second + "\"]", MediaType.APPLICATION_JSON));
+
+        CompletableFuture<Set<UUID>> a = CompletableFuture.supplyAsync(() -> client.findUnknown(List.of(first)));
+        CompletableFuture<Set<UUID>> b = CompletableFuture.supplyAsync(() -> client.findUnknown(List.of(second, first)));
+        CompletableFuture<Set<UUID>> c = CompletableFuture.supplyAsync(() -> client.findUnknown(List.of(missing)));
+
+        assertTrue(a.join().isEmpty());
+        assertTrue(b.join().isEmpty());
+        assertEquals(Set.of(missing), c.join());
+        server.verify();
+
+        // Sonuçlar önbellekten gelir, yeni istek gönderilmez
+        assertEquals(Set.of(missing), client.findUnknown(List.of(first, second, missing)));
+        server.verify();
+    }
+
+    @Test
+    void failedLookupIsReportedAndNotCached() {
+        server.expect(once(), requestTo("http://book-service/api/books/exists"))
+                .andRespond(withServerError());
+
+        assertThrows(BookCatalogUnavailableException.class,
+                () -> client.findUnknown(List.of(first, second, missing)));
+        server.verify();
+    }
+
+    @Test
+    void lookupAfterTimeoutDoesNotJoinTheUnansweredRequest() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://book-service");
+        MockRestServiceServer slowServer = MockRestServiceServer.bindTo(builder).build();
+        slowServer.expect(once(), requestTo("http://book-service/api/books/exists"))
+                .andRespond(withSuccess("[\"" + first + "\"]", MediaType.APPLICATION_JSON));
+
+        // İlk grup hiç gönderilmez (cevap vermeyen book-service gibi), sonrakiler hemen gönderilir
+        AtomicInteger batches = new AtomicInteger();
+        ExecutorService sender = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable task) {
+                if (batches.getAndIncrement() > 0) {
+                    super.execute(task);
+                }
+            }
+        };
+        try (BookServiceClient slowClient = new BookServiceClient(builder.build(), sender,
+                Duration.ofSeconds(10), 1, Duration.ofMillis(100),
+                Duration.ofMinutes(10), Duration.ofMinutes(10), 1_000)) {
+            assertThrows(BookCatalogUnavailableException.class, () -> slowClient.findUnknown(List.of(first)));
+
+            // Zaman aşımından sonraki kontrol cevapsız isteği beklemez, yeni istek açar
+            assertTrue(slowClient.findUnknown(List.of(first)).isEmpty());
+            slowServer.verify();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.turkcell.loanservice.infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.turkcell.loanservice.application.dto.LoanRequest;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.service.LoanService;
+import org.turkcell.loanservice.infrastructure.persistence.repository.JpaOutboxEventRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Test binder'da aynı destination'a bağlı bir consumer varsa OutputDestination mesajları göremez,
+// bu yüzden loan-events tüketicileri bu testte başka bir destination'ı dinler
+@SpringBootTest(properties = {
+        "spring.cloud.stream.bindings.loanCacheInvalidation-in-0.destination=loan-events-unused",
+        "spring.cloud.stream.bindings.borrowingLimitSync-in-0.destination=loan-events-unused"})
+@Import(TestChannelBinderConfiguration.class)
+class OutboxRelayTest {
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private JpaOutboxEventRepository outboxRepository;
+
+    @Autowired
+    private OutputDestination outputDestination;
+
+    @Test
+    void loanLifecycleEventsAreRelayedInOrder() {
+        outboxRelay.relayPending();
+        outputDestination.clear();
+
+        LocalDate today = LocalDate.now();
+        LoanResponse loan = loanService.createLoan(
+                new LoanRequest(UUID.randomUUID(), UUID.randomUUID(), today, today.plusDays(14)));
+        loanService.returnLoan(loan.getId(), today);
+
+        // Olaylar kayıtla birlikte outbox'a yazılmış olmalı
+        assertEquals(2, outboxRepository.count());
+
+        assertEquals(2, outboxRelay.relayPending());
+        assertEquals(0, outboxRepository.count());
+
+        assertEvent(loan.getId(), "LOAN_CREATED");
+        assertEvent(loan.getId(), "LOAN_RETURNED");
+    }
+
+    private void assertEvent(UUID loanId, String eventType) {
+        Message<byte[]> message = outputDestination.receive(1000, "loan-events");
+        assertNotNull(message);
+        assertEquals(loanId.toString(), message.getHeaders().get(OutboxRelay.LOAN_ID_HEADER));
+        assertEquals(eventType, message.getHeaders().get(OutboxRelay.EVENT_TYPE_HEADER));
+        assertTrue(new String(message.getPayload(), StandardCharsets.UTF_8).contains(loanId.toString()));
+    }
+}
@@ -0,0 +1,70 @@
+package org.turkcell.loanservice.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingInterceptorTest {
+
+    static class Target {
+        public String find(String id) {
+            if (id.isEmpty()) {
+                throw new IllegalArgumentException("empty id");
+            }
+            return id;
+        }
+    }
+
+    // SimpleMeterRegistry histogram bucket'larını tutmaz, yayınlananlar Prometheus çıktısından kontrol edilir
+    private final PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+    private Target proxy() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        ProxyFactory factory = new ProxyFactory(new Target());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(TimingInterceptor.advisorFor(Target.class, "test.calls",
+                beanFactory.getBeanProvider(MeterRegistry.class)));
+        return (Target) factory.getProxy();
+    }
+
+    @Test
+    void recordsSuccessAndErrorPerOperation() {
+        Target target = proxy();
+
+        target.find("a");
+        target.find("b");
+        assertThrows(IllegalArgumentException.class, () -> target.find(""));
+
+        Timer success = registry.find("test.calls")
+                .tags("operation", "find", "outcome", "success", "exception", "none").timer();
+        Timer error = registry.find("test.calls")
+                .tags("operation", "find", "outcome", "error", "exception", "IllegalArgumentException").timer();
+        assertNotNull(success);
+        assertNotNull(error);
+        assertEquals(2, success.count());
+        assertEquals(1, error.count());
+        assertTrue(registry.scrape().lines().anyMatch(line -> line.startsWith("test_calls_seconds_bucket{")
+                        && line.contains("operation=\"find\"") && line.contains("outcome=\"success\"")),
+                "histogram bucket'ları yayınlanmalı");
+    }
+
+    @Test
+    void registryIsResolvedOnlyOnFirstCall() {
+        Target target = proxy();
+        assertNull(registry.find("test.calls").timer());
+
+        target.find("a");
+        assertNotNull(registry.find("test.calls").timer());
+    }
+}
@@ -0,0 +1,56 @@
+package org.turkcell.loanservice.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    @Test
+    void connectionsBeyondLimitFailUntilOneIsClosed() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        Connection first = mock(Connection.class);
+        Connection second = mock(Connection.class);
+        when(target.getConnection()).thenReturn(first, second);
+
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(50));
+
+        Connection held = dataSource.getConnection();
+        assertEquals(1, dataSource.getActive());
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        // İki kez kapatmak izni iki kez bırakmamalı
+        held.close();
+        held.close();
+        verify(first, times(1)).close();
+        assertEquals(0, dataSource.getActive());
+
+        dataSource.getConnection().close();
+        verify(second).close();
+        assertEquals(0, dataSource.getActive());
+    }
+
+    @Test
+    void permitIsReleasedWhenPoolFails() throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        ConcurrencyLimitingDataSource dataSource =
+                new ConcurrencyLimitingDataSource(target, 1, Duration.ofMillis(50));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getActive());
+    }
+}
@@ -0,0 +1,118 @@
+package org.turkcell.loanservice.infrastructure.persistence;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.turkcell.loanservice.domain.model.IdGenerator;
+import org.turkcell.loanservice.domain.model.UuidV7Generator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * loans tablosuna rastgele (v4) ve zamana göre sıralı (v7) kimliklerle ekleme karşılaştırması
+ *
+ * Gömülü PostgreSQL'de Flyway şeması kurulur, her üretici için tablo boşaltılıp aynı sayıda satır eklenir.
+ * Ekleme hızı ve birincil anahtar indeksinin boyutu yazdırılır. shared_buffers küçük tutulur ki
+ * indeks belleğe sığmadığında v4'ün rastgele sayfa erişimleri görünür olsun.
+ *
+ * Çalıştırmak için:
+ *   mvn test -Pbenchmark -Dtest=IdInsertBenchmarkTest
+ *   mvn test -Pbenchmark -Dtest=IdInsertBenchmarkTest -Dbenchmark.id-insert.rows=2000000
+ */
+@Tag("benchmark")
+class IdInsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.id-insert.rows", 500_000);
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String INSERT = "INSERT INTO loans (id, book_id, user_id, loan_date, due_date, status, "
+            + "penalty_amount, version) VALUES (?, ?, ?, ?, ?, 'ACTIVE', 0, 0)";
+
+    @Test
+    void randomVersusTimeOrderedIds() throws Exception {
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setServerConfig("shared_buffers", "32MB")
+                .start()) {
+            DataSource dataSource = postgres.getPostgresDatabase();
+            // Uygulamadaki gibi PostgreSQL'e özel migration'lar da çalışır (V7, V5'in loans_history tablosunu okur)
+            Flyway.configure().dataSource(dataSource)
+                    .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                    // Uygulama yapılandırmasındaki gibi; V6'daki CREATE INDEX CONCURRENTLY kilit transaction'ını beklemesin
+                    .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                    .load().migrate();
+
+            // Isınma: JIT ve bağlantı
+            insert(dataSource, IdGenerator.RANDOM, 20_000);
+            insert(dataSource, new UuidV7Generator(), 20_000);
+
+            Result v4 = insert(dataSource, IdGenerator.RANDOM, ROWS);
+            Result v7 = insert(dataSource, new UuidV7Generator(), ROWS);
+
+            System.out.printf("rows: %d%n", ROWS);
+            System.out.printf("v4: %8.0f rows/s, loans_pkey %6.1f MB%n", v4.rowsPerSecond(), v4.indexMegabytes());
+            System.out.printf("v7: %8.0f rows/s, loans_pkey %6.1f MB%n", v7.rowsPerSecond(), v7.indexMegabytes());
+            assertEquals(ROWS, v7.rows());
+        }
+    }
+
+    private Result insert(DataSource dataSource, IdGenerator generator, int rows) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE loans");
+            }
+            connection.setAutoCommit(false);
+
+            LocalDate today = LocalDate.now();
+            Date loanDate = Date.valueOf(today);
+            Date dueDate = Date.valueOf(today.plusDays(14));
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                for (int i = 1; i <= rows; i++) {
+                    insert.setObject(1, generator.next());
+                    insert.setObject(2, UUID.randomUUID());
+                    insert.setObject(3, UUID.randomUUID());
+                    insert.setDate(4, loanDate);
+                    insert.setDate(5, dueDate);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0 || i == rows) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery("SELECT count(*), pg_relation_size("
+                         + "(SELECT indexrelid FROM pg_index WHERE indrelid = 'loans'::regclass AND indisprimary)) "
+                         + "FROM loans")) {
+                result.next();
+                return new Result(result.getLong(1), elapsed, result.getLong(2));
+            }
+        }
+    }
+
+    private record Result(long rows, long elapsedNanos, long indexBytes) {
+
+        double rowsPerSecond() {
+            return rows / (elapsedNanos / 1e9);
+        }
+
+        double indexMegabytes() {
+            return indexBytes / (1024.0 * 1024.0);
+        }
+    }
+}
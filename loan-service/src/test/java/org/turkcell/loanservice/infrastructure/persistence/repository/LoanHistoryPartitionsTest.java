@@ -0,0 +1,103 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Aylık arşiv bölümlerinin gömülü PostgreSQL üzerinde oluşturulması
+ */
+class LoanHistoryPartitionsTest {
+
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        Flyway.configure().dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/postgresql")
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load().migrate();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void instancesCreatingTheSamePartitionsAtOnceAllSucceed() throws Exception {
+        YearMonth from = YearMonth.of(1990, 1);
+        YearMonth to = YearMonth.of(1990, 12);
+        int instances = 4;
+
+        // Her instance kendi bilinen bölümleriyle başlar, hepsi aynı anda aynı ayları oluşturmaya çalışır
+        CyclicBarrier start = new CyclicBarrier(instances);
+        ExecutorService executor = Executors.newFixedThreadPool(instances);
+        try {
+            List<CompletableFuture<Void>> runs = new ArrayList<>();
+            for (int i = 0; i < instances; i++) {
+                LoanHistoryPartitions partitions = newPartitions();
+                runs.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    partitions.ensureRange(from, to);
+                }, executor));
+            }
+            CompletableFuture.allOf(runs.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(12, partitionCount("loans_history_y1990m%"));
+    }
+
+    @Test
+    void partitionIsCommittedEvenIfTheCallersTransactionRollsBack() throws Exception {
+        LoanHistoryPartitions partitions = newPartitions();
+        TransactionTemplate outer = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        outer.executeWithoutResult(status -> {
+            partitions.ensure(YearMonth.of(1991, 6));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(partitions.isPartitioned());
+        assertEquals(1, partitionCount("loans_history_y1991m06"));
+    }
+
+    private static LoanHistoryPartitions newPartitions() throws Exception {
+        return new LoanHistoryPartitions(dataSource, new DataSourceTransactionManager(dataSource));
+    }
+
+    private static int partitionCount(String namePattern) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT count(*) FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'loans_history'::regclass AND c.relname LIKE ?",
+                Integer.class, namePattern);
+    }
+}
@@ -0,0 +1,138 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.turkcell.loanservice.application.query.LoanQueryRepository;
+import org.turkcell.loanservice.application.query.LoanSearchCriteria;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Flyway migration'larıyla oluşturulan index'lerin, uygulamanın ürettiği sorguların planlarında
+ * kullanıldığını doğrular. Sorgular repository'ler üzerinden çalıştırılır, Hibernate'in gönderdiği SQL
+ * yakalanır ve aynı parametrelerle EXPLAIN edilir. Her test kendi transaction'ında çalışır ve geri alınır
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.turkcell.loanservice.infrastructure.persistence.repository.LoanQueryPlanTest$SqlCapture")
+@Transactional
+class LoanQueryPlanTest {
+
+    private static final int SEED_ROWS = 2_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JpaLoanRepository jpaLoanRepository;
+
+    @Autowired
+    private LoanQueryRepository loanQueryRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    // Test transaction'ı içinde eklenir, test sonunda geri alınır
+    @BeforeEach
+    void seed() {
+        LocalDate today = LocalDate.now();
+        LoanStatus[] statuses = LoanStatus.values();
+        List<Object[]> rows = new ArrayList<>(SEED_ROWS);
+        for (int i = 0; i < SEED_ROWS; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                    Date.valueOf(today.minusDays(i % 60)), Date.valueOf(today.plusDays(14 - i % 60)),
+                    statuses[i % statuses.length].name()
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO loans (id, book_id, user_id, loan_date, due_date, status, version) VALUES (?, ?, ?, ?, ?, ?, 0)",
+                rows);
+    }
+
+    @Test
+    void findByUserIdUsesUserIndex() {
+        UUID userId = UUID.randomUUID();
+        String sql = capture(() -> jpaLoanRepository.findByUserId(userId));
+        assertPlanUses("idx_loans_user_loan_date", sql, userId);
+    }
+
+    @Test
+    void findByBookIdUsesBookIndex() {
+        UUID bookId = UUID.randomUUID();
+        String sql = capture(() -> jpaLoanRepository.findByBookId(bookId));
+        assertPlanUses("idx_loans_book_loan_date", sql, bookId);
+    }
+
+    @Test
+    void overdueSweepUsesStatusDueDateIndex() {
+        LocalDate today = LocalDate.now();
+        String sql = capture(() -> loanRepository.markOverdue(today, 100));
+        // H2, FINAL TABLE (...) içindeki ifadenin planını göstermez; sarılan UPDATE EXPLAIN edilir
+        int wrapped = sql.indexOf("FINAL TABLE (");
+        if (wrapped >= 0) {
+            sql = sql.substring(wrapped + "FINAL TABLE (".length(), sql.lastIndexOf(')'));
+        }
+        assertPlanUses("idx_loans_status_due_date_id", sql, today, 100);
+    }
+
+    @Test
+    void searchByUserAndStatusUsesUserLoanDateIndex() {
+        UUID userId = UUID.randomUUID();
+        LocalDate from = LocalDate.now().minusDays(30);
+        LoanSearchCriteria criteria = new LoanSearchCriteria(LoanStatus.ACTIVE, userId, null, from, null, null, null);
+        String sql = capture(() -> loanQueryRepository.search(criteria, null, 20, LoanSort.LOAN_DATE_DESC));
+        assertPlanUses("idx_loans_user_loan_date", sql, LoanStatus.ACTIVE.name(), userId, from, 21);
+    }
+
+    @Test
+    void searchByStatusOrderedByLoanDateUsesStatusLoanDateIndex() {
+        LocalDate from = LocalDate.now().minusDays(5);
+        LocalDate to = LocalDate.now();
+        LoanSearchCriteria criteria = new LoanSearchCriteria(LoanStatus.RETURNED, null, null, from, to, null, null);
+        String sql = capture(() -> loanQueryRepository.search(criteria, null, 20, LoanSort.LOAN_DATE_DESC));
+        assertPlanUses("idx_loans_status_loan_date", sql, LoanStatus.RETURNED.name(), from, to, 21);
+    }
+
+    // Çalıştırılan sorgunun SQL'ini döndürür; tek bir ifade gönderilmesi beklenir
+    private static String capture(Runnable query) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        assertEquals(1, SqlCapture.STATEMENTS.size(), () -> "Expected one statement: " + SqlCapture.STATEMENTS);
+        return SqlCapture.STATEMENTS.get(0);
+    }
+
+    private void assertPlanUses(String index, String sql, Object... parameters) {
+        assertEquals(parameters.length, sql.chars().filter(c -> c == '?').count(), () -> "Parameters of: " + sql);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+        assertTrue(plan.toLowerCase().contains(index), () -> "Expected " + index + " in plan: " + plan);
+    }
+
+    /**
+     * Hibernate'in JDBC'ye gönderdiği SQL'i kaydeder
+     */
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
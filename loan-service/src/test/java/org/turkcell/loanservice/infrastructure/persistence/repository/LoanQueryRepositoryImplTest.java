@@ -0,0 +1,130 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.turkcell.loanservice.application.dto.LoanPageResponse;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.query.LoanQueryRepository;
+import org.turkcell.loanservice.application.query.LoanSearchCriteria;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanCursor;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class LoanQueryRepositoryImplTest {
+
+    @Autowired
+    private LoanQueryRepository loanQueryRepository;
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void pagesAreReadWithoutLoadingEntities() {
+        LocalDate today = LocalDate.now();
+        List<Loan> loans = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            loans.add(new Loan(UUID.randomUUID(), UUID.randomUUID(), today, today.plusDays(14)));
+        }
+        loanRepository.saveAll(loans);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Tüm kayıtları 2'şerli sayfalarla gez, tekrar eden kayıt olmamalı
+        Set<UUID> seen = new HashSet<>();
+        LoanCursor cursor = null;
+        LoanPageResponse page;
+        do {
+            page = loanQueryRepository.findPage(cursor, 2, LoanSort.LOAN_DATE_DESC);
+            assertTrue(page.getItems().size() <= 2);
+            for (LoanResponse item : page.getItems()) {
+                assertNotNull(item.getStatus());
+                assertTrue(seen.add(item.getId()));
+            }
+            cursor = page.isHasNext() ? LoanCursor.decode(page.getNextCursor()) : null;
+        } while (cursor != null);
+
+        assertTrue(seen.containsAll(loans.stream().map(Loan::getId).toList()));
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void streamAppliesFiltersWithoutLoadingEntities() {
+        LocalDate day = LocalDate.of(2001, 2, 3);
+        Loan returned = new Loan(UUID.randomUUID(), UUID.randomUUID(), day, day.plusDays(14));
+        returned.returnLoan(day.plusDays(2));
+        loanRepository.saveAll(List.of(returned, new Loan(UUID.randomUUID(), UUID.randomUUID(), day, day.plusDays(14))));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<LoanResponse> rows = new ArrayList<>();
+        loanQueryRepository.streamAll(LoanStatus.RETURNED, day, day, rows::add);
+
+        assertEquals(1, rows.size());
+        assertEquals(returned.getId(), rows.get(0).getId());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void searchCombinesFiltersAndPagesByKeyset() {
+        UUID userId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(1999, 6, 1);
+        List<Loan> matching = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            matching.add(new Loan(UUID.randomUUID(), userId, day.plusDays(i), day.plusDays(i + 14)));
+        }
+        Loan returned = new Loan(UUID.randomUUID(), userId, day, day.plusDays(14));
+        returned.returnLoan(day.plusDays(1));
+        Loan outOfRange = new Loan(UUID.randomUUID(), userId, day.minusDays(10), day.plusDays(4));
+        Loan otherUser = new Loan(UUID.randomUUID(), UUID.randomUUID(), day, day.plusDays(14));
+        List<Loan> all = new ArrayList<>(matching);
+        all.addAll(List.of(returned, outOfRange, otherUser));
+        loanRepository.saveAll(all);
+
+        LoanSearchCriteria criteria = new LoanSearchCriteria(LoanStatus.ACTIVE, userId, null,
+                day, day.plusDays(30), null, null);
+
+        // En yeni ödünç tarihinden başlayarak 2'şerli sayfalar
+        LoanPageResponse first = loanQueryRepository.search(criteria, null, 2, LoanSort.LOAN_DATE_DESC);
+        assertEquals(List.of(matching.get(2).getId(), matching.get(1).getId()), ids(first));
+        assertTrue(first.isHasNext());
+
+        LoanPageResponse second = loanQueryRepository.search(criteria,
+                LoanCursor.decode(first.getNextCursor()), 2, LoanSort.LOAN_DATE_DESC);
+        assertEquals(List.of(matching.get(0).getId()), ids(second));
+        assertFalse(second.isHasNext());
+
+        // Son iade tarihi aralığı tek başına da uygulanır
+        LoanSearchCriteria byDueDate = new LoanSearchCriteria(null, userId, null,
+                null, null, day.plusDays(4), day.plusDays(4));
+        assertEquals(List.of(outOfRange.getId()),
+                ids(loanQueryRepository.search(byDueDate, null, 10, LoanSort.DUE_DATE_ASC)));
+    }
+
+    private static List<UUID> ids(LoanPageResponse page) {
+        return page.getItems().stream().map(LoanResponse::getId).toList();
+    }
+}
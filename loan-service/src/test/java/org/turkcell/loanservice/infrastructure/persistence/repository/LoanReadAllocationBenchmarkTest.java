@@ -0,0 +1,133 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.query.LoanQueryRepository;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.infrastructure.persistence.entity.LoanEntity;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Liste sayfası okurken satır başına ayrılan bellek:
+ * entity -> Loan -> LoanResponse kopyalama yolu ile doğrudan LoanResponse projeksiyonu karşılaştırılır
+ * Çalıştırmak için: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+class LoanReadAllocationBenchmarkTest {
+
+    private static final int SEED_ROWS = 1_000;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 1_000;
+
+    // Thread başına ayrılan byte sayısını okumak için (HotSpot)
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private JpaLoanRepository jpaLoanRepository;
+
+    @Autowired
+    private LoanQueryRepository loanQueryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = new ArrayList<>(SEED_ROWS);
+        for (int i = 0; i < SEED_ROWS; i++) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                    Date.valueOf(today.minusDays(i % 60)), Date.valueOf(today.plusDays(14 - i % 60))
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO loans (id, book_id, user_id, loan_date, due_date, status, version) VALUES (?, ?, ?, ?, ?, 'ACTIVE', 0)",
+                rows);
+    }
+
+    @Test
+    void projectionAllocatesLessPerRowThanEntityMapping() {
+        // JIT ısınsın
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            readThroughEntities();
+            readThroughProjection();
+        }
+
+        double entityBytes = bytesPerRow(this::readThroughEntities);
+        double projectionBytes = bytesPerRow(this::readThroughProjection);
+
+        System.out.printf("entity -> Loan -> LoanResponse: %.0f bytes/row%n", entityBytes);
+        System.out.printf("LoanResponse projection       : %.0f bytes/row%n", projectionBytes);
+        assertTrue(projectionBytes < entityBytes);
+    }
+
+    private double bytesPerRow(Runnable read) {
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            read.run();
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+        // Her iki yol da sonraki sayfayı anlamak için PAGE_SIZE + 1 satır okur
+        return (double) allocated / ((long) MEASURED_ROUNDS * (PAGE_SIZE + 1));
+    }
+
+    /**
+     * Eski okuma yolu (sayfa için limit + 1 satır): yönetilen entity'ler okunur, önce Loan'a sonra LoanResponse'a kopyalanır
+     */
+    private void readThroughEntities() {
+        LoanSort sort = LoanSort.LOAN_DATE_DESC;
+        List<LoanResponse> responses = transactionTemplate.execute(status -> {
+            List<LoanEntity> entities = jpaLoanRepository.findBy(LoanSpecifications.after(null, sort), query -> query
+                    .sortBy(LoanSpecifications.orderOf(sort))
+                    .limit(PAGE_SIZE + 1)
+                    .all());
+            List<LoanResponse> result = new ArrayList<>(entities.size());
+            for (LoanEntity entity : entities) {
+                Loan loan = new Loan();
+                loan.setId(entity.getId());
+                loan.setBookId(entity.getBookId());
+                loan.setUserId(entity.getUserId());
+                loan.setLoanDate(entity.getLoanDate());
+                loan.setDueDate(entity.getDueDate());
+                loan.setReturnDate(entity.getReturnDate());
+                loan.setStatus(entity.getStatus());
+                loan.setPenaltyAmount(entity.getPenaltyAmount());
+                loan.setVersion(entity.getVersion());
+                result.add(new LoanResponse(loan.getId(), loan.getBookId(), loan.getUserId(), loan.getLoanDate(),
+                        loan.getDueDate(), loan.getReturnDate(), loan.getStatus(), loan.getPenaltyAmount()));
+            }
+            return result;
+        });
+        assertEquals(PAGE_SIZE + 1, responses.size());
+    }
+
+    /**
+     * Yeni okuma yolu: satırlar doğrudan LoanResponse olarak okunur
+     */
+    private void readThroughProjection() {
+        assertEquals(PAGE_SIZE, loanQueryRepository.findPage(null, PAGE_SIZE, LoanSort.LOAN_DATE_DESC).getItems().size());
+    }
+}
@@ -0,0 +1,196 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.turkcell.loanservice.domain.model.Loan;
+import org.turkcell.loanservice.domain.model.LoanPage;
+import org.turkcell.loanservice.domain.model.LoanSort;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+import org.turkcell.loanservice.domain.model.ReturnedLoan;
+import org.turkcell.loanservice.domain.repository.LoanRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class LoanRepositoryImplTest {
+
+    @Autowired
+    private LoanRepository loanRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void savingNewLoanIssuesSingleInsertWithoutSelect() {
+        loanRepository.save(newLoan());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void savingLoadedLoanUpdatesExistingRow() {
+        Loan saved = loanRepository.save(newLoan());
+        Loan loaded = loanRepository.findById(saved.getId()).orElseThrow();
+        loaded.returnLoan(LocalDate.now());
+
+        statistics.clear();
+        Loan updated = loanRepository.save(loaded);
+
+        assertEquals(0, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(saved.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void markReturnedTransitionsOnlyOnce() {
+        Loan saved = loanRepository.save(newLoan());
+        LocalDate returnDate = LocalDate.now().plusDays(3);
+
+        ReturnedLoan result = loanRepository.markReturned(saved.getId(), returnDate).orElseThrow();
+        Loan returned = result.getLoan();
+        assertEquals(LoanStatus.ACTIVE, result.getPreviousStatus());
+        assertEquals(LoanStatus.RETURNED, returned.getStatus());
+        assertEquals(saved.getUserId(), returned.getUserId());
+        assertEquals(returnDate, returned.getReturnDate());
+        assertEquals(saved.getVersion() + 1, returned.getVersion());
+
+        // İkinci iade satırı güncellemez
+        assertTrue(loanRepository.markReturned(saved.getId(), returnDate).isEmpty());
+        assertTrue(loanRepository.markReturned(UUID.randomUUID(), returnDate).isEmpty());
+        assertEquals(LoanStatus.RETURNED, loanRepository.findById(saved.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void markReturnedReportsOverdueAsPreviousStatus() {
+        Loan loan = newLoan();
+        loan.setStatus(LoanStatus.OVERDUE);
+        Loan saved = loanRepository.save(loan);
+
+        ReturnedLoan result = loanRepository.markReturned(saved.getId(), LocalDate.now()).orElseThrow();
+        assertEquals(LoanStatus.OVERDUE, result.getPreviousStatus());
+        assertEquals(LoanStatus.RETURNED, result.getLoan().getStatus());
+    }
+
+    @Test
+    void savingStaleLoanFailsWithOptimisticLock() {
+        Loan saved = loanRepository.save(newLoan());
+        Loan first = loanRepository.findById(saved.getId()).orElseThrow();
+        Loan second = loanRepository.findById(saved.getId()).orElseThrow();
+
+        first.setDueDate(first.getDueDate().plusDays(7));
+        loanRepository.save(first);
+
+        second.setDueDate(second.getDueDate().plusDays(1));
+        assertThrows(OptimisticLockingFailureException.class, () -> loanRepository.save(second));
+    }
+
+    @Test
+    void markOverdueSweepsOnlyPastDueActiveLoansInBatches() {
+        // Diğer testlerin kayıtlarına değmemek için geçmişte bir "bugün"
+        LocalDate today = LocalDate.of(1975, 1, 1);
+        LocalDate day = LocalDate.of(1970, 1, 1);
+        List<Loan> pastDue = List.of(
+                new Loan(UUID.randomUUID(), UUID.randomUUID(), day, day.plusDays(14)),
+                new Loan(UUID.randomUUID(), UUID.randomUUID(), day, day.plusDays(15)),
+                new Loan(UUID.randomUUID(), UUID.randomUUID(), day, day.plusDays(16)));
+        Loan notDue = new Loan(UUID.randomUUID(), UUID.randomUUID(), day, today.plusDays(1));
+        Loan returned = new Loan(UUID.randomUUID(), UUID.randomUUID(), day, day.plusDays(14));
+        returned.returnLoan(day.plusDays(20));
+        List<Loan> saved = new ArrayList<>(loanRepository.saveAll(pastDue));
+        loanRepository.saveAll(List.of(notDue, returned));
+
+        List<Loan> first = loanRepository.markOverdue(today, 2);
+        List<Loan> second = loanRepository.markOverdue(today, 2);
+        assertEquals(2, first.size());
+        assertEquals(1, second.size());
+        assertTrue(loanRepository.markOverdue(today, 2).isEmpty());
+
+        Set<UUID> swept = new HashSet<>();
+        first.forEach(loan -> swept.add(loan.getId()));
+        second.forEach(loan -> swept.add(loan.getId()));
+        assertEquals(saved.stream().map(Loan::getId).collect(Collectors.toSet()), swept);
+        for (Loan loan : saved) {
+            Loan stored = loanRepository.findById(loan.getId()).orElseThrow();
+            assertEquals(LoanStatus.OVERDUE, stored.getStatus());
+            assertEquals(loan.getVersion() + 1, stored.getVersion());
+        }
+        first.forEach(loan -> assertEquals(LoanStatus.OVERDUE, loan.getStatus()));
+
+        assertEquals(LoanStatus.ACTIVE, loanRepository.findById(notDue.getId()).orElseThrow().getStatus());
+        assertEquals(LoanStatus.RETURNED, loanRepository.findById(returned.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void archiveMovesOldReturnedLoansAndHistoryReadsCoverBothTables() {
+        UUID userId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(1985, 3, 1);
+        Loan returned = new Loan(UUID.randomUUID(), userId, day, day.plusDays(14));
+        returned.returnLoan(day.plusDays(5));
+        Loan returnedEarlier = new Loan(UUID.randomUUID(), userId, day.minusMonths(1), day.minusMonths(1).plusDays(14));
+        returnedEarlier.returnLoan(day.minusMonths(1).plusDays(3));
+        Loan active = new Loan(UUID.randomUUID(), userId, day.plusDays(1), day.plusDays(15));
+        loanRepository.saveAll(List.of(returned, returnedEarlier, active));
+
+        // Tek kayıtlık gruplarla, taşınacak kayıt kalmayana kadar
+        int archived = 0;
+        int moved;
+        do {
+            moved = loanRepository.archiveReturned(LocalDate.of(1986, 1, 1), 1);
+            archived += moved;
+        } while (moved > 0);
+        assertEquals(2, archived);
+
+        assertTrue(loanRepository.findById(returned.getId()).isEmpty());
+        assertEquals(LoanStatus.RETURNED,
+                loanRepository.findByIdIncludingHistory(returned.getId()).orElseThrow().getStatus());
+        assertTrue(loanRepository.findById(active.getId()).isPresent());
+
+        // Sıcak sayfada sadece aktif kayıt kalır
+        assertEquals(List.of(active.getId()),
+                ids(loanRepository.findPageByUserId(userId, null, 10, LoanSort.LOAN_DATE_DESC)));
+
+        // Geçmiş dahil sayfalar iki tablodan sıralı birleştirilir
+        LoanPage first = loanRepository.findPageByUserIdIncludingHistory(userId, null, 2, LoanSort.LOAN_DATE_DESC);
+        assertEquals(List.of(active.getId(), returned.getId()), ids(first));
+        LoanPage second = loanRepository.findPageByUserIdIncludingHistory(userId, first.getNextCursor(), 2,
+                LoanSort.LOAN_DATE_DESC);
+        assertEquals(List.of(returnedEarlier.getId()), ids(second));
+        assertFalse(second.hasNext());
+    }
+
+    private static List<UUID> ids(LoanPage page) {
+        return page.getItems().stream().map(Loan::getId).toList();
+    }
+
+    private Loan newLoan() {
+        LocalDate today = LocalDate.now();
+        return new Loan(UUID.randomUUID(), UUID.randomUUID(), today, today.plusDays(14));
+    }
+}
@@ -0,0 +1,36 @@
+package org.turkcell.loanservice.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.turkcell.loanservice.application.statistics.LoanStatisticsStore;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class LoanStatisticsStoreImplTest {
+
+    @Autowired
+    private LoanStatisticsStore store;
+
+    @Test
+    void deltasAreAddedToExistingCounters() {
+        UUID bookId = UUID.randomUUID();
+        LocalDate day = LocalDate.of(1990, 5, 17);
+        long overdue = store.overdueLoans();
+
+        // İlk ekleme satırları oluşturur, ikincisi üzerine ekler
+        store.add(Map.of(bookId, 2L), Map.of(day, 2L), 1);
+        store.add(Map.of(bookId, 3L), Map.of(day, -1L, day.plusDays(1), 4L), -1);
+
+        assertEquals(5, store.totalLoansOfBook(bookId));
+        assertEquals(0, store.totalLoansOfBook(UUID.randomUUID()));
+        assertEquals(Map.of(day, 1L, day.plusDays(1), 4L), store.dailyCheckouts(day, day.plusDays(1)));
+        assertEquals(Map.of(day, 1L), store.dailyCheckouts(day, day));
+        assertEquals(overdue, store.overdueLoans());
+    }
+}
@@ -0,0 +1,60 @@
+package org.turkcell.loanservice.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Yük testi ayarları, -Dloadtest.* sistem özelliklerinden okunur
+ *
+ * @param database    "h2" (varsayılan) veya gömülü PostgreSQL için "postgres"
+ * @param rate        Saniyede gönderilecek hedef istek sayısı (açık model, yanıt beklenmez)
+ * @param warmupSeconds Ölçüm öncesi ısınma süresi
+ * @param durationSeconds Ölçüm süresi
+ * @param users       Trafikte kullanılan farklı kullanıcı sayısı
+ * @param seedLoans   Test başlamadan önce oluşturulan ödünç sayısı
+ * @param randomSeed  İşlem sırasını tekrar üretilebilir kılan tohum
+ * @param mix         İşlem tipi -> ağırlık
+ * @param outputDir   Sonuç dosyasının yazılacağı klasör
+ */
+record LoadTestSettings(String database,
+                        int rate,
+                        int warmupSeconds,
+                        int durationSeconds,
+                        int users,
+                        int seedLoans,
+                        long randomSeed,
+                        Map<Operation, Integer> mix,
+                        String outputDir) {
+
+    /**
+     * Ölçülen işlem tipleri
+     */
+    enum Operation {
+        CREATE, RETURN, GET, LIST_BY_USER
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.db", "h2"),
+                Integer.getInteger("loadtest.rate", 200),
+                Integer.getInteger("loadtest.warmup-seconds", 10),
+                Integer.getInteger("loadtest.duration-seconds", 60),
+                Integer.getInteger("loadtest.users", 1_000),
+                Integer.getInteger("loadtest.seed-loans", 5_000),
+                Long.getLong("loadtest.random-seed", 42L),
+                parseMix(System.getProperty("loadtest.mix", "create=25,return=15,get=35,list_by_user=25")),
+                System.getProperty("loadtest.output-dir", "target/loadtest"));
+    }
+
+    /**
+     * "create=25,return=15,..." biçimindeki karışımı okur
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
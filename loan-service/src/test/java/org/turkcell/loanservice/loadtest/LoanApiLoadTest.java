@@ -0,0 +1,280 @@
+package org.turkcell.loanservice.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.turkcell.loanservice.LoanServiceApplication;
+import org.turkcell.loanservice.loadtest.LoadTestSettings.Operation;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LoanController için tekrar üretilebilir yük testi
+ *
+ * Uygulama Eureka ve config-server olmadan, H2 veya gömülü PostgreSQL ile ayağa kaldırılır.
+ * İstekler sabit bir hızda planlanır (açık model) ve create/return/get/list-by-user karışımı uygulanır.
+ * Her işlem tipi için p50/p99/p999 gecikmeleri ve throughput JSON olarak loadtest.output-dir altına yazılır.
+ *
+ * Çalıştırmak için:
+ *   mvn test -Ploadtest
+ *   mvn test -Ploadtest -Dloadtest.db=postgres -Dloadtest.rate=500 -Dloadtest.duration-seconds=120
+ */
+@Tag("loadtest")
+class LoanApiLoadTest {
+    private static final String BASE_PATH = "/api/v1/loans";
+
+    // Toplu oluşturma uç noktasının tek istekte kabul ettiği en fazla kayıt
+    private static final int SEED_CHUNK = 500;
+
+    // GET isteklerinde rastgele seçilecek son oluşturulan kayıtlar
+    private static final int KNOWN_IDS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    // İade edilmemiş ödünçler (RETURN işlemi buradan alır)
+    private final ConcurrentLinkedQueue<UUID> activeLoans = new ConcurrentLinkedQueue<>();
+
+    // Son oluşturulan ödünçler (GET işlemi buradan seçer)
+    private final AtomicReferenceArray<UUID> knownIds = new AtomicReferenceArray<>(KNOWN_IDS);
+
+    private List<UUID> users;
+    private String baseUrl;
+
+    @Test
+    void loanApiUnderTargetRate() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        users = new ArrayList<>(settings.users());
+        Random random = new Random(settings.randomSeed());
+        for (int i = 0; i < settings.users(); i++) {
+            users.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        EmbeddedPostgres postgres = "postgres".equals(settings.database()) ? EmbeddedPostgres.start() : null;
+        try (ConfigurableApplicationContext context = start(postgres)) {
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            seed(settings.seedLoans(), random);
+            run(settings, random, settings.warmupSeconds(), null);
+
+            Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                stats.put(operation, new OperationStats());
+            }
+            run(settings, random, settings.durationSeconds(), stats);
+
+            Path report = writeReport(settings, stats);
+            System.out.println("Load test report: " + report.toAbsolutePath());
+            assertTrue(stats.values().stream().mapToLong(OperationStats::count).sum() > 0);
+        } finally {
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    /**
+     * Uygulamayı rastgele bir portta başlatır; test application.yml Eureka ve config-server'ı kapatır
+     */
+    private ConfigurableApplicationContext start(EmbeddedPostgres postgres) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.jpa.properties.hibernate.generate_statistics=false"));
+        if (postgres != null) {
+            properties.add("spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"));
+            properties.add("spring.datasource.username=postgres");
+            properties.add("spring.datasource.password=postgres");
+        }
+        return new SpringApplicationBuilder(LoanServiceApplication.class)
+                .properties(properties.toArray(new String[0]))
+                .run();
+    }
+
+    /**
+     * Başlangıç verisini toplu oluşturma uç noktasıyla yükler
+     */
+    private void seed(int count, Random random) throws IOException, InterruptedException {
+        for (int created = 0; created < count; created += SEED_CHUNK) {
+            List<Map<String, Object>> chunk = new ArrayList<>();
+            for (int i = 0; i < Math.min(SEED_CHUNK, count - created); i++) {
+                chunk.add(newLoanBody(random));
+            }
+            HttpResponse<String> response = http.send(post(BASE_PATH + "/bulk", chunk),
+                    HttpResponse.BodyHandlers.ofString());
+            for (JsonNode result : objectMapper.readTree(response.body()).path("results")) {
+                if (result.path("created").asBoolean()) {
+                    remember(UUID.fromString(result.path("loan").path("id").asText()));
+                }
+            }
+        }
+    }
+
+    /**
+     * İstekleri saniyede settings.rate() kadar, yanıtları beklemeden planlar
+     * stats null ise (ısınma) sonuçlar kaydedilmez
+     */
+    private void run(LoadTestSettings settings, Random random, int seconds, Map<Operation, OperationStats> stats)
+            throws InterruptedException {
+        List<Operation> wheel = new ArrayList<>();
+        settings.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(operation);
+            }
+        });
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long total = (long) settings.rate() * seconds;
+        long start = System.nanoTime();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * interval;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                // İşlem ve parametreleri planlayıcı thread'inde seçilir, sıra tohumla tekrar üretilebilir
+                Operation operation = wheel.get(random.nextInt(wheel.size()));
+                Map<String, Object> body = operation == Operation.CREATE ? newLoanBody(random) : null;
+                UUID userId = users.get(random.nextInt(users.size()));
+                int knownIndex = random.nextInt(KNOWN_IDS);
+
+                workers.execute(() -> {
+                    boolean success = execute(operation, body, userId, knownIndex);
+                    if (stats != null) {
+                        stats.get(operation).record(System.nanoTime() - intended, success);
+                    }
+                });
+            }
+        }
+    }
+
+    private boolean execute(Operation operation, Map<String, Object> body, UUID userId, int knownIndex) {
+        try {
+            return switch (operation) {
+                case CREATE -> {
+                    HttpResponse<String> response = http.send(post(BASE_PATH, body), HttpResponse.BodyHandlers.ofString());
+                    if (response.statusCode() == 201) {
+                        remember(UUID.fromString(objectMapper.readTree(response.body()).path("id").asText()));
+                        yield true;
+                    }
+                    yield false;
+                }
+                case RETURN -> {
+                    UUID loanId = activeLoans.poll();
+                    if (loanId == null) {
+                        yield false;
+                    }
+                    yield send(post(BASE_PATH + "/" + loanId + "/return", null)) == 200;
+                }
+                case GET -> {
+                    UUID loanId = knownIds.get(knownIndex);
+                    if (loanId == null) {
+                        loanId = activeLoans.peek();
+                    }
+                    yield loanId != null && send(get(BASE_PATH + "/" + loanId)) == 200;
+                }
+                case LIST_BY_USER -> send(get(BASE_PATH + "/user/" + userId + "?size=20")) == 200;
+            };
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Map<String, Object> newLoanBody(Random random) {
+        LocalDate today = LocalDate.now();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("bookId", new UUID(random.nextLong(), random.nextLong()).toString());
+        body.put("userId", users.get(random.nextInt(users.size())).toString());
+        body.put("dueDate", today.plusDays(14).toString());
+        return body;
+    }
+
+    private void remember(UUID loanId) {
+        activeLoans.add(loanId);
+        knownIds.set(Math.floorMod(loanId.hashCode(), KNOWN_IDS), loanId);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) throws IOException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(publisher)
+                .build();
+    }
+
+    /**
+     * Sonuçları karşılaştırılabilir JSON dosyasına yazar
+     */
+    private Path writeReport(LoadTestSettings settings, Map<Operation, OperationStats> stats) throws IOException {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        long totalCount = 0;
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            operations.put(entry.getKey().name(), entry.getValue().summary(settings.durationSeconds()));
+            totalCount += entry.getValue().count();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("settings", settings);
+        report.put("achievedThroughputPerSecond", totalCount / (double) settings.durationSeconds());
+        report.put("operations", operations);
+
+        Path directory = Path.of(settings.outputDir());
+        Files.createDirectories(directory);
+        String name = "loan-api-" + settings.database() + "-"
+                + DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").format(LocalDateTime.now()) + ".json";
+        Path file = directory.resolve(name);
+        objectMapper.writeValue(file.toFile(), report);
+        return file;
+    }
+}
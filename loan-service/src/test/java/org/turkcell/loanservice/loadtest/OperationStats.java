@@ -0,0 +1,63 @@
+package org.turkcell.loanservice.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bir işlem tipinin gecikme histogramı ve hata sayısı
+ * Gecikme, isteğin planlandığı andan yanıtın geldiği ana kadar ölçülür;
+ * böylece sunucu yavaşladığında biriken bekleme de sonuca yansır (coordinated omission düzeltmesi)
+ */
+class OperationStats {
+    // 1 µs ile 1 dakika arası, 3 anlamlı basamak
+    private final Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, boolean success) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), histogram.getHighestTrackableValue()));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    /**
+     * Rapor için özet; süreler milisaniye cinsindendir
+     */
+    Map<String, Object> summary(int durationSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("errors", errors.sum());
+        summary.put("throughputPerSecond", histogram.getTotalCount() / (double) durationSeconds);
+        summary.put("meanMs", histogram.getMean() / 1000.0);
+        summary.put("p50Ms", percentileMillis(50));
+        summary.put("p90Ms", percentileMillis(90));
+        summary.put("p99Ms", percentileMillis(99));
+        summary.put("p999Ms", percentileMillis(99.9));
+        summary.put("maxMs", histogram.getMaxValue() / 1000.0);
+        // Çalıştırmalar arasında birleştirip yeniden analiz edebilmek için sıkıştırılmış histogram
+        summary.put("histogram", encode());
+        return summary;
+    }
+
+    private double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+}
@@ -0,0 +1,134 @@
+package org.turkcell.loanservice.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.turkcell.loanservice.application.dto.LoanResponse;
+import org.turkcell.loanservice.application.service.LoanService;
+import org.turkcell.loanservice.domain.model.LoanStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class LoanControllerTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final List<LoanResponse> loans = List.of(loan(), loan());
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        LoanService loanService = mock(LoanService.class);
+        doAnswer(invocation -> {
+            Consumer<LoanResponse> consumer = invocation.getArgument(3);
+            loans.forEach(consumer);
+            return null;
+        }).when(loanService).exportLoans(eq(LoanStatus.ACTIVE), isNull(), isNull(), any());
+        mockMvc = MockMvcBuilders.standaloneSetup(new LoanController(loanService, objectMapper)).build();
+    }
+
+    @Test
+    void exportWritesPlainNdjsonWithoutAcceptEncoding() throws Exception {
+        MvcResult result = export(null);
+
+        assertNull(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, result.getResponse().getHeader(HttpHeaders.VARY));
+        assertEquals(expectedNdjson(), result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportCompressesWhenGzipIsAccepted() throws Exception {
+        MvcResult result = export("deflate, gzip;q=0.8");
+
+        assertEquals("gzip", result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, result.getResponse().getHeader(HttpHeaders.VARY));
+        assertEquals(expectedNdjson(), gunzip(result.getResponse().getContentAsByteArray()));
+    }
+
+    @Test
+    void exportDoesNotCompressWhenGzipIsRefused() throws Exception {
+        MvcResult result = export("gzip;q=0, deflate");
+
+        assertNull(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, result.getResponse().getHeader(HttpHeaders.VARY));
+        assertEquals(expectedNdjson(), result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void acceptsGzipHonoursQualityValues() {
+        assertTrue(LoanController.acceptsGzip("gzip"));
+        assertTrue(LoanController.acceptsGzip("br;q=1.0, GZIP ; q=0.5"));
+        assertTrue(LoanController.acceptsGzip("*"));
+        assertFalse(LoanController.acceptsGzip(null));
+        assertFalse(LoanController.acceptsGzip("identity"));
+        assertFalse(LoanController.acceptsGzip("gzip;q=0"));
+        assertFalse(LoanController.acceptsGzip("gzip;q=0.000"));
+        assertFalse(LoanController.acceptsGzip("gzip;q=0, *"));
+        assertFalse(LoanController.acceptsGzip("*;q=0"));
+    }
+
+    // StreamingResponseBody asenkron yazılır; gövde asyncDispatch sonrasında okunur
+    private MvcResult export(String acceptEncoding) throws Exception {
+        var builder = get("/api/v1/loans/export").param("status", LoanStatus.ACTIVE.name());
+        if (acceptEncoding != null) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MvcResult started = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+
+    private String expectedNdjson() throws IOException {
+        StringBuilder expected = new StringBuilder();
+        for (LoanResponse loan : loans) {
+            if (!expected.isEmpty()) {
+                expected.append('\n');
+            }
+            expected.append(objectMapper.writeValueAsString(loan));
+        }
+        return expected.toString();
+    }
+
+    private static String gunzip(byte[] content) throws IOException {
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static LoanResponse loan() {
+        LocalDate today = LocalDate.of(2024, 3, 1);
+        return new LoanResponse(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                today, today.plusDays(14), null, LoanStatus.ACTIVE, BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,147 @@
+package org.turkcell.loanservice.presentation.controller;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.turkcell.loanservice.LoanServiceApplication;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Yavaş veritabanı altında platform thread'leri ile sanal thread'lerin karşılaştırması
+ * Uygulama iki kez ayağa kaldırılır; her bağlantı alma işlemine yapay gecikme eklenir ve
+ * GET /api/v1/loans uç noktasına sabit sayıda eşzamanlı istemciyle yük verilir
+ * Çalıştırmak için: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class LoanThreadModeLoadTest {
+
+    private static final int CLIENTS = 400;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASURE = Duration.ofSeconds(10);
+
+    // Her bağlantıda beklenen yapay veritabanı gecikmesi
+    private static final long DB_LATENCY_MS = 20;
+
+    // Platform modunda Tomcat thread sayısı, veritabanı sınırının altında tutulur
+    private static final int TOMCAT_THREADS = 50;
+    private static final int DB_PERMITS = 100;
+
+    @Test
+    void virtualThreadsVersusPlatformThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        System.out.printf("platform threads: %.0f req/s, p99 %d ms, errors %d%n",
+                platform.throughput(), platform.p99Millis(), platform.errors());
+        System.out.printf("virtual threads : %.0f req/s, p99 %d ms, errors %d%n",
+                virtual.throughput(), virtual.p99Millis(), virtual.errors());
+        assertTrue(platform.throughput() > 0 && virtual.throughput() > 0);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoanServiceApplication.class)
+                // Elle eklenen post processor kayıtlı olanlardan önce çalışır, gecikme izin tutulurken yaşanır
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new SlowDataSourcePostProcessor()))
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "spring.datasource.hikari.maximum-pool-size=" + DB_PERMITS,
+                        "loan.db-limiter.enabled=true",
+                        "loan.db-limiter.max-concurrent=" + DB_PERMITS,
+                        "loan.db-limiter.acquire-timeout=5s")
+                .run()) {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/loans?size=20");
+
+            load(uri, WARMUP);
+            return load(uri, MEASURE);
+        }
+    }
+
+    /**
+     * CLIENTS kadar istemci, süre dolana kadar art arda istek gönderir
+     */
+    private Result load(URI uri, Duration duration) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.execute(() -> {
+                    List<Long> local = new ArrayList<>();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        local.add(System.nanoTime() - start);
+                    }
+                    latencies.addAll(local);
+                });
+            }
+            clients.shutdown();
+            clients.awaitTermination(duration.toSeconds() + 30, TimeUnit.SECONDS);
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        return new Result(sorted.size() / (double) duration.toSeconds(), p99 / 1_000_000, errors.get());
+    }
+
+    private record Result(double throughput, long p99Millis, int errors) {
+    }
+
+    /**
+     * Her bağlantı alma işlemine gecikme ekleyerek yavaş veritabanını taklit eder
+     */
+    static class SlowDataSourcePostProcessor implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    try {
+                        Thread.sleep(DB_LATENCY_MS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return super.getConnection();
+                }
+            };
+        }
+    }
+}